@@ -0,0 +1,68 @@
+package br.com.akdemia.api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.mapper.AlunoMapper;
+
+/**
+ * Benchmark da serialização JSON de listas de {@link AlunoDTO}.
+ *
+ * Utiliza um ObjectMapper construído como o do Spring Boot (módulos de data/hora
+ * registrados), serializando para bytes como faz o conversor HTTP.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlunoJsonBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    private int tamanho;
+
+    private ObjectWriter writer;
+    private List<AlunoDTO> completos;
+    private List<AlunoDTO> simples;
+
+    @Setup
+    public void preparar() {
+        AlunoMapper alunoMapper = new AlunoMapper();
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(new TypeReference<List<AlunoDTO>>() { });
+        completos = alunoMapper.toDTOList(AlunosFixture.alunos(tamanho));
+        simples = alunoMapper.toDTOSimpleList(AlunosFixture.alunos(tamanho));
+    }
+
+    @Benchmark
+    public byte[] serializarCompletos() throws JsonProcessingException {
+        return writer.writeValueAsBytes(completos);
+    }
+
+    @Benchmark
+    public byte[] serializarSimples() throws JsonProcessingException {
+        return writer.writeValueAsBytes(simples);
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.akdemia.api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.mapper.AlunoMapper;
+
+/**
+ * Benchmark das conversões de {@link AlunoMapper} para listas de tamanhos variados.
+ *
+ * ## Cenários
+ *
+ * - **toDTO:** DTO completo, percorrendo as coleções de relacionamentos
+ * - **toDTOSimple:** DTO sem relacionamentos, aluno a aluno
+ * - **toDTOSimpleList:** Conversão da lista inteira via stream
+ *
+ * As entidades ficam em memória (sem banco), isolando o custo do mapeamento.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlunoMapperBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    private int tamanho;
+
+    private final AlunoMapper alunoMapper = new AlunoMapper();
+    private List<Aluno> alunos;
+
+    @Setup
+    public void preparar() {
+        alunos = AlunosFixture.alunos(tamanho);
+    }
+
+    @Benchmark
+    public void toDTO(Blackhole blackhole) {
+        for (Aluno aluno : alunos) {
+            blackhole.consume(alunoMapper.toDTO(aluno));
+        }
+    }
+
+    @Benchmark
+    public void toDTOSimple(Blackhole blackhole) {
+        for (Aluno aluno : alunos) {
+            blackhole.consume(alunoMapper.toDTOSimple(aluno));
+        }
+    }
+
+    @Benchmark
+    public List<AlunoDTO> toDTOSimpleList() {
+        return alunoMapper.toDTOSimpleList(alunos);
+    }
+}
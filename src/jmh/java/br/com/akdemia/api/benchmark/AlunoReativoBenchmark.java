@@ -0,0 +1,149 @@
+package br.com.akdemia.api.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.akdemia.api.DioAkdemiaApiApplication;
+import br.com.akdemia.api.search.IndiceNomeAlunos;
+
+/**
+ * Benchmark HTTP da API de leitura reativa (`/reativo/alunos`, R2DBC) contra os
+ * endpoints bloqueantes equivalentes de `/alunos` (MVC + JPA).
+ *
+ * ## Cenários
+ *
+ * - **listarTodos:** Todos os alunos ativos (JSON bloqueante x NDJSON em streaming)
+ * - **buscarPorId:** Aluno aleatório por ID, com os IDs dos relacionamentos
+ * - **buscarPorNome:** Busca por trecho do nome
+ *
+ * O servidor sobe em porta aleatória, com o mesmo banco acessado por JDBC e R2DBC, e
+ * as requisições partem de várias threads para medir o comportamento sob concorrência.
+ * Tempos incluem a leitura completa do corpo da resposta.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(16)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AlunoReativoBenchmark {
+
+    /**
+     * Incremento de seq_alunos: os IDs carregados são 1, 51, 101...
+     */
+    private static final int PASSO_ID = 50;
+
+    @Param({ "1000", "10000" })
+    private int alunos;
+
+    private ConfigurableApplicationContext contexto;
+    private HttpClient cliente;
+    private String base;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        String banco = "benchmarkreativo" + alunos;
+        contexto = new SpringApplication(DioAkdemiaApiApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + banco + ";DB_CLOSE_DELAY=-1",
+                "--akdemia.reativo.url=r2dbc:h2:mem:///" + banco,
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.br.com.akdemia.api=WARN",
+                "--logging.level.org.springframework.boot.autoconfigure=WARN",
+                "--logging.level.org.springframework.jdbc=WARN",
+                "--logging.level.org.springframework.orm.jpa=WARN",
+                "--logging.level.org.springframework.transaction=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.hibernate.engine.transaction.internal.TransactionImpl=WARN");
+
+        AlunosFixture.popular(contexto.getBean(JdbcTemplate.class), alunos);
+        contexto.getBean(IndiceNomeAlunos.class).carregar();
+
+        int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        base = "http://localhost:" + porta + "/api/v1";
+        cliente = HttpClient.newHttpClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public byte[] listarTodosBloqueante() throws IOException, InterruptedException {
+        return get("/alunos/todos", "application/json");
+    }
+
+    @Benchmark
+    public byte[] listarTodosReativo() throws IOException, InterruptedException {
+        return get("/reativo/alunos", "application/x-ndjson");
+    }
+
+    @Benchmark
+    public byte[] buscarPorIdBloqueante() throws IOException, InterruptedException {
+        return get("/alunos/" + idAleatorio(), "application/json");
+    }
+
+    @Benchmark
+    public byte[] buscarPorIdReativo() throws IOException, InterruptedException {
+        return get("/reativo/alunos/" + idAleatorio(), "application/json");
+    }
+
+    @Benchmark
+    public byte[] buscarPorNomeBloqueante() throws IOException, InterruptedException {
+        return get("/alunos/buscar?nome=Benchmark%2042", "application/json");
+    }
+
+    @Benchmark
+    public byte[] buscarPorNomeReativo() throws IOException, InterruptedException {
+        return get("/reativo/alunos/buscar?nome=Benchmark%2042&size=100", "application/json");
+    }
+
+    private long idAleatorio() {
+        return 1 + (long) ThreadLocalRandom.current().nextInt(alunos) * PASSO_ID;
+    }
+
+    private byte[] get(String caminho, String aceita) throws IOException, InterruptedException {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(base + caminho))
+                .header("Accept", aceita)
+                .build();
+        HttpResponse<byte[]> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("GET " + caminho + " retornou " + resposta.statusCode());
+        }
+        return resposta.body();
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.akdemia.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.akdemia.api.DioAkdemiaApiApplication;
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.search.IndiceNomeAlunos;
+import br.com.akdemia.api.service.AlunoService;
+
+/**
+ * Benchmark de {@link AlunoService} contra um H2 em memória populado com N alunos.
+ *
+ * ## Cenários
+ *
+ * - **criar:** Criação de aluno (geração de matrícula, validação de unicidade e INSERT)
+ * - **buscarComFiltros:** Primeira página da busca por nome e tipo
+ *
+ * Cada valor de `alunos` sobe um contexto Spring próprio (sem servidor web), com
+ * log de SQL desligado para não distorcer as medições. A carga inicial é feita por
+ * JDBC batch, fora da medição, e seguida de uma criação de verificação que interrompe
+ * o trial se o cenário não puder ser executado.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AlunoServiceBenchmark {
+
+    /**
+     * Numera os bancos em memória: com `-f 0` os trials rodam na mesma JVM, onde o banco
+     * do trial anterior (DB_CLOSE_DELAY=-1) ainda existe com a carga feita.
+     */
+    private static final AtomicInteger TRIALS = new AtomicInteger();
+
+    @Param({ "10000", "100000", "1000000" })
+    private int alunos;
+
+    private ConfigurableApplicationContext contexto;
+    private AlunoService alunoService;
+    private AtomicLong proximoIndice;
+    private Pageable primeiraPagina;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        SpringApplication aplicacao = new SpringApplication(DioAkdemiaApiApplication.class);
+        aplicacao.setWebApplicationType(WebApplicationType.NONE);
+        contexto = aplicacao.run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark" + alunos + "_" + TRIALS.incrementAndGet()
+                        + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.br.com.akdemia.api=WARN",
+                "--logging.level.org.springframework.boot.autoconfigure=WARN",
+                "--logging.level.org.springframework.jdbc=WARN",
+                "--logging.level.org.springframework.orm.jpa=WARN",
+                "--logging.level.org.springframework.transaction=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.hibernate.engine.transaction.internal.TransactionImpl=WARN");
+
+        try {
+            AlunosFixture.popular(contexto.getBean(JdbcTemplate.class), alunos);
+            // A carga foi feita por fora da aplicação - o índice de nomes precisa ser refeito
+            contexto.getBean(IndiceNomeAlunos.class).carregar();
+
+            alunoService = contexto.getBean(AlunoService.class);
+            proximoIndice = new AtomicLong(alunos);
+            primeiraPagina = PageRequest.of(0, 20);
+
+            // Verificação do cenário: uma carga inconsistente deve falhar aqui, e não gerar resultado vazio
+            criar();
+        } catch (RuntimeException e) {
+            // Sem @TearDown após falha no @Setup: o contexto (e seus threads) é fechado aqui
+            contexto.close();
+            throw e;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public AlunoDTO criar() {
+        long indice = proximoIndice.incrementAndGet();
+
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setNome(AlunosFixture.nome(indice));
+        aluno.setEmail(AlunosFixture.email(indice));
+        aluno.setCpf(AlunosFixture.cpf(indice));
+        aluno.setTelefone(AlunosFixture.telefone(indice));
+        aluno.setTipo(TipoUsuario.ALUNO);
+        return alunoService.criar(aluno);
+    }
+
+    @Benchmark
+    public Page<AlunoDTO> buscarComFiltros() {
+        return alunoService.buscarComFiltros("Benchmark 42", TipoUsuario.ALUNO, primeiraPagina);
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.akdemia.api.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.entity.Avaliacao;
+import br.com.akdemia.api.entity.Matricula;
+import br.com.akdemia.api.entity.Treino;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.search.NormalizadorNome;
+import br.com.akdemia.api.service.GeradorNumeroMatricula;
+
+/**
+ * Dados sintéticos de alunos compartilhados entre os benchmarks.
+ *
+ * Os valores são derivados do índice, de forma que email, CPF e matrícula
+ * sejam únicos e reprodutíveis entre execuções.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+final class AlunosFixture {
+
+    /**
+     * Quantidade de matrículas, treinos e avaliações de cada aluno em memória.
+     */
+    static final int RELACIONAMENTOS_POR_ALUNO = 3;
+
+    private static final int TAMANHO_LOTE_CARGA = 10_000;
+
+    private static final String INSERT_ALUNO = """
+            INSERT INTO tb_alunos (id, email, cpf, nome, nome_busca, telefone, tipo, numero_matricula, ativo, data_cadastro)
+            VALUES (NEXT VALUE FOR seq_alunos, ?, ?, ?, ?, ?, 'ALUNO', ?, TRUE, CURRENT_TIMESTAMP)
+            """;
+
+    private AlunosFixture() {
+    }
+
+    static String nome(long indice) {
+        return "Aluno Benchmark " + indice;
+    }
+
+    static String email(long indice) {
+        return "aluno" + indice + "@benchmark.akdemia.com.br";
+    }
+
+    static String cpf(long indice) {
+        return String.format("9%010d", indice);
+    }
+
+    static String telefone(long indice) {
+        return String.format("11%09d", indice % 1_000_000_000L);
+    }
+
+    static String numeroMatricula(long indice) {
+        return GeradorNumeroMatricula.formatar(indice);
+    }
+
+    /**
+     * Cria um aluno em memória (não persistido) com relacionamentos preenchidos.
+     */
+    static Aluno aluno(long indice) {
+        Aluno aluno = new Aluno();
+        aluno.setId(indice);
+        aluno.setNome(nome(indice));
+        aluno.setEmail(email(indice));
+        aluno.setCpf(cpf(indice));
+        aluno.setTelefone(telefone(indice));
+        aluno.setTipo(TipoUsuario.ALUNO);
+        aluno.setNumeroMatricula(numeroMatricula(indice));
+        aluno.setAtivo(true);
+        aluno.setDataCadastro(LocalDateTime.of(2025, 1, 29, 8, 0));
+        aluno.setDataAtualizacao(LocalDateTime.of(2025, 1, 29, 8, 0));
+
+        for (int i = 0; i < RELACIONAMENTOS_POR_ALUNO; i++) {
+            long id = indice * RELACIONAMENTOS_POR_ALUNO + i;
+
+            Matricula matricula = new Matricula();
+            matricula.setId(id);
+            aluno.getMatriculas().add(matricula);
+
+            Treino treino = new Treino();
+            treino.setId(id);
+            aluno.getTreinos().add(treino);
+
+            Avaliacao avaliacao = new Avaliacao();
+            avaliacao.setId(id);
+            aluno.getAvaliacoes().add(avaliacao);
+        }
+        return aluno;
+    }
+
+    static List<Aluno> alunos(int quantidade) {
+        List<Aluno> alunos = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            alunos.add(aluno(i));
+        }
+        return alunos;
+    }
+
+    /**
+     * Insere os alunos 1..quantidade em lotes via JDBC, sem passar pelo contexto de persistência.
+     *
+     * As matrículas AKD001..AKDN são gravadas depois das migrações, então a sequência
+     * de números de matrícula é avançada aqui para que {@link GeradorNumeroMatricula}
+     * não emita de novo os números da carga.
+     */
+    static void popular(JdbcTemplate jdbcTemplate, int quantidade) {
+        for (int inicio = 1; inicio <= quantidade; inicio += TAMANHO_LOTE_CARGA) {
+            int fim = Math.min(inicio + TAMANHO_LOTE_CARGA - 1, quantidade);
+
+            List<Object[]> lote = new ArrayList<>(fim - inicio + 1);
+            for (long i = inicio; i <= fim; i++) {
+                lote.add(new Object[] {
+                        email(i),
+                        cpf(i),
+                        nome(i),
+                        NormalizadorNome.normalizar(nome(i)),
+                        telefone(i),
+                        numeroMatricula(i) });
+            }
+            jdbcTemplate.batchUpdate(INSERT_ALUNO, lote);
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + GeradorNumeroMatricula.SEQUENCIA + " RESTART WITH " + (quantidade + 1L));
+    }
+}
@@ -0,0 +1,341 @@
+package br.com.akdemia.api.agenda;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.event.LembreteRenovacaoEvent;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+import br.com.akdemia.api.repository.MatriculaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Agenda em memória das próximas ações sobre as matrículas ativas, em uma {@link RodaTemporizacao}.
+ *
+ * Substitui varreduras periódicas da tabela de matrículas: cada matrícula ativa tem as suas
+ * tarefas na roda, e a cada tick apenas as tarefas vencidas são processadas.
+ *
+ * ## Ações
+ *
+ * - **Lembrete de renovação:** No início do dia `lembrete-antecedencia-dias` antes da data de fim,
+ *   publica um {@link LembreteRenovacaoEvent} (ponto de extensão: não há consumidor na aplicação)
+ * - **Suspensão:** No dia seguinte ao fim da carência (`carencia-dias` após o vencimento do
+ *   pagamento), `ATIVA` → `SUSPENSA`
+ * - **Vencimento:** No dia seguinte à data de fim, `ATIVA` → `VENCIDA`
+ *
+ * As alterações de status são feitas em lotes (`akdemia.matriculas.agenda.tamanho-lote`), cada um
+ * em um único `UPDATE ... WHERE id IN (...)` que repete as condições da ação: uma tarefa
+ * desatualizada não altera a matrícula. Não publicam eventos, assim como {@link
+ * br.com.akdemia.api.service.ExpiracaoMatriculas}, que continua como varredura diária de segurança.
+ *
+ * ## Carga e atualização
+ *
+ * - **Inicialização:** Uma única consulta por faixa no índice em status e data de fim (matrículas
+ *   ativas ainda vigentes); suspensões vencidas no próprio dia (aplicação parada na virada)
+ *   são executadas no primeiro tick. As matrículas que venceram com a aplicação parada são
+ *   alteradas pela execução de {@link br.com.akdemia.api.service.ExpiracaoMatriculas} na inicialização
+ * - **Escritas:** Cada {@link MatriculaAlteradaEvent} reagenda (status `ATIVA`) ou cancela as
+ *   tarefas da matrícula após o commit; tarefas com prazo já passado não são agendadas, para
+ *   não suspender de novo uma matrícula reativada
+ * - **Falha:** As tarefas de um lote que falhou são reagendadas para o próximo tick, exceto as
+ *   reagendadas por um evento durante a execução, cujo prazo mais recente prevalece
+ *
+ * ## Métricas
+ *
+ * - `akdemia.matriculas.agenda.pendentes` - tarefas na roda
+ * - `akdemia.matriculas.agenda.disparos` - tarefas executadas, por `acao`
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class AgendaMatriculas {
+
+    /**
+     * Ações agendadas para cada matrícula ativa.
+     */
+    public enum Acao {
+        LEMBRETE_RENOVACAO,
+        SUSPENSAO,
+        VENCIMENTO
+    }
+
+    /**
+     * Chave da tarefa na roda: no máximo uma por matrícula e ação.
+     */
+    record Tarefa(Long matriculaId, Acao acao) {
+    }
+
+    private final MatriculaRepository matriculaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int diasAntecedenciaLembrete;
+    private final int diasCarencia;
+    private final int tamanhoLote;
+    private final ZoneId zona;
+    private final RodaTemporizacao<Tarefa> roda;
+
+    // ReentrantLock em vez de synchronized: não prende a thread portadora (threads virtuais)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Matrículas alteradas por eventos durante a carga (acesso sob `lock`); as suas linhas
+     * lidas antes do evento são ignoradas.
+     */
+    private final Set<Long> alteradasDuranteCarga = new HashSet<>();
+    private boolean carregando;
+
+    private final Map<Acao, Counter> disparos = new EnumMap<>(Acao.class);
+
+    @Autowired
+    public AgendaMatriculas(MatriculaRepository matriculaRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${akdemia.matriculas.agenda.tick:1m}") Duration tick,
+                            @Value("${akdemia.matriculas.agenda.lembrete-antecedencia-dias:7}") int diasAntecedenciaLembrete,
+                            @Value("${akdemia.matriculas.agenda.carencia-dias:5}") int diasCarencia,
+                            @Value("${akdemia.matriculas.agenda.tamanho-lote:1000}") int tamanhoLote,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(matriculaRepository, eventPublisher, tick, diasAntecedenciaLembrete, diasCarencia, tamanhoLote,
+                ZoneId.systemDefault(), System.currentTimeMillis());
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("akdemia.matriculas.agenda.pendentes", this, AgendaMatriculas::pendentes)
+                    .description("Tarefas pendentes na agenda de matrículas")
+                    .register(registry);
+            for (Acao acao : Acao.values()) {
+                disparos.put(acao, Counter.builder("akdemia.matriculas.agenda.disparos")
+                        .description("Tarefas executadas pela agenda de matrículas")
+                        .tag("acao", acao.name().toLowerCase())
+                        .register(registry));
+            }
+        });
+    }
+
+    AgendaMatriculas(MatriculaRepository matriculaRepository, ApplicationEventPublisher eventPublisher,
+                     Duration tick, int diasAntecedenciaLembrete, int diasCarencia, int tamanhoLote,
+                     ZoneId zona, long agoraMs) {
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("akdemia.matriculas.agenda.tamanho-lote deve ser positivo");
+        }
+        this.matriculaRepository = matriculaRepository;
+        this.eventPublisher = eventPublisher;
+        this.diasAntecedenciaLembrete = diasAntecedenciaLembrete;
+        this.diasCarencia = diasCarencia;
+        this.tamanhoLote = tamanhoLote;
+        this.zona = zona;
+        this.roda = new RodaTemporizacao<>(tick, agoraMs);
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * @return Tarefas pendentes na roda
+     */
+    public int pendentes() {
+        lock.lock();
+        try {
+            return roda.tamanho();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========== CARGA E ATUALIZAÇÃO ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        carregar(System.currentTimeMillis());
+    }
+
+    void carregar(long agoraMs) {
+        LocalDate hoje = data(agoraMs);
+        lock.lock();
+        try {
+            carregando = true;
+            alteradasDuranteCarga.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Object[]> ativas;
+        try {
+            ativas = matriculaRepository.findAgendaPorStatusComDataFimAPartirDe(StatusMatricula.ATIVA, hoje);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                carregando = false;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        long inicioDoDia = inicio(hoje);
+        lock.lock();
+        try {
+            for (Object[] linha : ativas) {
+                Long id = (Long) linha[0];
+                if (!alteradasDuranteCarga.contains(id)) {
+                    agendar(id, (LocalDate) linha[1], (LocalDate) linha[2], agoraMs, inicioDoDia);
+                }
+            }
+            carregando = false;
+            alteradasDuranteCarga.clear();
+            log.info("Agenda de matrículas carregada: {} matrículas ativas, {} tarefas", ativas.size(), roda.tamanho());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reagenda as tarefas da matrícula ativa, ou as cancela nos demais status, após o commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarMatricula(MatriculaAlteradaEvent evento) {
+        aoAlterarMatricula(evento, System.currentTimeMillis());
+    }
+
+    void aoAlterarMatricula(MatriculaAlteradaEvent evento, long agoraMs) {
+        lock.lock();
+        try {
+            if (carregando) {
+                alteradasDuranteCarga.add(evento.matriculaId());
+            }
+            if (evento.status() == StatusMatricula.ATIVA) {
+                agendar(evento.matriculaId(), evento.dataFim(), evento.dataVencimento(), agoraMs, agoraMs);
+            } else {
+                for (Acao acao : Acao.values()) {
+                    roda.cancelar(new Tarefa(evento.matriculaId(), acao));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========== EXECUÇÃO ==========
+
+    /**
+     * Avança a roda e executa as tarefas vencidas, agrupadas por ação e em lotes.
+     */
+    @Scheduled(initialDelayString = "${akdemia.matriculas.agenda.tick:1m}",
+               fixedDelayString = "${akdemia.matriculas.agenda.tick:1m}")
+    public void disparar() {
+        disparar(System.currentTimeMillis());
+    }
+
+    void disparar(long agoraMs) {
+        List<Tarefa> vencidas;
+        lock.lock();
+        try {
+            vencidas = roda.avancar(agoraMs);
+        } finally {
+            lock.unlock();
+        }
+        if (vencidas.isEmpty()) {
+            return;
+        }
+
+        Map<Acao, List<Long>> porAcao = new EnumMap<>(Acao.class);
+        vencidas.forEach(tarefa -> porAcao.computeIfAbsent(tarefa.acao(), acao -> new ArrayList<>()).add(tarefa.matriculaId()));
+        LocalDate hoje = data(agoraMs);
+        porAcao.forEach((acao, ids) -> {
+            long afetadas = 0;
+            for (int inicio = 0; inicio < ids.size(); inicio += tamanhoLote) {
+                afetadas += executar(acao, ids.subList(inicio, Math.min(inicio + tamanhoLote, ids.size())), hoje, agoraMs);
+            }
+            log.info("Agenda de matrículas: {} tarefas de {}, {} matrículas afetadas", ids.size(), acao, afetadas);
+        });
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Agenda as tarefas da matrícula ativa (acesso sob `lock`).
+     *
+     * @param suspensaoDesdeMs Prazo mínimo da suspensão; uma suspensão com prazo anterior é descartada
+     */
+    private void agendar(Long id, LocalDate dataFim, LocalDate dataVencimento, long agoraMs, long suspensaoDesdeMs) {
+        long lembrete = inicio(dataFim.minusDays(diasAntecedenciaLembrete));
+        agendarOuCancelar(new Tarefa(id, Acao.LEMBRETE_RENOVACAO), lembrete, lembrete > agoraMs);
+
+        long suspensao = dataVencimento != null ? inicio(dataVencimento.plusDays(diasCarencia + 1L)) : 0;
+        agendarOuCancelar(new Tarefa(id, Acao.SUSPENSAO), suspensao, dataVencimento != null && suspensao >= suspensaoDesdeMs);
+
+        roda.agendar(new Tarefa(id, Acao.VENCIMENTO), inicio(dataFim.plusDays(1)));
+    }
+
+    private void agendarOuCancelar(Tarefa tarefa, long prazoMs, boolean agendar) {
+        if (agendar) {
+            roda.agendar(tarefa, prazoMs);
+        } else {
+            roda.cancelar(tarefa);
+        }
+    }
+
+    /**
+     * Executa a ação sobre um lote; em caso de falha, reagenda o lote para o próximo tick.
+     *
+     * @return Matrículas afetadas
+     */
+    private int executar(Acao acao, List<Long> ids, LocalDate hoje, long agoraMs) {
+        try {
+            int afetadas = switch (acao) {
+                case LEMBRETE_RENOVACAO -> {
+                    eventPublisher.publishEvent(new LembreteRenovacaoEvent(List.copyOf(ids)));
+                    yield ids.size();
+                }
+                case SUSPENSAO -> matriculaRepository.atualizarStatusComVencimentoAntesDe(
+                        ids, StatusMatricula.ATIVA, hoje.minusDays(diasCarencia), StatusMatricula.SUSPENSA);
+                case VENCIMENTO -> matriculaRepository.atualizarStatusComDataFimAntesDe(
+                        ids, StatusMatricula.ATIVA, hoje, StatusMatricula.VENCIDA);
+            };
+            Counter contador = disparos.get(acao);
+            if (contador != null) {
+                contador.increment(ids.size());
+            }
+            return afetadas;
+        } catch (RuntimeException e) {
+            log.error("Falha ao executar {} para {} matrículas; nova tentativa no próximo tick", acao, ids.size(), e);
+            lock.lock();
+            try {
+                ids.forEach(id -> roda.agendarSeAusente(new Tarefa(id, acao), agoraMs));
+            } finally {
+                lock.unlock();
+            }
+            return 0;
+        }
+    }
+
+    private long inicio(LocalDate dia) {
+        return dia.atStartOfDay(zona).toInstant().toEpochMilli();
+    }
+
+    private LocalDate data(long epochMs) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMs), zona);
+    }
+}
@@ -0,0 +1,209 @@
+package br.com.akdemia.api.agenda;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roda de temporização hierárquica: agenda tarefas por prazo com inserção, cancelamento e
+ * avanço em tempo constante por tarefa, sem fila ordenada.
+ *
+ * ## Estrutura
+ *
+ * - **Tick:** Resolução da roda; um prazo é arredondado para o primeiro tick em que já passou
+ * - **Níveis:** {@value #NIVEIS} níveis de {@value #POSICOES} posições; o nível `n` cobre prazos
+ *   até `POSICOES^(n+1)` ticks à frente, cada posição agrupando `POSICOES^n` ticks
+ * - **Cascata:** Quando o nível inferior completa uma volta, a próxima posição do nível superior
+ *   é redistribuída nos níveis abaixo; cada tarefa desce no máximo uma vez por nível
+ * - **Além do horizonte:** Tarefas com prazo após o último nível ficam na posição mais distante
+ *   e são reposicionadas a cada cascata, até entrarem no horizonte
+ *
+ * ## Cancelamento
+ *
+ * Cada chave tem no máximo uma tarefa: agendar de novo substitui o prazo anterior. A tarefa
+ * cancelada é apenas marcada e descartada quando a sua posição é processada.
+ *
+ * Não é thread-safe: o chamador serializa o acesso.
+ *
+ * @param <K> Tipo da chave das tarefas (deve implementar `equals` e `hashCode`)
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public final class RodaTemporizacao<K> {
+
+    static final int BITS_POR_NIVEL = 6;
+    static final int POSICOES = 1 << BITS_POR_NIVEL;
+    static final int NIVEIS = 4;
+
+    private static final int MASCARA = POSICOES - 1;
+
+    /**
+     * Ticks cobertos pelos níveis; prazos mais distantes ficam na última posição.
+     */
+    private static final long HORIZONTE = 1L << (BITS_POR_NIVEL * NIVEIS);
+
+    private final long tickMs;
+    private final List<List<Entrada<K>>> posicoes = new ArrayList<>(NIVEIS * POSICOES);
+    private final Map<K, Entrada<K>> porChave = new HashMap<>();
+
+    /**
+     * Tarefas com prazo já passado, entregues no próximo avanço.
+     */
+    private final List<Entrada<K>> prontas = new ArrayList<>();
+
+    /**
+     * Último tick processado.
+     */
+    private long atual;
+
+    /**
+     * @param tick Resolução da roda
+     * @param agoraMs Instante inicial (epoch millis)
+     */
+    public RodaTemporizacao(Duration tick, long agoraMs) {
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("O tick da roda deve ter pelo menos 1 ms");
+        }
+        this.tickMs = tick.toMillis();
+        this.atual = Math.floorDiv(agoraMs, tickMs);
+        for (int i = 0; i < NIVEIS * POSICOES; i++) {
+            posicoes.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Agenda a tarefa da chave para `prazoMs`, substituindo o prazo anterior. Prazos já passados
+     * são entregues no próximo {@link #avancar(long)}.
+     */
+    public void agendar(K chave, long prazoMs) {
+        cancelar(chave);
+        Entrada<K> entrada = new Entrada<>(chave, Math.ceilDiv(prazoMs, tickMs));
+        porChave.put(chave, entrada);
+        posicionar(entrada);
+    }
+
+    /**
+     * Agenda a tarefa da chave para `prazoMs` apenas se a chave não tiver tarefa pendente,
+     * preservando um prazo agendado depois.
+     *
+     * @return true se a tarefa foi agendada
+     */
+    public boolean agendarSeAusente(K chave, long prazoMs) {
+        if (porChave.containsKey(chave)) {
+            return false;
+        }
+        agendar(chave, prazoMs);
+        return true;
+    }
+
+    /**
+     * @return true se havia tarefa pendente para a chave
+     */
+    public boolean cancelar(K chave) {
+        Entrada<K> entrada = porChave.remove(chave);
+        if (entrada == null) {
+            return false;
+        }
+        entrada.cancelada = true;
+        return true;
+    }
+
+    /**
+     * Avança a roda até `agoraMs`.
+     *
+     * @return Chaves das tarefas vencidas, em ordem de prazo (sem ordem definida no mesmo tick)
+     */
+    public List<K> avancar(long agoraMs) {
+        List<K> vencidas = new ArrayList<>();
+        entregar(prontas, vencidas);
+        prontas.clear();
+
+        long alvo = Math.floorDiv(agoraMs, tickMs);
+        while (atual < alvo) {
+            atual++;
+            for (int nivel = NIVEIS - 1; nivel > 0; nivel--) {
+                if ((atual & ((1L << (BITS_POR_NIVEL * nivel)) - 1)) == 0) {
+                    cascatear(nivel);
+                }
+            }
+            List<Entrada<K>> posicao = posicao(0, (int) (atual & MASCARA));
+            entregar(posicao, vencidas);
+            posicao.clear();
+            entregar(prontas, vencidas);
+            prontas.clear();
+        }
+        return vencidas;
+    }
+
+    /**
+     * @return Tarefas pendentes
+     */
+    public int tamanho() {
+        return porChave.size();
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Coloca a entrada no nível pela distância até o prazo e na posição pelo próprio prazo.
+     */
+    private void posicionar(Entrada<K> entrada) {
+        long distancia = entrada.prazo - atual;
+        if (distancia <= 0) {
+            prontas.add(entrada);
+            return;
+        }
+        long alvo = distancia < HORIZONTE ? entrada.prazo : atual + HORIZONTE - 1;
+        int nivel = 0;
+        while (alvo - atual >= 1L << (BITS_POR_NIVEL * (nivel + 1))) {
+            nivel++;
+        }
+        posicao(nivel, (int) ((alvo >>> (BITS_POR_NIVEL * nivel)) & MASCARA)).add(entrada);
+    }
+
+    /**
+     * Redistribui a posição do nível que começa no tick atual.
+     */
+    private void cascatear(int nivel) {
+        List<Entrada<K>> posicao = posicao(nivel, (int) ((atual >>> (BITS_POR_NIVEL * nivel)) & MASCARA));
+        if (posicao.isEmpty()) {
+            return;
+        }
+        List<Entrada<K>> entradas = new ArrayList<>(posicao);
+        posicao.clear();
+        for (Entrada<K> entrada : entradas) {
+            if (!entrada.cancelada) {
+                posicionar(entrada);
+            }
+        }
+    }
+
+    private void entregar(List<Entrada<K>> entradas, List<K> vencidas) {
+        for (Entrada<K> entrada : entradas) {
+            if (!entrada.cancelada) {
+                porChave.remove(entrada.chave);
+                vencidas.add(entrada.chave);
+            }
+        }
+    }
+
+    private List<Entrada<K>> posicao(int nivel, int indice) {
+        return posicoes.get(nivel * POSICOES + indice);
+    }
+
+    private static final class Entrada<K> {
+
+        private final K chave;
+        private final long prazo;
+        private boolean cancelada;
+
+        Entrada(K chave, long prazo) {
+            this.chave = chave;
+            this.prazo = prazo;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package br.com.akdemia.api.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.OperacaoAluno;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em memória de {@link AlunoDTO} para as buscas por ID, email, CPF e matrícula.
+ *
+ * ## Estrutura
+ *
+ * - **Cache principal:** Caffeine (ID → AlunoDTO), com tamanho máximo, TTL e
+ *   despejo W-TinyLFU
+ * - **Índices secundários:** email, CPF e matrícula → ID, atualizados na mesma operação atômica
+ *   que grava, invalida ou despeja a entrada do cache principal
+ *
+ * Uma busca por chave secundária resolve o ID e lê o cache principal; a entrada só é
+ * considerada se a chave ainda corresponder ao DTO armazenado.
+ *
+ * ## Consistência
+ *
+ * - Invalidação por ID após o commit de atualização, desativação ou reativação, e de
+ *   criação de matrícula (o DTO traz os IDs das matrículas)
+ * - Leituras concluídas após uma invalidação concorrente não são armazenadas
+ *   (controle por geração, verificado dentro do `compute` da entrada), evitando repopular o
+ *   cache com dados antigos
+ * - Uma busca por chave secundária cujo DTO não corresponde mais à chave conta como falha
+ *
+ * ## Isolamento
+ *
+ * O cache guarda uma cópia do DTO armazenado, com as listas de IDs imutáveis, e cada
+ * consulta retorna uma nova cópia: alterações feitas por quem armazenou ou consultou
+ * não chegam às leituras seguintes (nem à versão usada no ETag).
+ *
+ * ## Métricas
+ *
+ * Acertos, falhas, despejos e tamanho publicados no Micrometer com o nome de cache
+ * `alunos` (ex: /actuator/metrics/cache.gets).
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class AlunoCache {
+
+    private final ConcurrentStatsCounter estatisticas = new ConcurrentStatsCounter();
+    private final Cache<Long, AlunoDTO> porId;
+
+    private final ConcurrentMap<String, Long> idPorEmail = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> idPorCpf = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> idPorMatricula = new ConcurrentHashMap<>();
+
+    /**
+     * Incrementada a cada invalidação; leituras iniciadas antes dela não são armazenadas.
+     */
+    private final AtomicLong geracao = new AtomicLong();
+
+    @Autowired
+    public AlunoCache(@Value("${akdemia.cache.alunos.tamanho-maximo:10000}") long tamanhoMaximo,
+                      @Value("${akdemia.cache.alunos.ttl:10m}") Duration ttl,
+                      ObjectProvider<MeterRegistry> meterRegistry) {
+        this(tamanhoMaximo, ttl, ForkJoinPool.commonPool());
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, porId, "alunos"));
+        log.info("Cache de alunos configurado: tamanho máximo {}, TTL {}", tamanhoMaximo, ttl);
+    }
+
+    /**
+     * @param executor Executor da manutenção do Caffeine (despejos)
+     */
+    AlunoCache(long tamanhoMaximo, Duration ttl, Executor executor) {
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .executor(executor)
+                .recordStats(() -> estatisticas)
+                // Síncrono, na mesma operação do despejo: não remove chaves regravadas depois
+                .evictionListener(this::aoDespejar)
+                .build();
+    }
+
+    // ========== CONSULTAS ==========
+
+    public Optional<AlunoDTO> buscarPorId(Long id) {
+        return Optional.ofNullable(porId.getIfPresent(id)).map(AlunoCache::copiar);
+    }
+
+    public Optional<AlunoDTO> buscarPorEmail(String email) {
+        return buscarPorChave(idPorEmail, email, AlunoDTO::getEmail);
+    }
+
+    public Optional<AlunoDTO> buscarPorCpf(String cpf) {
+        return buscarPorChave(idPorCpf, cpf, AlunoDTO::getCpf);
+    }
+
+    public Optional<AlunoDTO> buscarPorMatricula(String numeroMatricula) {
+        return buscarPorChave(idPorMatricula, numeroMatricula, AlunoDTO::getNumeroMatricula);
+    }
+
+    /**
+     * Estatísticas acumuladas do cache (acertos, falhas, despejos).
+     */
+    public CacheStats estatisticas() {
+        return porId.stats();
+    }
+
+    // ========== ARMAZENAMENTO E INVALIDAÇÃO ==========
+
+    /**
+     * Marca o início de uma leitura no banco. Deve ser obtida antes da consulta
+     * e informada em {@link #armazenar(AlunoDTO, long)}.
+     *
+     * @return Geração atual do cache
+     */
+    public long marcarLeitura() {
+        return geracao.get();
+    }
+
+    /**
+     * Armazena o aluno lido do banco, desde que nenhuma invalidação tenha ocorrido
+     * desde a marcação da leitura.
+     *
+     * @param aluno DTO completo do aluno (é armazenada uma cópia)
+     * @param marca Valor retornado por {@link #marcarLeitura()} antes da consulta
+     */
+    public void armazenar(AlunoDTO aluno, long marca) {
+        if (aluno == null || aluno.getId() == null) {
+            return;
+        }
+        AlunoDTO armazenado = instantaneo(aluno);
+
+        // A geração é verificada sob o bloqueio da entrada: uma invalidação concorrente ou
+        // incrementa antes (e nada é gravado) ou remove depois a entrada gravada
+        porId.asMap().compute(aluno.getId(), (id, atual) -> {
+            if (geracao.get() != marca) {
+                return atual;
+            }
+            if (atual != null) {
+                desindexar(id, atual);
+            }
+            indexar(idPorEmail, armazenado.getEmail(), id);
+            indexar(idPorCpf, armazenado.getCpf(), id);
+            indexar(idPorMatricula, armazenado.getNumeroMatricula(), id);
+            return armazenado;
+        });
+    }
+
+    /**
+     * Remove o aluno do cache e de todos os índices secundários.
+     *
+     * @param id ID do aluno
+     */
+    public void invalidar(Long id) {
+        geracao.incrementAndGet();
+        porId.asMap().computeIfPresent(id, (chave, atual) -> {
+            desindexar(chave, atual);
+            return null;
+        });
+    }
+
+    /**
+     * Invalida o aluno após o commit de qualquer alteração que não seja a criação.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAluno(AlunoAlteradoEvent evento) {
+        if (evento.operacao() != OperacaoAluno.CRIADO) {
+            log.debug("Invalidando aluno {} no cache após {}", evento.aluno().getId(), evento.operacao());
+            invalidar(evento.aluno().getId());
+        }
+    }
+
+    /**
+     * Invalida o aluno após o commit de uma nova matrícula. Mudanças de status não
+     * alteram o DTO do aluno.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarMatricula(MatriculaAlteradaEvent evento) {
+        if (evento.statusAnterior() == null) {
+            invalidar(evento.alunoId());
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private Optional<AlunoDTO> buscarPorChave(ConcurrentMap<String, Long> indice, String chave,
+                                              Function<AlunoDTO, String> extrator) {
+        Long id = chave != null ? indice.get(chave) : null;
+        if (id == null) {
+            // A falha não passa pelo cache principal, então é registrada manualmente
+            estatisticas.recordMisses(1);
+            return Optional.empty();
+        }
+
+        // Leitura sem estatística: uma entrada que não corresponde mais à chave é falha, não acerto
+        AlunoDTO aluno = porId.policy().getIfPresentQuietly(id);
+        if (aluno == null || !chave.equals(extrator.apply(aluno))) {
+            estatisticas.recordMisses(1);
+            return Optional.empty();
+        }
+        estatisticas.recordHits(1);
+        return Optional.of(copiar(aluno));
+    }
+
+    /**
+     * Cópia gravada no cache, com as listas de IDs imutáveis.
+     */
+    private static AlunoDTO instantaneo(AlunoDTO aluno) {
+        return new AlunoDTO(aluno.getId(), aluno.getNome(), aluno.getEmail(), aluno.getCpf(), aluno.getTelefone(),
+                aluno.getTipo(), aluno.getNumeroMatricula(), aluno.getAtivo(), aluno.getDataCadastro(),
+                aluno.getDataAtualizacao(), aluno.getDataDesativacao(), listaImutavel(aluno.getMatriculasIds()),
+                listaImutavel(aluno.getTreinosIds()), listaImutavel(aluno.getAvaliacoesIds()));
+    }
+
+    /**
+     * Cópia entregue a quem consulta, com listas próprias e alteráveis.
+     */
+    private static AlunoDTO copiar(AlunoDTO aluno) {
+        return new AlunoDTO(aluno.getId(), aluno.getNome(), aluno.getEmail(), aluno.getCpf(), aluno.getTelefone(),
+                aluno.getTipo(), aluno.getNumeroMatricula(), aluno.getAtivo(), aluno.getDataCadastro(),
+                aluno.getDataAtualizacao(), aluno.getDataDesativacao(), new ArrayList<>(aluno.getMatriculasIds()),
+                new ArrayList<>(aluno.getTreinosIds()), new ArrayList<>(aluno.getAvaliacoesIds()));
+    }
+
+    private static List<Long> listaImutavel(List<Long> ids) {
+        return ids != null ? List.copyOf(ids) : List.of();
+    }
+
+    private void indexar(ConcurrentMap<String, Long> indice, String chave, Long id) {
+        if (chave != null) {
+            indice.put(chave, id);
+        }
+    }
+
+    /**
+     * Remove as chaves secundárias do aluno despejado por tamanho ou TTL.
+     */
+    private void aoDespejar(Long id, AlunoDTO aluno, RemovalCause causa) {
+        if (id != null && aluno != null) {
+            desindexar(id, aluno);
+        }
+    }
+
+    private void desindexar(Long id, AlunoDTO aluno) {
+        desindexar(idPorEmail, aluno.getEmail(), id);
+        desindexar(idPorCpf, aluno.getCpf(), id);
+        desindexar(idPorMatricula, aluno.getNumeroMatricula(), id);
+    }
+
+    private void desindexar(ConcurrentMap<String, Long> indice, String chave, Long id) {
+        if (chave != null) {
+            indice.remove(chave, id);
+        }
+    }
+}
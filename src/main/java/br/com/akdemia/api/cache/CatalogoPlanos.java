@@ -0,0 +1,226 @@
+package br.com.akdemia.api.cache;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.akdemia.api.dto.PlanoDTO;
+import br.com.akdemia.api.event.PlanoAlteradoEvent;
+import br.com.akdemia.api.mapper.PlanoMapper;
+import br.com.akdemia.api.repository.PlanoRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Catálogo dos planos ativos em memória, servido a partir de um snapshot imutável.
+ *
+ * O catálogo tem poucos registros e muda raramente, mas é lido em todo cadastro e
+ * em toda página de preços. As leituras não acessam o banco: usam o snapshot atual,
+ * substituído por inteiro (referência volátil) a cada recarga.
+ *
+ * ## Estrutura do snapshot
+ *
+ * - **Por valor:** Planos ordenados por valor, com os valores em centavos em um `long[]` paralelo
+ * - **Por duração:** Planos ordenados por duração, com as durações em um `long[]` paralelo
+ * - **Por ID:** Mapa imutável ID → plano
+ *
+ * Consultas por faixa fazem duas buscas binárias no array e retornam uma sublista,
+ * sem copiar nem filtrar os planos.
+ *
+ * ## Recarga
+ *
+ * - **Escrita:** Após o commit de cada {@link PlanoAlteradoEvent}
+ * - **Periódica:** A cada `akdemia.planos.catalogo.recarga`, refletindo alterações feitas
+ *   por outras instâncias ou fora da aplicação
+ * - **Serializada:** Uma recarga por vez; cada uma lê o banco depois do commit que a originou,
+ *   então o último snapshot publicado inclui todas as alterações confirmadas
+ *
+ * Os DTOs do snapshot são compartilhados entre as requisições e não devem ser alterados.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class CatalogoPlanos {
+
+    private static final BigDecimal LONG_MAXIMO = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal LONG_MINIMO = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private final PlanoRepository planoRepository;
+    private final PlanoMapper planoMapper;
+    private final ReentrantLock lockRecarga = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public CatalogoPlanos(PlanoRepository planoRepository, PlanoMapper planoMapper) {
+        this.planoRepository = planoRepository;
+        this.planoMapper = planoMapper;
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * @return Planos ativos, do menor para o maior valor
+     */
+    public List<PlanoDTO> listar() {
+        return atual().porValor;
+    }
+
+    public Optional<PlanoDTO> buscarPorId(Long id) {
+        return Optional.ofNullable(atual().porId.get(id));
+    }
+
+    /**
+     * Planos com valor entre `minimo` e `maximo` (inclusive), do menor para o maior valor.
+     *
+     * @param minimo Valor mínimo, ou null para sem limite inferior
+     * @param maximo Valor máximo, ou null para sem limite superior
+     */
+    public List<PlanoDTO> buscarPorFaixaDeValor(BigDecimal minimo, BigDecimal maximo) {
+        Snapshot atual = atual();
+        long inicio = minimo == null ? Long.MIN_VALUE : centavos(minimo, RoundingMode.CEILING);
+        long fim = maximo == null ? Long.MAX_VALUE : centavos(maximo, RoundingMode.FLOOR);
+        return faixa(atual.porValor, atual.valores, inicio, fim);
+    }
+
+    /**
+     * Planos com duração entre `minimo` e `maximo` dias (inclusive), da menor para a maior
+     * duração e, na mesma duração, do menor para o maior valor.
+     *
+     * @param minimo Duração mínima, ou null para sem limite inferior
+     * @param maximo Duração máxima, ou null para sem limite superior
+     */
+    public List<PlanoDTO> buscarPorFaixaDeDuracao(Integer minimo, Integer maximo) {
+        Snapshot atual = atual();
+        long inicio = minimo == null ? Long.MIN_VALUE : minimo;
+        long fim = maximo == null ? Long.MAX_VALUE : maximo;
+        return faixa(atual.porDuracao, atual.duracoes, inicio, fim);
+    }
+
+    public LocalDateTime getCarregadoEm() {
+        return atual().carregadoEm;
+    }
+
+    // ========== RECARGA ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarPlano(PlanoAlteradoEvent evento) {
+        recarregar();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        recarregar();
+    }
+
+    /**
+     * Lê os planos ativos do banco e publica um novo snapshot.
+     */
+    @Scheduled(initialDelayString = "${akdemia.planos.catalogo.recarga:5m}",
+               fixedDelayString = "${akdemia.planos.catalogo.recarga:5m}")
+    public void recarregar() {
+        // ReentrantLock em vez de synchronized: não prende a thread portadora (threads virtuais) durante a consulta
+        lockRecarga.lock();
+        try {
+            snapshot = new Snapshot(planoMapper.toDTOList(planoRepository.findByAtivoTrue()));
+            log.debug("Catálogo de planos recarregado: {} planos ativos", snapshot.porValor.size());
+        } finally {
+            lockRecarga.unlock();
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Snapshot atual; carregado na primeira leitura se ainda não houve carga
+     * (requisições anteriores ao fim da inicialização).
+     */
+    private Snapshot atual() {
+        Snapshot atual = snapshot;
+        if (atual == null) {
+            recarregar();
+            atual = snapshot;
+        }
+        return atual;
+    }
+
+    /**
+     * Valor em centavos; fora da faixa de `long`, o limite mais próximo.
+     */
+    private static long centavos(BigDecimal valor, RoundingMode arredondamento) {
+        BigDecimal centavos = valor.setScale(2, arredondamento).movePointRight(2);
+        if (centavos.compareTo(LONG_MAXIMO) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (centavos.compareTo(LONG_MINIMO) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return centavos.longValue();
+    }
+
+    private static List<PlanoDTO> faixa(List<PlanoDTO> planos, long[] chaves, long minimo, long maximo) {
+        int inicio = primeiraPosicao(chaves, minimo, false);
+        int fim = primeiraPosicao(chaves, maximo, true);
+        return inicio < fim ? planos.subList(inicio, fim) : List.of();
+    }
+
+    /**
+     * Busca binária pela primeira posição com chave >= `valor` (ou > `valor`, com `excluirIguais`);
+     * o tamanho do array se não houver.
+     */
+    private static int primeiraPosicao(long[] chaves, long valor, boolean excluirIguais) {
+        int inicio = 0;
+        int fim = chaves.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (chaves[meio] < valor || (excluirIguais && chaves[meio] == valor)) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Conteúdo imutável do catálogo; nunca alterado após a construção.
+     */
+    private static final class Snapshot {
+
+        private final List<PlanoDTO> porValor;
+        private final long[] valores;
+        private final List<PlanoDTO> porDuracao;
+        private final long[] duracoes;
+        private final Map<Long, PlanoDTO> porId;
+        private final LocalDateTime carregadoEm = LocalDateTime.now();
+
+        Snapshot(List<PlanoDTO> planos) {
+            Comparator<PlanoDTO> valorEId = Comparator.comparing(PlanoDTO::getValor)
+                    .thenComparing(PlanoDTO::getId);
+            this.porValor = planos.stream().sorted(valorEId).toList();
+            this.porDuracao = planos.stream()
+                    .sorted(Comparator.comparing(PlanoDTO::getDuracaoDias).thenComparing(valorEId))
+                    .toList();
+            this.valores = porValor.stream().mapToLong(plano -> centavos(plano.getValor(), RoundingMode.UNNECESSARY)).toArray();
+            this.duracoes = porDuracao.stream().mapToLong(PlanoDTO::getDuracaoDias).toArray();
+
+            Map<Long, PlanoDTO> indice = new HashMap<>();
+            planos.forEach(plano -> indice.put(plano.getId(), plano));
+            this.porId = Map.copyOf(indice);
+        }
+    }
+}
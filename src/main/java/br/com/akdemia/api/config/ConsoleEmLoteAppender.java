@@ -0,0 +1,103 @@
+package br.com.akdemia.api.config;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * Appender Logback que grava na saída padrão em lotes.
+ *
+ * O `ConsoleAppender` escreve em `System.out`, que faz flush a cada linha (uma chamada
+ * de sistema por evento, mesmo com `immediateFlush=false`). Este appender acumula as
+ * linhas em um buffer próprio e grava quando ele enche ou, no máximo, a cada
+ * `intervaloFlushMs` - usado atrás do `AsyncAppender` no perfil prod (logback-spring.xml).
+ *
+ * ## Características
+ *
+ * - **Lote:** Buffer de `tamanhoBuffer` bytes (padrão 64 KB) sobre o descritor da saída padrão
+ * - **Atraso máximo:** Linhas aparecem em até `intervaloFlushMs` (padrão 1000 ms)
+ * - **Encerramento:** Faz flush ao parar, sem fechar a saída padrão
+ *
+ * @param <E> Tipo do evento de log
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public class ConsoleEmLoteAppender<E> extends OutputStreamAppender<E> {
+
+    private int tamanhoBuffer = 64 * 1024;
+    private long intervaloFlushMs = 1000;
+    private ScheduledExecutorService agendador;
+
+    @Override
+    public void start() {
+        setImmediateFlush(false);
+        setOutputStream(new BufferedOutputStream(new SaidaPadrao(), tamanhoBuffer));
+        super.start();
+
+        agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "log-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleWithFixedDelay(this::flush, intervaloFlushMs, intervaloFlushMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+        }
+        flush();
+        super.stop();
+    }
+
+    private void flush() {
+        streamWriteLock.lock();
+        try {
+            if (getOutputStream() != null) {
+                getOutputStream().flush();
+            }
+        } catch (IOException e) {
+            addError("Falha ao gravar o log na saída padrão", e);
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    public void setTamanhoBuffer(int tamanhoBuffer) {
+        this.tamanhoBuffer = tamanhoBuffer;
+    }
+
+    public void setIntervaloFlushMs(long intervaloFlushMs) {
+        this.intervaloFlushMs = intervaloFlushMs;
+    }
+
+    /**
+     * Descritor da saída padrão; `close()` apenas faz flush, para não fechar o stdout do processo.
+     */
+    private static final class SaidaPadrao extends FilterOutputStream {
+
+        SaidaPadrao() {
+            super(new FileOutputStream(FileDescriptor.out));
+        }
+
+        @Override
+        public void write(byte[] bytes, int inicio, int tamanho) throws IOException {
+            out.write(bytes, inicio, tamanho);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.akdemia.api.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.akdemia.api.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limita as requisições em execução simultânea ao tamanho do pool de conexões.
+ *
+ * Com threads virtuais (`spring.threads.virtual.enabled: true`) o Tomcat deixa de ter
+ * um pool limitado de threads, e milhares de requisições podem disputar as poucas
+ * conexões do Hikari. Este filtro faz a fila na entrada, com espera limitada, em vez
+ * de deixá-la acumular no pool de conexões até o `connectionTimeout`.
+ *
+ * ## Características
+ *
+ * - **Permissões:** `maximum-pool-size` menos `akdemia.web.limitador.reserva-conexoes`,
+ *   que fica livre para transações aninhadas (ex: reserva de bloco de matrículas em
+ *   `REQUIRES_NEW`) e para tarefas agendadas
+ * - **Espera máxima:** `akdemia.web.limitador.espera-maxima`; depois disso responde
+ *   503 com `Retry-After`
+ * - **Ordem de chegada:** Semáforo justo, sem furar a fila
+ * - **Requisições assíncronas:** A permissão é mantida até o fim do processamento assíncrono
+ *   (`StreamingResponseBody`, `Flux`/`Mono`), liberada por um {@link AsyncListener} na
+ *   conclusão, erro ou timeout, e não no retorno da thread da requisição
+ * - **Ativação:** Apenas no modo de threads virtuais; no modo de threads de plataforma
+ *   o próprio pool do Tomcat limita a concorrência
+ *
+ * ## Métricas
+ *
+ * - `akdemia.web.limitador.disponiveis`: permissões livres
+ * - `akdemia.web.limitador.aguardando`: requisições na fila
+ * - `akdemia.web.limitador.rejeitadas`: requisições recusadas por tempo de espera
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class LimitadorConexoesFilter extends OncePerRequestFilter {
+
+    private static final String[] CAMINHOS_IGNORADOS = {
+            "/health", "/actuator", "/swagger-ui", "/api-docs", "/h2-console"
+    };
+
+    private final Semaphore permissoes;
+    private final Duration esperaMaxima;
+    private final ObjectMapper objectMapper;
+    private Counter rejeitadas;
+
+    public LimitadorConexoesFilter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int tamanhoPool,
+                                   @Value("${akdemia.web.limitador.reserva-conexoes:1}") int reservaConexoes,
+                                   @Value("${akdemia.web.limitador.espera-maxima:5s}") Duration esperaMaxima,
+                                   ObjectMapper objectMapper,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        int limite = Math.max(1, tamanhoPool - reservaConexoes);
+        this.permissoes = new Semaphore(limite, true);
+        this.esperaMaxima = esperaMaxima;
+        this.objectMapper = objectMapper;
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("akdemia.web.limitador.disponiveis", permissoes, Semaphore::availablePermits)
+                    .description("Permissões livres do limitador de requisições")
+                    .register(registry);
+            Gauge.builder("akdemia.web.limitador.aguardando", permissoes, Semaphore::getQueueLength)
+                    .description("Requisições aguardando permissão")
+                    .register(registry);
+            rejeitadas = Counter.builder("akdemia.web.limitador.rejeitadas")
+                    .description("Requisições recusadas após a espera máxima")
+                    .register(registry);
+        });
+        log.info("Limitador de requisições ativo (threads virtuais): {} simultâneas, espera máxima {}",
+                limite, esperaMaxima);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String caminho = request.getServletPath();
+        for (String ignorado : CAMINHOS_IGNORADOS) {
+            if (caminho.startsWith(ignorado)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean permitido;
+        try {
+            permitido = permissoes.tryAcquire(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permitido = false;
+        }
+
+        if (!permitido) {
+            rejeitar(request, response);
+            return;
+        }
+
+        boolean liberar = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LiberacaoAssincrona());
+                liberar = false;
+            }
+        } finally {
+            if (liberar) {
+                permissoes.release();
+            }
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void rejeitar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (rejeitadas != null) {
+            rejeitadas.increment();
+        }
+        log.warn("Requisição recusada após {} aguardando conexão: {} {}",
+                esperaMaxima, request.getMethod(), request.getRequestURI());
+
+        ErrorResponse erro = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Serviço sobrecarregado")
+                .message("Muitas requisições simultâneas, tente novamente")
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, esperaMaxima.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), erro);
+    }
+
+    /**
+     * Libera a permissão no primeiro entre conclusão, timeout e erro do processamento assíncrono
+     * (timeout e erro são seguidos de conclusão, que não libera de novo).
+     */
+    private final class LiberacaoAssincrona implements AsyncListener {
+
+        private final AtomicBoolean liberada = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Um novo ciclo assíncrono descarta os listeners: continua acompanhando a requisição
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void liberar() {
+            if (liberada.compareAndSet(false, true)) {
+                permissoes.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.akdemia.api.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Acesso R2DBC (não bloqueante) ao banco, usado pela API de leitura reativa.
+ *
+ * Lê o mesmo banco da camada JPA (`akdemia.reativo.url`, com as credenciais de
+ * `spring.datasource`), por um pool de conexões próprio.
+ *
+ * ## Por que não usar a autoconfiguração R2DBC do Spring Boot
+ *
+ * - Um `ConnectionFactory` registrado como bean ativa a inicialização de scripts SQL do
+ *   Spring Boot também via R2DBC, fora da ordem das migrações Flyway
+ * - Um segundo gerenciador de transações (reativo) tornaria ambíguo o `@Transactional`
+ *   dos serviços JPA
+ *
+ * Por isso o pool fica encapsulado nesta classe e apenas o {@link DatabaseClient} é
+ * exposto; a autoconfiguração R2DBC é excluída em `application.yml`.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Configuration
+@Slf4j
+public class R2dbcConfig implements DisposableBean {
+
+    private final ConnectionPool pool;
+
+    public R2dbcConfig(@Value("${akdemia.reativo.url:r2dbc:h2:mem:///testdb}") String url,
+                       @Value("${spring.datasource.username:sa}") String usuario,
+                       @Value("${spring.datasource.password:}") String senha,
+                       @Value("${akdemia.reativo.pool.tamanho-inicial:2}") int tamanhoInicial,
+                       @Value("${akdemia.reativo.pool.tamanho-maximo:10}") int tamanhoMaximo) {
+        ConnectionFactoryOptions opcoes = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, usuario)
+                .option(ConnectionFactoryOptions.PASSWORD, senha)
+                .build();
+
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(opcoes))
+                .name("akdemia-reativo")
+                .initialSize(tamanhoInicial)
+                .maxSize(tamanhoMaximo)
+                .build());
+        log.info("Pool R2DBC configurado: {} ({} a {} conexões)", url, tamanhoInicial, tamanhoMaximo);
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(pool);
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
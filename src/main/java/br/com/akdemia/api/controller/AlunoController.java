@@ -1,9 +1,20 @@
 package br.com.akdemia.api.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,12 +22,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.AlunoSugestaoDTO;
+import br.com.akdemia.api.dto.EstatisticasAlunosDTO;
+import br.com.akdemia.api.dto.ImportacaoAlunosDTO;
+import br.com.akdemia.api.dto.PaginaDTO;
 import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.service.AlunoImportacaoService;
 import br.com.akdemia.api.service.AlunoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -37,12 +59,17 @@ import jakarta.validation.Valid;
  * ## Endpoints Disponíveis
  * 
  * - **POST /alunos/novo** - Criar novo aluno
+ * - **POST /alunos/lote** - Importar alunos em lote (JSON, NDJSON ou CSV)
+ * - **GET /alunos** - Listar alunos ativos com filtros e paginação
  * - **GET /alunos/todos** - Listar todos os alunos ativos
- * - **GET /alunos/{id}** - Buscar aluno por ID
+ * - **GET /alunos/todos/stream** - Exportar alunos ativos em streaming (NDJSON)
+ * - **GET /alunos/{id}** - Buscar aluno por ID (ETag/Last-Modified; 304 se não modificado)
  * - **GET /alunos/tipo/{tipo}** - Listar alunos por tipo
  * - **PUT /alunos/{id}** - Atualizar dados do aluno
  * - **DELETE /alunos/{id}** - Desativar aluno (soft delete)
  * - **GET /alunos/buscar** - Buscar alunos por nome
+ * - **GET /alunos/sugestoes** - Sugestões para autocompletar
+ * - **GET /alunos/estatisticas** - Estatísticas de alunos
  * 
  * ## Códigos de Status HTTP
  * 
@@ -68,9 +95,40 @@ import jakarta.validation.Valid;
 @Tag(name = "Aluno", description = "Operações relacionadas aos alunos da academia")
 public class AlunoController {
     
+    /**
+     * Limite superior do tamanho de lote aceito no streaming de alunos.
+     */
+    private static final int TAMANHO_MAXIMO_LOTE = 1000;
+    
+    /**
+     * Limite superior de sugestões retornadas no autocompletar.
+     */
+    private static final int LIMITE_MAXIMO_SUGESTOES = 50;
+    
+    /**
+     * Limite superior do tamanho de página na listagem paginada.
+     */
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+    
+    /**
+     * Campos aceitos na ordenação da listagem paginada (parâmetro → propriedade da entidade).
+     * A ordenação por nome usa o nome normalizado, que é indexado e ignora acentos.
+     */
+    private static final Map<String, String> CAMPOS_ORDENACAO = Map.of(
+            "id", "id",
+            "nome", "nomeBusca",
+            "dataCadastro", "dataCadastro",
+            "numeroMatricula", "numeroMatricula");
+    
     @Autowired
     private AlunoService alunoService;
     
+    @Autowired
+    private AlunoImportacaoService alunoImportacaoService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     /**
      * Cria um novo aluno no sistema.
      * 
@@ -95,6 +153,81 @@ public class AlunoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(usuarioCriado);
     }
     
+    /**
+     * Importa alunos em lote.
+     * 
+     * **Formatos aceitos (Content-Type):**
+     * - application/json - Array JSON de alunos
+     * - application/x-ndjson - Um aluno em JSON por linha
+     * - text/csv - Cabeçalho (nome,email,cpf,telefone,tipo) seguido de um aluno por linha
+     * 
+     * **Comportamento:**
+     * - O conteúdo é lido em streaming e processado em lotes
+     * - Aplica as mesmas validações da criação individual
+     * - Registros inválidos ou duplicados são rejeitados sem interromper a importação
+     * - Gera número de matrícula para cada aluno importado
+     * 
+     * @param tipoConteudo Content-Type da requisição
+     * @param conteudo Corpo da requisição
+     * @return ResponseEntity com o relatório da importação, incluindo o resultado de cada registro
+     * @throws BusinessException se o conteúdo estiver malformado
+     */
+    @PostMapping(value = "/lote", consumes = { MediaType.APPLICATION_JSON_VALUE, 
+            MediaType.APPLICATION_NDJSON_VALUE, AlunoImportacaoService.TEXT_CSV_VALUE })
+    @Operation(summary = "Importar alunos em lote", description = "Cria alunos a partir de array JSON, NDJSON ou CSV")
+    public ResponseEntity<ImportacaoAlunosDTO> importarLote(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String tipoConteudo,
+            InputStream conteudo) {
+        ImportacaoAlunosDTO relatorio = alunoImportacaoService.importar(conteudo, MediaType.parseMediaType(tipoConteudo));
+        return ResponseEntity.ok(relatorio);
+    }
+    
+    /**
+     * Lista alunos ativos com filtros opcionais e paginação.
+     * 
+     * **Paginação por página:** `page` e `size`, com ordenação por `sort`
+     * (`id`, `nome`, `dataCadastro` ou `numeroMatricula`, opcionalmente `,asc` ou `,desc`)
+     * 
+     * **Paginação por cursor (keyset):** `apos` com o `proximoCursor` da resposta anterior;
+     * custo constante em páginas profundas. Exige ordenação por `id` e ignora `page`
+     * 
+     * **Totais:** Calculados apenas com `total=true` (consulta de contagem adicional),
+     * na paginação por página
+     * 
+     * @param nome Parte do nome, sem diferenciar acentos e maiúsculas (opcional)
+     * @param tipo Tipo de usuário (opcional)
+     * @param page Página, a partir de 0
+     * @param size Tamanho da página (padrão 20, máximo 100)
+     * @param sort Campo e direção da ordenação (padrão id)
+     * @param apos Cursor: último ID recebido (opcional)
+     * @param total Se true, inclui total de elementos e de páginas
+     * @return ResponseEntity com a página de alunos
+     * @throws BusinessException se a ordenação não for permitida (400)
+     */
+    @GetMapping
+    @Operation(summary = "Listar alunos paginados", description = "Alunos ativos com filtros de nome e tipo, paginação por página ou cursor")
+    public ResponseEntity<PaginaDTO<AlunoDTO>> listar(
+            @Parameter(description = "Nome para busca") @RequestParam(required = false) String nome,
+            @Parameter(description = "Tipo de usuário") @RequestParam(required = false) TipoUsuario tipo,
+            @Parameter(description = "Página, a partir de 0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Ordenação: campo[,asc|desc]") @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Cursor: último ID recebido") @RequestParam(required = false) Long apos,
+            @Parameter(description = "Incluir totais") @RequestParam(defaultValue = "false") boolean total) {
+        int tamanho = Math.max(1, Math.min(size, TAMANHO_MAXIMO_PAGINA));
+        Sort ordenacao = ordenacao(sort);
+        
+        if (apos != null) {
+            if (!Sort.by("id").equals(ordenacao)) {
+                throw new BusinessException("A paginação por cursor (apos) exige ordenação por id");
+            }
+            return ResponseEntity.ok(alunoService.listarAposId(nome, tipo, apos, tamanho));
+        }
+        
+        Pageable pageable = PageRequest.of(Math.max(0, page), tamanho, ordenacao);
+        return ResponseEntity.ok(alunoService.listarPaginado(nome, tipo, pageable, total));
+    }
+    
     /**
      * Lista todos os alunos ativos do sistema.
      * 
@@ -115,6 +248,36 @@ public class AlunoController {
         return ResponseEntity.ok(alunos);
     }
     
+    /**
+     * Exporta todos os alunos ativos em streaming, no formato NDJSON (um JSON por linha).
+     * 
+     * **Comportamento:**
+     * - Lê os alunos em lotes com paginação por cursor (keyset) no ID
+     * - Escreve cada lote diretamente na resposta, sem montar a lista completa
+     * - Ordem crescente de ID
+     * 
+     * **Performance:**
+     * Uso de memória constante, independente do total de alunos cadastrados.
+     * Prefira este endpoint a /todos para exportações e integrações.
+     * 
+     * @param tamanhoLote Quantidade de registros lidos por lote (máximo 1000)
+     * @return ResponseEntity com o corpo escrito em streaming
+     */
+    @GetMapping(value = "/todos/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar alunos em streaming", description = "Retorna os alunos ativos em NDJSON, lidos em lotes")
+    public ResponseEntity<StreamingResponseBody> listarTodosStream(
+            @Parameter(description = "Quantidade de registros por lote") 
+            @RequestParam(defaultValue = "500") int tamanhoLote) {
+        int lote = Math.max(1, Math.min(tamanhoLote, TAMANHO_MAXIMO_LOTE));
+        
+        StreamingResponseBody corpo = saida -> 
+                alunoService.percorrerAtivos(lote, alunos -> escreverNdjson(saida, alunos));
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+    
     /**
      * Busca um aluno específico pelo ID.
      * 
@@ -123,16 +286,26 @@ public class AlunoController {
      * - Inclui todos os dados e relacionamentos
      * - Lança exceção se aluno não for encontrado
      * 
+     * **GET condicional:** Responde com `ETag` e `Last-Modified`; com `If-None-Match` ou
+     * `If-Modified-Since` atuais responde 304, consultando apenas a versão do aluno
+     * 
      * @param id ID do aluno a ser buscado
-     * @return ResponseEntity com o aluno encontrado
+     * @param request Requisição, para os cabeçalhos condicionais
+     * @return ResponseEntity com o aluno encontrado, ou null se respondido com 304
      * @throws ResourceNotFoundException se aluno não existir
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar aluno por ID", description = "Retorna um aluno específico pelo ID")
+    @Operation(summary = "Buscar aluno por ID", description = "Retorna um aluno específico pelo ID (aceita If-None-Match/If-Modified-Since)")
     public ResponseEntity<AlunoDTO> buscarPorId(
-            @Parameter(description = "ID do aluno") @PathVariable Long id) {
+            @Parameter(description = "ID do aluno") @PathVariable Long id,
+            WebRequest request) {
+        if (VersaoRecurso.isCondicional(request)
+                && VersaoRecurso.isNaoModificado(request, id, alunoService.buscarVersao(id))) {
+            return null;
+        }
         AlunoDTO aluno = alunoService.buscarPorId(id);
-        return ResponseEntity.ok(aluno);
+        LocalDateTime versao = aluno.getDataAtualizacao() != null ? aluno.getDataAtualizacao() : aluno.getDataCadastro();
+        return VersaoRecurso.ok(id, versao, aluno);
     }
     
     /**
@@ -238,4 +411,89 @@ public class AlunoController {
         List<AlunoDTO> alunos = alunoService.buscarPorNome(nome);
         return ResponseEntity.ok(alunos);
     }
+    
+    /**
+     * Sugere alunos para autocompletar (typeahead) na recepção.
+     * 
+     * **Comportamento:**
+     * - Considera apenas alunos ativos
+     * - Casa o início do nome, de qualquer palavra do nome ou da matrícula
+     * - Ignora acentos e maiúsculas/minúsculas
+     * - Retorna apenas id, nome e matrícula, limitado a 50 sugestões
+     * 
+     * **Performance:**
+     * Resolvido em memória; adequado para chamadas a cada tecla digitada.
+     * 
+     * @param q Texto digitado
+     * @param limit Quantidade máxima de sugestões (padrão 10, máximo 50)
+     * @return ResponseEntity com as sugestões em ordem de relevância
+     */
+    @GetMapping("/sugestoes")
+    @Operation(summary = "Sugerir alunos", description = "Sugestões de alunos ativos pelo início do nome ou da matrícula")
+    public ResponseEntity<List<AlunoSugestaoDTO>> sugerir(
+            @Parameter(description = "Texto digitado") @RequestParam String q,
+            @Parameter(description = "Quantidade máxima de sugestões") 
+            @RequestParam(defaultValue = "10") int limit) {
+        int limite = Math.max(1, Math.min(limit, LIMITE_MAXIMO_SUGESTOES));
+        List<AlunoSugestaoDTO> sugestoes = alunoService.sugerir(q, limite);
+        return ResponseEntity.ok(sugestoes);
+    }
+    
+    /**
+     * Retorna as estatísticas consolidadas de alunos.
+     * 
+     * **Comportamento:**
+     * - Total, ativos e inativos
+     * - Ativos e inativos por tipo de usuário
+     * - Data da última reconciliação dos contadores com o banco
+     * 
+     * **Performance:**
+     * Servido a partir de contadores em memória, sem consulta ao banco.
+     * 
+     * @return ResponseEntity com as estatísticas de alunos
+     */
+    @GetMapping("/estatisticas")
+    @Operation(summary = "Estatísticas de alunos", description = "Totais de alunos ativos e inativos, por tipo")
+    public ResponseEntity<EstatisticasAlunosDTO> obterEstatisticas() {
+        EstatisticasAlunosDTO estatisticas = alunoService.obterEstatisticas();
+        return ResponseEntity.ok(estatisticas);
+    }
+    
+    /**
+     * Converte o parâmetro `campo[,direcao]` em ordenação, aceitando apenas os campos
+     * de {@link #CAMPOS_ORDENACAO}. O ID é acrescentado como desempate, para que a ordem
+     * entre páginas seja estável.
+     */
+    private Sort ordenacao(String sort) {
+        String[] partes = sort.split(",");
+        String campo = CAMPOS_ORDENACAO.get(partes[0].trim());
+        if (campo == null) {
+            throw new BusinessException("Ordenação não permitida: " + partes[0].trim() 
+                    + ". Campos aceitos: id, nome, dataCadastro, numeroMatricula");
+        }
+        
+        Sort.Direction direcao = Sort.Direction.ASC;
+        if (partes.length > 1) {
+            direcao = Sort.Direction.fromOptionalString(partes[1].trim())
+                    .orElseThrow(() -> new BusinessException("Direção de ordenação inválida: " + partes[1].trim()));
+        }
+        
+        Sort ordenacao = Sort.by(direcao, campo);
+        return "id".equals(campo) ? ordenacao : ordenacao.and(Sort.by("id"));
+    }
+    
+    /**
+     * Escreve um lote de alunos como linhas NDJSON e descarrega o buffer da resposta.
+     */
+    private void escreverNdjson(OutputStream saida, List<AlunoDTO> alunos) {
+        try {
+            for (AlunoDTO aluno : alunos) {
+                saida.write(objectMapper.writeValueAsBytes(aluno));
+                saida.write('\n');
+            }
+            saida.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
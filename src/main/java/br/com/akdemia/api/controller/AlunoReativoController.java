@@ -0,0 +1,100 @@
+package br.com.akdemia.api.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.service.AlunoLeituraReativaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller REST de leitura reativa de alunos, para o tráfego de consultas do app móvel.
+ *
+ * Superfície paralela e somente leitura de {@link AlunoController}: mesmo contrato
+ * {@link AlunoDTO}, consultas não bloqueantes via R2DBC. A thread da requisição é
+ * liberada enquanto o banco responde.
+ *
+ * ## Endpoints Disponíveis
+ *
+ * - **GET /reativo/alunos** - Listar alunos ativos (NDJSON em streaming ou JSON)
+ * - **GET /reativo/alunos/{id}** - Buscar aluno por ID
+ * - **GET /reativo/alunos/buscar** - Buscar alunos ativos por nome e tipo, paginado
+ *
+ * ## Streaming
+ *
+ * Com `Accept: application/x-ndjson` cada aluno é escrito assim que lido, e a leitura
+ * do banco acompanha o ritmo de escrita para o cliente (backpressure). Com
+ * `application/json` a resposta é uma lista JSON completa.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@RestController
+@RequestMapping("/reativo/alunos")
+@Tag(name = "Aluno (reativo)", description = "Consultas não bloqueantes de alunos")
+public class AlunoReativoController {
+
+    /**
+     * Limite superior do tamanho de página aceito na busca.
+     */
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    @Autowired
+    private AlunoLeituraReativaService alunoLeituraReativaService;
+
+    /**
+     * Lista todos os alunos ativos em ordem crescente de ID.
+     *
+     * @return Flux com os alunos ativos
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    @Operation(summary = "Listar alunos (reativo)", description = "Alunos ativos em NDJSON (streaming) ou JSON")
+    public Flux<AlunoDTO> listarTodos() {
+        return alunoLeituraReativaService.listarTodos();
+    }
+
+    /**
+     * Busca um aluno pelo ID (incluindo inativos).
+     *
+     * @param id ID do aluno
+     * @return Mono com o aluno encontrado
+     * @throws ResourceNotFoundException se aluno não existir (404)
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar aluno por ID (reativo)", description = "Retorna um aluno específico pelo ID")
+    public Mono<AlunoDTO> buscarPorId(
+            @Parameter(description = "ID do aluno") @PathVariable Long id) {
+        return alunoLeituraReativaService.buscarPorId(id);
+    }
+
+    /**
+     * Busca alunos ativos por nome e/ou tipo, paginado.
+     *
+     * @param nome Parte do nome, sem diferenciar acentos e maiúsculas (opcional)
+     * @param tipo Tipo de usuário (opcional)
+     * @param page Página, a partir de 0
+     * @param size Tamanho da página (padrão 20, máximo 100)
+     * @return Flux com os alunos da página
+     */
+    @GetMapping(value = "/buscar", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    @Operation(summary = "Buscar alunos (reativo)", description = "Busca alunos ativos por nome e tipo, paginada")
+    public Flux<AlunoDTO> buscar(
+            @Parameter(description = "Nome para busca") @RequestParam(required = false) String nome,
+            @Parameter(description = "Tipo de usuário") @RequestParam(required = false) TipoUsuario tipo,
+            @Parameter(description = "Página") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size) {
+        int tamanho = Math.max(1, Math.min(size, TAMANHO_MAXIMO_PAGINA));
+        return alunoLeituraReativaService.buscarComFiltros(nome, tipo, Math.max(0, page), tamanho);
+    }
+}
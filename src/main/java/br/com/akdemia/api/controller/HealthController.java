@@ -3,21 +3,45 @@ package br.com.akdemia.api.controller;
 import java.time.OffsetDateTime;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Situação resumida da aplicação, para balanceadores que consultam `/health`.
+ *
+ * Reflete o grupo `readiness` do actuator (ver {@link br.com.akdemia.api.health.ProntidaoHealthIndicator}):
+ * responde 200 com UP e 503 com DOWN ou DEGRADED. Os detalhes de cada verificação ficam em
+ * `/actuator/health/readiness`; a vivacidade, em `/actuator/health/liveness`.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
 @RestController
 public class HealthController {
 
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    @Autowired
+    private HttpCodeStatusMapper statusMapper;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
-        return ResponseEntity.ok(
+        HealthComponent prontidao = healthEndpoint.healthForPath("readiness");
+        Status status = prontidao != null ? prontidao.getStatus() : Status.UNKNOWN;
+        return ResponseEntity.status(statusMapper.getStatusCode(status)).body(
             Map.of(
-                "status", "UP",
+                "status", status.getCode(),
                 "service", "api",
                 "timestamp", OffsetDateTime.now().toString()
             )
         );
     }
-}
\ No newline at end of file
+}
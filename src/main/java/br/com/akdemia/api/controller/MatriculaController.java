@@ -0,0 +1,118 @@
+package br.com.akdemia.api.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.akdemia.api.dto.MatriculaDTO;
+import br.com.akdemia.api.dto.MatriculaResumoDTO;
+import br.com.akdemia.api.dto.ResultadoExpiracaoDTO;
+import br.com.akdemia.api.service.ExpiracaoMatriculas;
+import br.com.akdemia.api.service.MatriculaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * Controller REST para as matrículas dos alunos em planos.
+ *
+ * ## Endpoints Disponíveis
+ *
+ * - **POST /matriculas** - Matricular aluno em um plano
+ * - **GET /matriculas/{id}** - Buscar matrícula por ID
+ * - **GET /matriculas/aluno/{alunoId}** - Listar matrículas do aluno, da mais recente para a mais antiga
+ * - **GET /matriculas/ativas?alunoIds=** - Matrícula ativa mais recente de cada aluno (check-in de uma turma, até 500 alunos)
+ * - **POST /matriculas/{id}/suspender** - Suspender matrícula ativa
+ * - **POST /matriculas/{id}/reativar** - Reativar matrícula suspensa
+ * - **POST /matriculas/{id}/cancelar** - Cancelar matrícula ativa ou suspensa
+ * - **POST /matriculas/expiracao** - Executar agora a expiração em lote (também agendada)
+ *
+ * ## Códigos de Status HTTP
+ *
+ * - **200 OK** - Operação realizada com sucesso
+ * - **201 CREATED** - Matrícula criada com sucesso
+ * - **400 BAD REQUEST** - Dados inválidos, aluno com matrícula em vigor, transição de status não permitida
+ *   ou lista de alunos vazia ou acima do limite
+ * - **404 NOT FOUND** - Matrícula, aluno ativo ou plano ativo não encontrado
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@RestController
+@RequestMapping("/matriculas")
+@Tag(name = "Matrícula", description = "Matrículas dos alunos em planos")
+public class MatriculaController {
+
+    @Autowired
+    private MatriculaService matriculaService;
+
+    @Autowired
+    private ExpiracaoMatriculas expiracaoMatriculas;
+
+    @PostMapping
+    @Operation(summary = "Criar matrícula", description = "Matricula um aluno ativo em um plano ativo")
+    public ResponseEntity<MatriculaDTO> criar(@Valid @RequestBody MatriculaDTO matriculaDTO) {
+        MatriculaDTO matriculaCriada = matriculaService.criar(matriculaDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(matriculaCriada);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar matrícula por ID", description = "Retorna a matrícula com os nomes do aluno e do plano")
+    public ResponseEntity<MatriculaDTO> buscarPorId(
+            @Parameter(description = "ID da matrícula") @PathVariable Long id) {
+        return ResponseEntity.ok(matriculaService.buscarPorId(id));
+    }
+
+    @GetMapping("/aluno/{alunoId}")
+    @Operation(summary = "Listar matrículas do aluno", description = "Retorna as matrículas do aluno, da mais recente para a mais antiga")
+    public ResponseEntity<List<MatriculaDTO>> listarPorAluno(
+            @Parameter(description = "ID do aluno") @PathVariable Long alunoId) {
+        return ResponseEntity.ok(matriculaService.listarPorAluno(alunoId));
+    }
+
+    @GetMapping("/ativas")
+    @Operation(summary = "Matrículas ativas dos alunos", description = "Retorna, em uma única consulta, a matrícula ativa mais recente de cada aluno informado (resumo sem nomes)")
+    public ResponseEntity<List<MatriculaResumoDTO>> buscarAtivasPorAlunos(
+            @Parameter(description = "IDs dos alunos (até 500)") @RequestParam List<Long> alunoIds) {
+        return ResponseEntity.ok(matriculaService.buscarAtivasPorAlunos(alunoIds));
+    }
+
+    @PostMapping("/{id}/suspender")
+    @Operation(summary = "Suspender matrícula", description = "Suspende uma matrícula ativa")
+    public ResponseEntity<MatriculaDTO> suspender(
+            @Parameter(description = "ID da matrícula") @PathVariable Long id) {
+        return ResponseEntity.ok(matriculaService.suspender(id));
+    }
+
+    @PostMapping("/{id}/reativar")
+    @Operation(summary = "Reativar matrícula", description = "Reativa uma matrícula suspensa cuja data de fim ainda não passou")
+    public ResponseEntity<MatriculaDTO> reativar(
+            @Parameter(description = "ID da matrícula") @PathVariable Long id) {
+        return ResponseEntity.ok(matriculaService.reativar(id));
+    }
+
+    @PostMapping("/{id}/cancelar")
+    @Operation(summary = "Cancelar matrícula", description = "Cancela uma matrícula ativa ou suspensa")
+    public ResponseEntity<MatriculaDTO> cancelar(
+            @Parameter(description = "ID da matrícula") @PathVariable Long id) {
+        return ResponseEntity.ok(matriculaService.cancelar(id));
+    }
+
+    @PostMapping("/expiracao")
+    @Operation(summary = "Executar expiração", description = "Altera para VENCIDA as matrículas ativas com data de fim anterior a hoje, em lotes")
+    public ResponseEntity<ResultadoExpiracaoDTO> expirar() {
+        return ResponseEntity.ok(expiracaoMatriculas.processar(LocalDate.now()));
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.akdemia.api.controller;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.akdemia.api.dto.PlanoDTO;
+import br.com.akdemia.api.dto.PlanoPopularidadeDTO;
+import br.com.akdemia.api.service.PlanoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * Controller REST para o catálogo de planos da academia.
+ *
+ * As consultas são respondidas a partir do catálogo em memória, sem acesso ao banco,
+ * e retornam apenas planos ativos.
+ *
+ * ## Endpoints Disponíveis
+ *
+ * - **GET /planos** - Listar planos ativos, do menor para o maior valor
+ * - **GET /planos/{id}** - Buscar plano ativo por ID
+ * - **GET /planos/valor?min=&max=** - Planos com valor na faixa (limites opcionais, inclusive)
+ * - **GET /planos/duracao?min=&max=** - Planos com duração em dias na faixa (limites opcionais, inclusive)
+ * - **GET /planos/populares?dias=** - Ranking de popularidade (matrículas não canceladas), total ou nos últimos dias
+ * - **POST /planos** - Criar novo plano
+ * - **PUT /planos/{id}** - Atualizar dados do plano
+ * - **DELETE /planos/{id}** - Desativar plano (soft delete)
+ *
+ * ## Códigos de Status HTTP
+ *
+ * - **200 OK** - Operação realizada com sucesso
+ * - **201 CREATED** - Plano criado com sucesso
+ * - **204 NO CONTENT** - Plano desativado com sucesso
+ * - **400 BAD REQUEST** - Dados inválidos, faixa com mínimo maior que o máximo ou janela fora do limite
+ * - **404 NOT FOUND** - Plano não encontrado
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@RestController
+@RequestMapping("/planos")
+@Tag(name = "Plano", description = "Catálogo de planos da academia")
+public class PlanoController {
+
+    @Autowired
+    private PlanoService planoService;
+
+    @GetMapping
+    @Operation(summary = "Listar planos ativos", description = "Retorna os planos ativos, do menor para o maior valor")
+    public ResponseEntity<List<PlanoDTO>> listarAtivos() {
+        return ResponseEntity.ok(planoService.listarAtivos());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar plano por ID", description = "Retorna um plano ativo pelo ID")
+    public ResponseEntity<PlanoDTO> buscarPorId(
+            @Parameter(description = "ID do plano") @PathVariable Long id) {
+        return ResponseEntity.ok(planoService.buscarPorId(id));
+    }
+
+    @GetMapping("/valor")
+    @Operation(summary = "Planos por faixa de valor", description = "Planos ativos com valor entre min e max (inclusive), do menor para o maior valor")
+    public ResponseEntity<List<PlanoDTO>> buscarPorFaixaDeValor(
+            @Parameter(description = "Valor mínimo") @RequestParam(required = false) BigDecimal min,
+            @Parameter(description = "Valor máximo") @RequestParam(required = false) BigDecimal max) {
+        return ResponseEntity.ok(planoService.buscarPorFaixaDeValor(min, max));
+    }
+
+    @GetMapping("/duracao")
+    @Operation(summary = "Planos por faixa de duração", description = "Planos ativos com duração entre min e max dias (inclusive), da menor para a maior duração")
+    public ResponseEntity<List<PlanoDTO>> buscarPorFaixaDeDuracao(
+            @Parameter(description = "Duração mínima em dias") @RequestParam(required = false) Integer min,
+            @Parameter(description = "Duração máxima em dias") @RequestParam(required = false) Integer max) {
+        return ResponseEntity.ok(planoService.buscarPorFaixaDeDuracao(min, max));
+    }
+
+    @GetMapping("/populares")
+    @Operation(summary = "Planos mais populares", description = "Planos ativos por quantidade de matrículas não canceladas, em todo o histórico ou nos últimos dias")
+    public ResponseEntity<List<PlanoPopularidadeDTO>> listarPopulares(
+            @Parameter(description = "Janela em dias (hoje inclusive); ausente para todo o histórico") @RequestParam(required = false) Integer dias) {
+        return ResponseEntity.ok(planoService.listarPopulares(dias));
+    }
+
+    @PostMapping
+    @Operation(summary = "Criar novo plano", description = "Cria um novo plano, incluído no catálogo após o commit")
+    public ResponseEntity<PlanoDTO> criar(@Valid @RequestBody PlanoDTO planoDTO) {
+        PlanoDTO planoCriado = planoService.criar(planoDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(planoCriado);
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualizar plano", description = "Atualiza os dados de um plano existente")
+    public ResponseEntity<PlanoDTO> atualizar(
+            @Parameter(description = "ID do plano") @PathVariable Long id,
+            @Valid @RequestBody PlanoDTO planoDTO) {
+        return ResponseEntity.ok(planoService.atualizar(id, planoDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Desativar plano", description = "Desativa um plano (soft delete), removendo-o do catálogo")
+    public ResponseEntity<Void> desativar(
+            @Parameter(description = "ID do plano") @PathVariable Long id) {
+        planoService.desativar(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -11,7 +11,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -30,11 +32,17 @@ public class UsuarioController {
     }
     
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar usuário por ID", description = "Retorna um usuário específico pelo ID")
+    @Operation(summary = "Buscar usuário por ID", description = "Retorna um usuário específico pelo ID (aceita If-None-Match/If-Modified-Since)")
     public ResponseEntity<UsuarioDTO> buscarPorId(
-            @Parameter(description = "ID do usuário") @PathVariable Long id) {
+            @Parameter(description = "ID do usuário") @PathVariable Long id,
+            WebRequest request) {
+        if (VersaoRecurso.isCondicional(request)
+                && VersaoRecurso.isNaoModificado(request, id, usuarioService.buscarVersao(id))) {
+            return null;
+        }
         UsuarioDTO usuario = usuarioService.buscarPorId(id);
-        return ResponseEntity.ok(usuario);
+        LocalDateTime versao = usuario.getDataAtualizacao() != null ? usuario.getDataAtualizacao() : usuario.getDataCriacao();
+        return VersaoRecurso.ok(id, versao, usuario);
     }
     
     @GetMapping
@@ -0,0 +1,73 @@
+package br.com.akdemia.api.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETag e Last-Modified de recursos individuais, derivados do ID e da data da última modificação.
+ *
+ * ## Características
+ *
+ * - **ETag forte:** `"<id>-<versão>"`, com a versão em microssegundos (precisão da coluna no banco)
+ * - **Last-Modified:** Data da última modificação no fuso da aplicação, com precisão de segundos
+ * - **Verificação:** {@link WebRequest#checkNotModified(String, long)} - `If-None-Match` tem
+ *   precedência sobre `If-Modified-Since`; a resposta 304 leva os mesmos cabeçalhos
+ *
+ * O controller consulta apenas a versão quando a requisição é condicional e só carrega
+ * o recurso completo se a cópia do cliente estiver desatualizada.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+final class VersaoRecurso {
+
+    private VersaoRecurso() {
+    }
+
+    /**
+     * @return true se a requisição traz `If-None-Match` ou `If-Modified-Since`
+     */
+    static boolean isCondicional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Compara a versão atual com a cópia do cliente; se estiver atual, prepara a resposta 304.
+     *
+     * @return true se o controller deve responder sem corpo (304 já definido)
+     */
+    static boolean isNaoModificado(WebRequest request, Long id, LocalDateTime versao) {
+        return request.checkNotModified(etag(id, versao), ultimaModificacao(versao));
+    }
+
+    /**
+     * Resposta 200 com o corpo e os cabeçalhos de versão (sem eles, se a versão for desconhecida).
+     */
+    static <T> ResponseEntity<T> ok(Long id, LocalDateTime versao, T corpo) {
+        if (versao == null) {
+            return ResponseEntity.ok(corpo);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag(id, versao))
+                .lastModified(ultimaModificacao(versao))
+                .body(corpo);
+    }
+
+    static String etag(Long id, LocalDateTime versao) {
+        LocalDateTime micros = versao.truncatedTo(ChronoUnit.MICROS);
+        long valor = micros.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + micros.getNano() / 1_000;
+        return "\"" + id + "-" + Long.toString(valor, Character.MAX_RADIX) + "\"";
+    }
+
+    private static long ultimaModificacao(LocalDateTime versao) {
+        return versao.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.akdemia.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO leve de sugestão de aluno para autocompletar (typeahead).
+ *
+ * Contém apenas os dados exibidos na lista de sugestões da recepção.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlunoSugestaoDTO {
+
+    /**
+     * ID do aluno.
+     */
+    private Long id;
+
+    /**
+     * Nome completo do aluno.
+     */
+    private String nome;
+
+    /**
+     * Número de matrícula do aluno.
+     */
+    private String numeroMatricula;
+}
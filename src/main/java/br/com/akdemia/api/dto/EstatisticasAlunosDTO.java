@@ -0,0 +1,52 @@
+package br.com.akdemia.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import br.com.akdemia.api.enums.TipoUsuario;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com as estatísticas consolidadas de alunos.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticasAlunosDTO {
+
+    /**
+     * Total de alunos (ativos e inativos).
+     */
+    private long total;
+
+    /**
+     * Quantidade de alunos ativos.
+     */
+    private long ativos;
+
+    /**
+     * Quantidade de alunos inativos.
+     */
+    private long inativos;
+
+    /**
+     * Alunos ativos por tipo de usuário (todos os tipos presentes, inclusive com zero).
+     */
+    private Map<TipoUsuario, Long> ativosPorTipo;
+
+    /**
+     * Alunos inativos por tipo de usuário (todos os tipos presentes, inclusive com zero).
+     */
+    private Map<TipoUsuario, Long> inativosPorTipo;
+
+    /**
+     * Data e hora da última reconciliação dos contadores com o banco.
+     */
+    private LocalDateTime ultimaReconciliacao;
+}
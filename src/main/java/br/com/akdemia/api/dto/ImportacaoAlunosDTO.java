@@ -0,0 +1,44 @@
+package br.com.akdemia.api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o relatório de uma importação de alunos em lote.
+ * 
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Data
+@NoArgsConstructor
+public class ImportacaoAlunosDTO {
+
+    /**
+     * Total de registros lidos do conteúdo enviado.
+     */
+    private int totalRegistros;
+
+    /**
+     * Quantidade de alunos criados.
+     */
+    private int importados;
+
+    /**
+     * Quantidade de registros rejeitados.
+     */
+    private int rejeitados;
+
+    /**
+     * Duração total da importação em milissegundos.
+     */
+    private long duracaoMs;
+
+    /**
+     * Resultado individual de cada registro, na ordem do conteúdo enviado.
+     */
+    private List<ResultadoImportacaoAlunoDTO> resultados = new ArrayList<>();
+}
@@ -4,7 +4,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 import br.com.akdemia.api.enums.StatusMatricula;
 
@@ -18,6 +17,12 @@ public class MatriculaDTO {
     @NotNull(message = "Data de fim é obrigatória")
     private LocalDate dataFim;
     
+    /**
+     * Data de vencimento do pagamento (opcional). Sem pagamento até o fim da carência,
+     * a matrícula é suspensa automaticamente.
+     */
+    private LocalDate dataVencimento;
+    
     private StatusMatricula status;
     
     @NotNull(message = "ID do aluno é obrigatório")
@@ -28,5 +33,5 @@ public class MatriculaDTO {
     
     private String nomeAluno;
     private String nomePlano;
-    private LocalDateTime dataCriacao;
+    private LocalDate dataMatricula;
 }
\ No newline at end of file
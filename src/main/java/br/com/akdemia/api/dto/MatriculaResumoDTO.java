@@ -0,0 +1,33 @@
+package br.com.akdemia.api.dto;
+
+import java.time.LocalDate;
+
+import br.com.akdemia.api.enums.StatusMatricula;
+
+/**
+ * Projeção leve de matrícula, lida diretamente das colunas de `tb_matriculas`
+ * (sem carregar a entidade, o aluno ou o plano).
+ *
+ * **Uso:** Validação de check-in da lista de alunos de uma aula em uma única consulta.
+ *
+ * @param id ID da matrícula
+ * @param alunoId ID do aluno
+ * @param planoId ID do plano
+ * @param status Status da matrícula
+ * @param dataInicio Primeiro dia de vigência
+ * @param dataFim Último dia de vigência
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public record MatriculaResumoDTO(Long id, Long alunoId, Long planoId, StatusMatricula status,
+                                 LocalDate dataInicio, LocalDate dataFim) {
+
+    /**
+     * Indica se a matrícula está ativa e `dia` está no seu período de vigência.
+     */
+    public boolean vigenteEm(LocalDate dia) {
+        return status == StatusMatricula.ATIVA && !dia.isBefore(dataInicio) && !dia.isAfter(dataFim);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.akdemia.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de uma página de resultados.
+ *
+ * Atende aos dois modos de paginação da API:
+ *
+ * - **Por página (OFFSET):** `pagina` preenchida; totais apenas quando solicitados
+ * - **Por cursor (keyset):** `pagina` nula; a próxima página é pedida com `proximoCursor`
+ *
+ * @param <T> Tipo dos itens da página
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+    /**
+     * Itens da página.
+     */
+    private List<T> conteudo;
+
+    /**
+     * Número da página (a partir de 0); nulo na paginação por cursor.
+     */
+    private Integer pagina;
+
+    /**
+     * Tamanho de página solicitado.
+     */
+    private int tamanho;
+
+    /**
+     * Indica se existe próxima página.
+     */
+    private boolean temProxima;
+
+    /**
+     * ID do último item, para pedir a próxima página por cursor; nulo se não houver
+     * próxima página ou se a ordenação não for por ID.
+     */
+    private Long proximoCursor;
+
+    /**
+     * Total de itens do filtro; preenchido apenas quando solicitado.
+     */
+    private Long totalElementos;
+
+    /**
+     * Total de páginas do filtro; preenchido apenas quando solicitado.
+     */
+    private Integer totalPaginas;
+}
@@ -0,0 +1,28 @@
+package br.com.akdemia.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de uma posição no ranking de popularidade dos planos.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanoPopularidadeDTO {
+
+    /**
+     * Plano ativo.
+     */
+    private PlanoDTO plano;
+
+    /**
+     * Matrículas não canceladas no plano, na janela consultada.
+     */
+    private long matriculas;
+}
@@ -0,0 +1,18 @@
+package br.com.akdemia.api.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Resultado de uma execução da expiração de matrículas em lote.
+ *
+ * @param referencia Data de referência (vencem as matrículas com data de fim anterior a ela)
+ * @param processadas Matrículas alteradas de `ATIVA` para `VENCIDA`
+ * @param lotes Quantidade de lotes (UPDATEs) executados
+ * @param duracaoMs Duração da execução em milissegundos
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public record ResultadoExpiracaoDTO(LocalDate referencia, long processadas, int lotes, long duracaoMs) {
+}
@@ -0,0 +1,49 @@
+package br.com.akdemia.api.dto;
+
+import br.com.akdemia.api.enums.StatusImportacao;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado da importação de um registro de aluno.
+ * 
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoImportacaoAlunoDTO {
+
+    /**
+     * Posição do registro no conteúdo enviado (1 = primeiro registro).
+     */
+    private int linha;
+
+    /**
+     * Resultado da importação do registro.
+     */
+    private StatusImportacao status;
+
+    /**
+     * ID do aluno criado (null se rejeitado).
+     */
+    private Long id;
+
+    /**
+     * Número de matrícula gerado (null se rejeitado).
+     */
+    private String numeroMatricula;
+
+    /**
+     * Email informado no registro, para identificação.
+     */
+    private String email;
+
+    /**
+     * Motivo da rejeição (null se importado).
+     */
+    private String mensagem;
+}
@@ -8,6 +8,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.search.NormalizadorNome;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -17,17 +18,22 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -43,6 +49,9 @@ import lombok.ToString;
  * - **Validação:** Bean Validation aplicada em todos os campos obrigatórios
  * - **Relacionamentos:** OneToMany com Matrícula, Treino e Avaliação
  * - **Unicidade:** Email, CPF e número de matrícula únicos no sistema
+ * - **Busca por nome:** Coluna `nome_busca` normalizada (sem acentos, minúsculas)
+ * - **Índices:** Compostos iniciados por `ativo` para os filtros de status com tipo e
+ *   datas; planos verificados por AlunoRepositoryPlanoExecucaoTest
  * 
  * ## Regras de Negócio
  * 
@@ -63,7 +72,19 @@ import lombok.ToString;
  * @since 2025-01-29
  */
 @Entity
-@Table(name = "tb_alunos")
+@Table(name = "tb_alunos", uniqueConstraints = {
+        @UniqueConstraint(name = Aluno.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = Aluno.UK_CPF, columnNames = "cpf"),
+        @UniqueConstraint(name = Aluno.UK_NUMERO_MATRICULA, columnNames = "numero_matricula")
+}, indexes = {
+        @Index(name = "idx_alunos_nome_busca", columnList = "nome_busca"),
+        @Index(name = "idx_alunos_ativo_tipo", columnList = "ativo, tipo"),
+        @Index(name = "idx_alunos_ativo_id", columnList = "ativo, id"),
+        @Index(name = "idx_alunos_ativo_nome_busca", columnList = "ativo, nome_busca"),
+        @Index(name = "idx_alunos_ativo_data_cadastro", columnList = "ativo, data_cadastro"),
+        @Index(name = "idx_alunos_ativo_data_desativacao", columnList = "ativo, data_desativacao"),
+        @Index(name = "idx_alunos_data_cadastro", columnList = "data_cadastro")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -71,12 +92,22 @@ import lombok.ToString;
 @ToString(exclude = { "matriculas", "treinos", "avaliacoes" })
 public class Aluno {
 
+    /**
+     * Nomes das constraints de unicidade, utilizados para identificar o campo
+     * em conflito quando o banco rejeita uma inserção ou atualização.
+     */
+    public static final String UK_EMAIL = "uk_alunos_email";
+    public static final String UK_CPF = "uk_alunos_cpf";
+    public static final String UK_NUMERO_MATRICULA = "uk_alunos_numero_matricula";
+
     /**
      * Identificador único do aluno.
-     * Gerado automaticamente pela estratégia IDENTITY.
+     * Gerado pela sequência seq_alunos, reservando blocos de IDs (allocationSize)
+     * para permitir inserções em lote via JDBC batch - o que a estratégia IDENTITY impede.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_alunos")
+    @SequenceGenerator(name = "seq_alunos", sequenceName = "seq_alunos", allocationSize = 50)
     private Long id;
 
     /**
@@ -86,7 +117,7 @@ public class Aluno {
      */
     @Email(message = "Email deve ser válido")
     @NotBlank(message = "Email é obrigatório")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     /**
@@ -96,7 +127,7 @@ public class Aluno {
      */
     @NotBlank(message = "CPF é obrigatório")
     @Pattern(regexp = "\\d{11}", message = "CPF deve conter 11 dígitos")
-    @Column(unique = true, nullable = false, length = 11)
+    @Column(nullable = false, length = 11)
     private String cpf;
 
     /**
@@ -108,6 +139,14 @@ public class Aluno {
     @Column(nullable = false, length = 100)
     private String nome;
 
+    /**
+     * Nome normalizado para busca (sem acentos, minúsculas, espaços simples).
+     * Mantido automaticamente a partir de {@link #setNome(String)}.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "nome_busca", nullable = false, length = 100)
+    private String nomeBusca;
+
     /**
      * Telefone de contato do aluno.
      * Obrigatório para comunicações e emergências.
@@ -132,7 +171,7 @@ public class Aluno {
      * Utilizado para identificação rápida e relatórios.
      */
     @NotNull(message = "Matrícula é obrigatória")
-    @Column(nullable = false, unique = true, length = 20)
+    @Column(name = "numero_matricula", nullable = false, length = 20)
     private String numeroMatricula;
 
     /**
@@ -207,4 +246,14 @@ public class Aluno {
      */
     @OneToMany(mappedBy = "aluno", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Avaliacao> avaliacoes = new ArrayList<>();
+
+    /**
+     * Define o nome do aluno e atualiza o nome normalizado para busca.
+     *
+     * @param nome Nome completo do aluno
+     */
+    public void setNome(String nome) {
+        this.nome = nome;
+        this.nomeBusca = NormalizadorNome.normalizar(nome);
+    }
 }
\ No newline at end of file
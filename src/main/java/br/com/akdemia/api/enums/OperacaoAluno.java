@@ -0,0 +1,8 @@
+package br.com.akdemia.api.enums;
+
+public enum OperacaoAluno {
+    CRIADO,
+    ATUALIZADO,
+    DESATIVADO,
+    REATIVADO
+}
@@ -0,0 +1,6 @@
+package br.com.akdemia.api.enums;
+
+public enum StatusImportacao {
+    IMPORTADO,
+    REJEITADO
+}
@@ -0,0 +1,43 @@
+package br.com.akdemia.api.event;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.OperacaoAluno;
+import br.com.akdemia.api.enums.TipoUsuario;
+
+/**
+ * Evento publicado a cada criação, atualização, desativação ou reativação de aluno.
+ * 
+ * Componentes que mantêm estado derivado em memória (cache, índices, contadores)
+ * devem consumi-lo com `@TransactionalEventListener(phase = AFTER_COMMIT)`, para
+ * refletir apenas alterações efetivamente gravadas no banco.
+ * 
+ * **Situação anterior:** `tipoAnterior` e `ativoAnterior` descrevem o aluno antes da
+ * operação (null na criação), permitindo calcular a transição sem consultar o banco.
+ * Uma atualização pode alterar o tipo e também o status ativo.
+ * 
+ * @param operacao Operação realizada
+ * @param aluno Estado do aluno após a operação (DTO simplificado)
+ * @param tipoAnterior Tipo antes da operação (null na criação)
+ * @param ativoAnterior Status ativo antes da operação (null na criação)
+ * 
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public record AlunoAlteradoEvent(OperacaoAluno operacao, AlunoDTO aluno,
+                                 TipoUsuario tipoAnterior, Boolean ativoAnterior) {
+
+    /**
+     * Evento de criação, sem situação anterior.
+     */
+    public static AlunoAlteradoEvent criado(AlunoDTO aluno) {
+        return new AlunoAlteradoEvent(OperacaoAluno.CRIADO, aluno, null, null);
+    }
+
+    /**
+     * Indica se o aluno está ativo após a operação.
+     */
+    public boolean ativo() {
+        return Boolean.TRUE.equals(aluno.getAtivo());
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.akdemia.api.event;
+
+import java.util.List;
+
+/**
+ * Evento publicado pela agenda de matrículas quando matrículas ativas chegam à antecedência
+ * do lembrete de renovação (`akdemia.matriculas.agenda.lembrete-antecedencia-dias` antes da data de fim).
+ *
+ * Ponto de extensão para notificações: a aplicação não registra consumidores, e sem eles o
+ * evento é apenas descartado (o disparo é contado em `akdemia.matriculas.agenda.disparos`).
+ *
+ * Publicado em lotes, fora de transação; consumidores devem usar `@EventListener`, não bloquear
+ * a thread da agenda por muito tempo e conferir o status atual das matrículas, que podem ter
+ * sido canceladas entre o disparo e o processamento.
+ *
+ * @param matriculaIds IDs das matrículas do lote
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public record LembreteRenovacaoEvent(List<Long> matriculaIds) {
+}
@@ -0,0 +1,42 @@
+package br.com.akdemia.api.event;
+
+import java.time.LocalDate;
+
+import br.com.akdemia.api.enums.StatusMatricula;
+
+/**
+ * Evento publicado a cada criação ou mudança de status de uma matrícula.
+ *
+ * Assim como {@link AlunoAlteradoEvent}, deve ser consumido com
+ * `@TransactionalEventListener(phase = AFTER_COMMIT)` por componentes que mantêm
+ * estado derivado em memória (ex: popularidade dos planos, agenda de matrículas).
+ *
+ * **Situação anterior:** `statusAnterior` é null na criação, permitindo calcular a
+ * transição sem consultar o banco.
+ *
+ * @param matriculaId ID da matrícula
+ * @param alunoId ID do aluno
+ * @param planoId ID do plano
+ * @param dataMatricula Data em que a matrícula foi feita
+ * @param dataFim Último dia de vigência
+ * @param dataVencimento Data de vencimento do pagamento (null se não informada)
+ * @param statusAnterior Status antes da operação (null na criação)
+ * @param status Status após a operação
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public record MatriculaAlteradaEvent(Long matriculaId, Long alunoId, Long planoId, LocalDate dataMatricula,
+                                     LocalDate dataFim, LocalDate dataVencimento,
+                                     StatusMatricula statusAnterior, StatusMatricula status) {
+
+    /**
+     * Evento de criação, sem situação anterior.
+     */
+    public static MatriculaAlteradaEvent criada(Long matriculaId, Long alunoId, Long planoId, LocalDate dataMatricula,
+                                                LocalDate dataFim, LocalDate dataVencimento, StatusMatricula status) {
+        return new MatriculaAlteradaEvent(matriculaId, alunoId, planoId, dataMatricula, dataFim, dataVencimento,
+                null, status);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.akdemia.api.event;
+
+/**
+ * Evento publicado a cada criação, atualização ou desativação de plano.
+ *
+ * O catálogo de planos em memória o consome após o commit
+ * (`@TransactionalEventListener(phase = AFTER_COMMIT)`) e recarrega o seu snapshot.
+ *
+ * @param planoId ID do plano alterado
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public record PlanoAlteradoEvent(Long planoId) {
+}
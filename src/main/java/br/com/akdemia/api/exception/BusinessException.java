@@ -1,7 +1,17 @@
 package br.com.akdemia.api.exception;
 
+/**
+ * Violação de regra de negócio (ex: email já cadastrado), respondida com 400.
+ *
+ * Resultado esperado de uma requisição, e não falha da aplicação: não captura stack trace,
+ * que seria descartado pelo {@link GlobalExceptionHandler} (apenas a mensagem é registrada).
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
 public class BusinessException extends RuntimeException {
     public BusinessException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package br.com.akdemia.api.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Resposta de erro de conteúdo fixo, serializada uma única vez.
+ *
+ * Para erros sem dados da requisição na mensagem (ex: caminho inexistente, erro interno),
+ * todo o JSON de {@link ErrorResponse} é pré-calculado na inicialização; a cada resposta
+ * apenas o `timestamp` é formatado e concatenado, sem passar pelo Jackson.
+ * O JSON produzido é idêntico ao do {@link ErrorResponse} equivalente.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+final class CorpoErroFixo {
+
+    private static final String INICIO_SEM_TIMESTAMP = "{\"timestamp\":null";
+    private static final byte[] INICIO = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpStatus status;
+
+    /**
+     * Restante do JSON após o valor do timestamp (`","status":...}`).
+     */
+    private final byte[] restante;
+
+    CorpoErroFixo(ObjectMapper objectMapper, HttpStatus status, String erro, String mensagem) {
+        this.status = status;
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(ErrorResponse.builder()
+                    .status(status.value())
+                    .error(erro)
+                    .message(mensagem)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a resposta de erro " + status, e);
+        }
+        if (!json.startsWith(INICIO_SEM_TIMESTAMP)) {
+            throw new IllegalStateException("ErrorResponse deve iniciar pelo timestamp: " + json);
+        }
+        this.restante = ("\"" + json.substring(INICIO_SEM_TIMESTAMP.length())).getBytes(StandardCharsets.UTF_8);
+    }
+
+    ResponseEntity<byte[]> resposta() {
+        return resposta(HttpHeaders.EMPTY);
+    }
+
+    /**
+     * @param cabecalhos Cabeçalhos adicionais da resposta (ex: `Allow` do 405)
+     */
+    ResponseEntity<byte[]> resposta(HttpHeaders cabecalhos) {
+        byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                .getBytes(StandardCharsets.US_ASCII);
+        byte[] corpo = new byte[INICIO.length + timestamp.length + restante.length];
+        System.arraycopy(INICIO, 0, corpo, 0, INICIO.length);
+        System.arraycopy(timestamp, 0, corpo, INICIO.length, timestamp.length);
+        System.arraycopy(restante, 0, corpo, INICIO.length + timestamp.length, restante.length);
+        return ResponseEntity.status(status).headers(cabecalhos).contentType(MediaType.APPLICATION_JSON).body(corpo);
+    }
+}
@@ -1,60 +1,112 @@
 package br.com.akdemia.api.exception;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.CollectionUtils;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * Converte as exceções das requisições em {@link ErrorResponse}.
+ *
+ * ## Características
+ *
+ * - **Corpos fixos:** Erros sem dados da requisição na mensagem (caminho inexistente, método
+ *   não suportado, corpo ilegível, erro interno) usam JSON pré-calculado ({@link CorpoErroFixo});
+ *   o 405 inclui o cabeçalho `Allow` com os métodos suportados
+ * - **Log amostrado:** No máximo `akdemia.erros.log.maximo-por-intervalo` linhas por tipo de
+ *   exceção a cada `akdemia.erros.log.intervalo` ({@link RegistroErros}); erros do cliente (4xx)
+ *   em WARN sem stack trace, erros internos em ERROR com stack trace
+ * - **Métrica:** `akdemia.erros{excecao, status}`, por tipo de exceção
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
-    
+
+    private final RegistroErros registroErros;
+    private final CorpoErroFixo caminhoInexistente;
+    private final CorpoErroFixo metodoNaoSuportado;
+    private final CorpoErroFixo corpoIlegivel;
+    private final CorpoErroFixo erroInterno;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper,
+                                  ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${akdemia.erros.log.maximo-por-intervalo:10}") int maximoLogsPorIntervalo,
+                                  @Value("${akdemia.erros.log.intervalo:10s}") Duration intervaloLogs) {
+        this.registroErros = new RegistroErros(meterRegistry.getIfAvailable(), maximoLogsPorIntervalo, intervaloLogs);
+        this.caminhoInexistente = new CorpoErroFixo(objectMapper, HttpStatus.NOT_FOUND,
+                "Recurso não encontrado", "Caminho não encontrado");
+        this.metodoNaoSuportado = new CorpoErroFixo(objectMapper, HttpStatus.METHOD_NOT_ALLOWED,
+                "Método não suportado", "Método HTTP não suportado para este caminho");
+        this.corpoIlegivel = new CorpoErroFixo(objectMapper, HttpStatus.BAD_REQUEST,
+                "Requisição inválida", "Corpo da requisição ausente ou mal formatado");
+        this.erroInterno = new CorpoErroFixo(objectMapper, HttpStatus.INTERNAL_SERVER_ERROR,
+                "Erro interno do servidor", "Ocorreu um erro inesperado");
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex) {
-        log.error("Recurso não encontrado: {}", ex.getMessage());
-        
+        registrar(ex, HttpStatus.NOT_FOUND, "Recurso não encontrado");
+
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.NOT_FOUND.value())
                 .error("Recurso não encontrado")
                 .message(ex.getMessage())
                 .build();
-        
+
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
-    
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
-        log.error("Erro de negócio: {}", ex.getMessage());
-        
+        registrar(ex, HttpStatus.BAD_REQUEST, "Erro de negócio");
+
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Erro de negócio")
                 .message(ex.getMessage())
                 .build();
-        
+
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-    
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        log.error("Erro de validação: {}", ex.getMessage());
-        
+        registrar(ex, HttpStatus.BAD_REQUEST, "Erro de validação");
+
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
-        
+
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
@@ -62,21 +114,70 @@ public class GlobalExceptionHandler {
                 .message("Dados inválidos")
                 .validationErrors(errors)
                 .build();
-        
+
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-    
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
-        log.error("Erro interno do servidor: {}", ex.getMessage(), ex);
-        
+
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleParametroInvalido(Exception ex) {
+        registrar(ex, HttpStatus.BAD_REQUEST, "Parâmetro inválido");
+
+        String mensagem = ex instanceof MissingServletRequestParameterException ausente
+                ? "Parâmetro obrigatório ausente: " + ausente.getParameterName()
+                : "Valor inválido para o parâmetro: " + ((MethodArgumentTypeMismatchException) ex).getName();
+
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("Erro interno do servidor")
-                .message("Ocorreu um erro inesperado")
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Requisição inválida")
+                .message(mensagem)
                 .build();
-        
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<byte[]> handleCaminhoInexistente(NoResourceFoundException ex) {
+        registrar(ex, HttpStatus.NOT_FOUND, "Caminho não encontrado");
+        return caminhoInexistente.resposta();
+    }
+
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    public ResponseEntity<byte[]> handleMetodoNaoSuportado(HttpRequestMethodNotSupportedException ex) {
+        registrar(ex, HttpStatus.METHOD_NOT_ALLOWED, "Método não suportado");
+        HttpHeaders cabecalhos = new HttpHeaders();
+        Set<HttpMethod> suportados = ex.getSupportedHttpMethods();
+        if (!CollectionUtils.isEmpty(suportados)) {
+            cabecalhos.setAllow(suportados);
+        }
+        return metodoNaoSuportado.resposta(cabecalhos);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<byte[]> handleCorpoIlegivel(HttpMessageNotReadableException ex) {
+        registrar(ex, HttpStatus.BAD_REQUEST, "Corpo da requisição inválido");
+        return corpoIlegivel.resposta();
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<byte[]> handleGenericException(Exception ex) {
+        registrar(ex, HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor");
+        return erroInterno.resposta();
+    }
+
+    /**
+     * Conta a exceção e, se dentro do limite do intervalo, registra no log.
+     */
+    private void registrar(Exception ex, HttpStatus status, String descricao) {
+        long omitidas = registroErros.registrar(ex, status);
+        if (omitidas == RegistroErros.OMITIR) {
+            return;
+        }
+        String complemento = omitidas > 0 ? " (+" + omitidas + " ocorrências não registradas no log)" : "";
+        if (status.is5xxServerError()) {
+            log.error("{}: {}{}", descricao, ex.getMessage(), complemento, ex);
+        } else {
+            log.warn("{}: {}{}", descricao, ex.getMessage(), complemento);
+        }
     }
-}
\ No newline at end of file
+}
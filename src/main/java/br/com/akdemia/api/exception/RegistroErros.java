@@ -0,0 +1,94 @@
+package br.com.akdemia.api.exception;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contagem e amostragem de log das exceções tratadas por {@link GlobalExceptionHandler}.
+ *
+ * ## Características
+ *
+ * - **Métrica:** Contador `akdemia.erros` por exceção (`excecao`) e status HTTP (`status`),
+ *   criado uma vez por tipo de exceção
+ * - **Amostragem:** No máximo `maximoPorIntervalo` logs por tipo de exceção a cada `intervalo`;
+ *   as demais ocorrências são apenas contadas e informadas no próximo log emitido
+ * - **Limite:** Um registro por classe de exceção, conjunto finito definido pelo código
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+class RegistroErros {
+
+    /**
+     * Retorno de {@link #registrar} quando a ocorrência não deve ser logada.
+     */
+    static final long OMITIR = -1;
+
+    private final MeterRegistry meterRegistry;
+    private final int maximoPorIntervalo;
+    private final long intervaloNanos;
+    private final Map<Class<?>, Registro> registros = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry      Registro de métricas, ou null para apenas amostrar o log
+     * @param maximoPorIntervalo Logs por tipo de exceção em cada intervalo
+     * @param intervalo          Duração do intervalo
+     */
+    RegistroErros(MeterRegistry meterRegistry, int maximoPorIntervalo, Duration intervalo) {
+        this.meterRegistry = meterRegistry;
+        this.maximoPorIntervalo = maximoPorIntervalo;
+        this.intervaloNanos = intervalo.toNanos();
+    }
+
+    /**
+     * Conta a ocorrência e decide se ela deve ser logada.
+     *
+     * @param excecao Exceção tratada
+     * @param status  Status HTTP da resposta
+     * @return {@link #OMITIR}, ou a quantidade de ocorrências omitidas desde o último log deste tipo
+     */
+    long registrar(Exception excecao, HttpStatus status) {
+        Registro registro = registros.computeIfAbsent(excecao.getClass(), tipo -> new Registro(tipo, status));
+        if (registro.contador != null) {
+            registro.contador.increment();
+        }
+        return registro.permitirLog(System.nanoTime());
+    }
+
+    private final class Registro {
+
+        private final Counter contador;
+        private final AtomicLong inicioIntervalo = new AtomicLong(System.nanoTime());
+        private final AtomicInteger logsNoIntervalo = new AtomicInteger();
+        private final AtomicLong omitidas = new AtomicLong();
+
+        Registro(Class<?> tipo, HttpStatus status) {
+            this.contador = meterRegistry == null ? null : Counter.builder("akdemia.erros")
+                    .description("Exceções tratadas, por tipo e status HTTP")
+                    .tag("excecao", tipo.getSimpleName())
+                    .tag("status", String.valueOf(status.value()))
+                    .register(meterRegistry);
+        }
+
+        long permitirLog(long agora) {
+            long inicio = inicioIntervalo.get();
+            if (agora - inicio >= intervaloNanos && inicioIntervalo.compareAndSet(inicio, agora)) {
+                logsNoIntervalo.set(0);
+            }
+            if (logsNoIntervalo.incrementAndGet() <= maximoPorIntervalo) {
+                return omitidas.getAndSet(0);
+            }
+            omitidas.incrementAndGet();
+            return OMITIR;
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package br.com.akdemia.api.exception;
 
+/**
+ * Recurso inexistente (ex: aluno com o ID informado), respondido com 404.
+ *
+ * Resultado esperado de uma requisição, e não falha da aplicação: não captura stack trace,
+ * que seria descartado pelo {@link GlobalExceptionHandler} (apenas a mensagem é registrada).
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package br.com.akdemia.api.health;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+/**
+ * Percentil 99 da latência das requisições HTTP em uma janela de tempo recente.
+ *
+ * Não mede nada por conta própria: lê os histogramas de `http.server.requests` já
+ * registrados pelo Micrometer (`percentiles-histogram` em application.yml) e calcula o
+ * p99 sobre a diferença entre duas leituras, somando todos os endpoints. Assim o valor
+ * reflete a última janela, e não toda a vida do processo.
+ *
+ * ## Características
+ *
+ * - **Janela:** `akdemia.saude.prontidao.latencia.janela`; a estimativa é recalculada quando
+ *   consultada após o fim da janela e mantida até o fim da seguinte
+ * - **Amostras mínimas:** Com menos de `akdemia.saude.prontidao.latencia.amostras-minimas`
+ *   requisições na janela não há estimativa (p99 de poucas amostras é apenas o máximo)
+ * - **Precisão:** Limite superior do intervalo do histograma onde cai o p99
+ * - **Ignorados:** Endpoints do actuator e `/health`, para as próprias sondas não diluírem o valor
+ *
+ * Pressupõe histogramas cumulativos, como os do registro Prometheus.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+public class LatenciaRequisicoes {
+
+    private static final String METRICA = "http.server.requests";
+    private static final double PERCENTIL = 0.99;
+
+    private final MeterRegistry meterRegistry;
+    private final long janelaNanos;
+    private final long amostrasMinimas;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Leitura base;
+    private volatile Estimativa ultima;
+
+    public LatenciaRequisicoes(MeterRegistry meterRegistry,
+                               @Value("${akdemia.saude.prontidao.latencia.janela:30s}") Duration janela,
+                               @Value("${akdemia.saude.prontidao.latencia.amostras-minimas:50}") long amostrasMinimas) {
+        this.meterRegistry = meterRegistry;
+        this.janelaNanos = janela.toNanos();
+        this.amostrasMinimas = amostrasMinimas;
+    }
+
+    /**
+     * Retorna a estimativa da última janela completa.
+     *
+     * @return Estimativa, ou null antes do fim da primeira janela ou com poucas amostras
+     */
+    public Estimativa p99() {
+        if (!lock.tryLock()) {
+            return ultima;
+        }
+        try {
+            long agora = System.nanoTime();
+            if (base == null) {
+                base = ler(agora);
+            } else if (agora - base.instante() >= janelaNanos) {
+                Leitura atual = ler(agora);
+                ultima = estimar(atual, base);
+                base = atual;
+            }
+            return ultima;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Leitura ler(long instante) {
+        TreeMap<Double, Double> acumuladoPorLimite = new TreeMap<>();
+        long total = 0;
+        for (Timer timer : meterRegistry.find(METRICA).timers()) {
+            String uri = timer.getId().getTag("uri");
+            if (uri != null && (uri.startsWith("/actuator") || uri.equals("/health"))) {
+                continue;
+            }
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                acumuladoPorLimite.merge(bucket.bucket(TimeUnit.MILLISECONDS), bucket.count(), Double::sum);
+            }
+            total += snapshot.count();
+        }
+        return new Leitura(instante, acumuladoPorLimite, total);
+    }
+
+    private Estimativa estimar(Leitura atual, Leitura anterior) {
+        long amostras = atual.total() - anterior.total();
+        if (amostras < amostrasMinimas || atual.acumuladoPorLimite().isEmpty()) {
+            return null;
+        }
+
+        double alvo = Math.ceil(amostras * PERCENTIL);
+        double limiteSuperior = atual.acumuladoPorLimite().lastKey();
+        for (Map.Entry<Double, Double> bucket : atual.acumuladoPorLimite().entrySet()) {
+            double noBucket = bucket.getValue() - anterior.acumuladoPorLimite().getOrDefault(bucket.getKey(), 0.0);
+            if (noBucket >= alvo) {
+                limiteSuperior = bucket.getKey();
+                break;
+            }
+        }
+        return new Estimativa(limiteSuperior, amostras);
+    }
+
+    /**
+     * @param p99Ms    Limite superior, em milissegundos, do intervalo onde cai o p99
+     * @param amostras Requisições na janela
+     */
+    public record Estimativa(double p99Ms, long amostras) {
+    }
+
+    private record Leitura(long instante, TreeMap<Double, Double> acumuladoPorLimite, long total) {
+    }
+}
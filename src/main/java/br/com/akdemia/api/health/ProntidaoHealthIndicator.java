@@ -0,0 +1,110 @@
+package br.com.akdemia.api.health;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Indicador de prontidão para receber tráfego (grupo `readiness` do actuator).
+ *
+ * ## Situações
+ *
+ * - **DOWN:** Banco indisponível ou sem resposta no tempo limite ({@link SondaBancoDados})
+ * - **DEGRADED:** Banco disponível, mas pool de conexões saturado
+ *   (`akdemia.saude.prontidao.saturacao-pool-maxima`) ou p99 da latência acima de
+ *   `akdemia.saude.prontidao.latencia.p99-maximo` ({@link LatenciaRequisicoes})
+ * - **UP:** Nenhuma das anteriores
+ *
+ * DOWN e DEGRADED respondem 503 (`management.endpoint.health.status.http-mapping`),
+ * retirando a instância do balanceador até se recuperar. A vivacidade (`liveness`)
+ * não depende deste indicador: banco lento não é motivo para reiniciar a aplicação.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+public class ProntidaoHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADADO = new Status("DEGRADED", "Capacidade reduzida: pool saturado ou latência alta");
+
+    private final SondaBancoDados sondaBancoDados;
+    private final LatenciaRequisicoes latenciaRequisicoes;
+    private final HikariDataSource hikari;
+    private final double saturacaoPoolMaxima;
+    private final long p99MaximoMs;
+
+    public ProntidaoHealthIndicator(SondaBancoDados sondaBancoDados,
+                                    LatenciaRequisicoes latenciaRequisicoes,
+                                    DataSource dataSource,
+                                    @Value("${akdemia.saude.prontidao.saturacao-pool-maxima:0.9}") double saturacaoPoolMaxima,
+                                    @Value("${akdemia.saude.prontidao.latencia.p99-maximo:2s}") Duration p99Maximo) {
+        this.sondaBancoDados = sondaBancoDados;
+        this.latenciaRequisicoes = latenciaRequisicoes;
+        this.hikari = hikari(dataSource);
+        this.saturacaoPoolMaxima = saturacaoPoolMaxima;
+        this.p99MaximoMs = p99Maximo.toMillis();
+    }
+
+    @Override
+    public Health health() {
+        Health banco = sondaBancoDados.verificar();
+        if (!Status.UP.equals(banco.getStatus())) {
+            return Health.status(banco.getStatus()).withDetail("banco", banco).build();
+        }
+
+        List<String> motivos = new ArrayList<>();
+        Health.Builder builder = Health.up().withDetail("banco", banco);
+
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool != null) {
+            int maximo = hikari.getMaximumPoolSize();
+            double saturacao = (double) pool.getActiveConnections() / maximo;
+            Map<String, Object> detalhesPool = new LinkedHashMap<>();
+            detalhesPool.put("ativas", pool.getActiveConnections());
+            detalhesPool.put("maximo", maximo);
+            detalhesPool.put("aguardando", pool.getThreadsAwaitingConnection());
+            detalhesPool.put("saturacao", saturacao);
+            builder.withDetail("pool", detalhesPool);
+
+            if (saturacao >= saturacaoPoolMaxima || pool.getThreadsAwaitingConnection() > 0) {
+                motivos.add("Pool de conexões saturado");
+            }
+        }
+
+        LatenciaRequisicoes.Estimativa latencia = latenciaRequisicoes.p99();
+        if (latencia != null) {
+            builder.withDetail("latencia", Map.of("p99Ms", latencia.p99Ms(), "amostras", latencia.amostras()));
+            if (latencia.p99Ms() > p99MaximoMs) {
+                motivos.add("p99 da latência acima de " + p99MaximoMs + " ms");
+            }
+        }
+
+        if (!motivos.isEmpty()) {
+            builder.status(DEGRADADO).withDetail("motivos", motivos);
+        }
+        return builder.build();
+    }
+
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
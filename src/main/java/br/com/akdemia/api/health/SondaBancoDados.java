@@ -0,0 +1,151 @@
+package br.com.akdemia.api.health;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Verificação de disponibilidade do banco de dados, com tempo limite e resultado em cache.
+ *
+ * Obtém uma conexão do pool e a valida com `Connection.isValid` (consulta de validação do
+ * driver). A verificação roda em uma thread própria: quem consulta espera no máximo
+ * `akdemia.saude.banco.timeout`, mesmo que o pool esteja esgotado ou o banco não responda.
+ *
+ * ## Características
+ *
+ * - **Cache:** O resultado vale por `akdemia.saude.banco.validade`; chamadas nesse intervalo
+ *   (ex: vários balanceadores consultando a prontidão) não acessam o banco
+ * - **Uma verificação por vez:** Enquanto uma verificação anterior ainda aguarda o banco,
+ *   nenhuma outra é iniciada e o banco é reportado como DOWN, sem acumular threads presas
+ * - **Concorrência:** Se outra thread está verificando, devolve o último resultado conhecido
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class SondaBancoDados implements DisposableBean {
+
+    private final DataSource dataSource;
+    private final Duration timeout;
+    private final long validadeNanos;
+    private final ExecutorService executor;
+    private final ReentrantLock lockVerificacao = new ReentrantLock();
+
+    private volatile Resultado ultimo;
+
+    /**
+     * Verificação em execução; acessada apenas com {@link #lockVerificacao}.
+     */
+    private Future<?> emAndamento;
+
+    public SondaBancoDados(DataSource dataSource,
+                           @Value("${akdemia.saude.banco.timeout:1s}") Duration timeout,
+                           @Value("${akdemia.saude.banco.validade:2s}") Duration validade) {
+        this.dataSource = dataSource;
+        this.timeout = timeout;
+        this.validadeNanos = validade.toNanos();
+        this.executor = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "sonda-banco");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Retorna a situação do banco: a última verificação, se ainda válida, ou uma nova.
+     *
+     * @return UP com o tempo de resposta, DOWN com o motivo, ou UNKNOWN antes da primeira verificação
+     */
+    public Health verificar() {
+        Resultado atual = ultimo;
+        if (isValido(atual)) {
+            return atual.health();
+        }
+        if (!lockVerificacao.tryLock()) {
+            return atual != null
+                    ? atual.health()
+                    : Health.unknown().withDetail("motivo", "Primeira verificação em andamento").build();
+        }
+        try {
+            atual = ultimo;
+            if (isValido(atual)) {
+                return atual.health();
+            }
+            Health health = executarVerificacao();
+            ultimo = new Resultado(health, System.nanoTime());
+            return health;
+        } finally {
+            lockVerificacao.unlock();
+        }
+    }
+
+    private boolean isValido(Resultado resultado) {
+        return resultado != null && System.nanoTime() - resultado.instante() < validadeNanos;
+    }
+
+    private Health executarVerificacao() {
+        if (emAndamento != null && !emAndamento.isDone()) {
+            return Health.down()
+                    .withDetail("erro", "Verificação anterior ainda aguarda o banco")
+                    .build();
+        }
+
+        long inicio = System.nanoTime();
+        emAndamento = executor.submit(() -> {
+            validarConexao();
+            return null;
+        });
+        try {
+            emAndamento.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return Health.up()
+                    .withDetail("tempoRespostaMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio))
+                    .build();
+        } catch (TimeoutException e) {
+            log.warn("Banco de dados sem resposta em {} ms", timeout.toMillis());
+            return Health.down()
+                    .withDetail("erro", "Sem resposta em " + timeout.toMillis() + " ms")
+                    .build();
+        } catch (ExecutionException e) {
+            log.warn("Falha na verificação do banco de dados: {}", e.getCause().getMessage());
+            return Health.down(e.getCause()).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Health.down().withDetail("erro", "Verificação interrompida").build();
+        }
+    }
+
+    private void validarConexao() throws SQLException {
+        int timeoutSegundos = (int) Math.max(1, timeout.toSeconds());
+        try (Connection conexao = dataSource.getConnection()) {
+            if (!conexao.isValid(timeoutSegundos)) {
+                throw new SQLException("Conexão inválida");
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private record Resultado(Health health, long instante) {
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.akdemia.api.mapper;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.TipoUsuario;
+import io.r2dbc.spi.Readable;
+
+/**
+ * Mapper das linhas R2DBC de `tb_alunos` para AlunoDTO, usado pela leitura reativa.
+ *
+ * Produz o mesmo DTO de {@link AlunoMapper}, que permanece sem dependência do R2DBC.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+public class AlunoLinhaMapper {
+
+    /**
+     * Converte uma linha R2DBC de `tb_alunos` em DTO simplificado (sem relacionamentos).
+     *
+     * **Colunas esperadas:** id, nome, email, cpf, telefone, tipo, numero_matricula,
+     * ativo, data_cadastro, data_atualizacao, data_desativacao
+     *
+     * @param linha Linha retornada pelo DatabaseClient
+     * @return DTO simplificado
+     */
+    public AlunoDTO toDTOSimple(Readable linha) {
+        if (linha == null) {
+            return null;
+        }
+
+        AlunoDTO dto = new AlunoDTO();
+        dto.setId(linha.get("id", Long.class));
+        dto.setNome(linha.get("nome", String.class));
+        dto.setEmail(linha.get("email", String.class));
+        dto.setCpf(linha.get("cpf", String.class));
+        dto.setTelefone(linha.get("telefone", String.class));
+        dto.setTipo(TipoUsuario.valueOf(linha.get("tipo", String.class)));
+        dto.setNumeroMatricula(linha.get("numero_matricula", String.class));
+        dto.setAtivo(linha.get("ativo", Boolean.class));
+        dto.setDataCadastro(linha.get("data_cadastro", LocalDateTime.class));
+        dto.setDataAtualizacao(linha.get("data_atualizacao", LocalDateTime.class));
+        dto.setDataDesativacao(linha.get("data_desativacao", LocalDateTime.class));
+        return dto;
+    }
+
+    /**
+     * Converte uma linha R2DBC de detalhe (colunas de {@link #toDTOSimple(Readable)} mais
+     * matriculas_ids, treinos_ids e avaliacoes_ids, separados por vírgula) em DTO completo.
+     *
+     * @param linha Linha retornada pelo DatabaseClient
+     * @return DTO com os IDs dos relacionamentos
+     */
+    public AlunoDTO toDTODetalhe(Readable linha) {
+        if (linha == null) {
+            return null;
+        }
+
+        AlunoDTO dto = toDTOSimple(linha);
+        dto.setMatriculasIds(AlunoMapper.converterIds(linha.get("matriculas_ids", String.class)));
+        dto.setTreinosIds(AlunoMapper.converterIds(linha.get("treinos_ids", String.class)));
+        dto.setAvaliacoesIds(AlunoMapper.converterIds(linha.get("avaliacoes_ids", String.class)));
+        return dto;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.akdemia.api.mapper;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,7 +14,8 @@ import br.com.akdemia.api.entity.Aluno;
  * 
  * ## Uso Recomendado
  * 
- * - **`toDTO()`** - Para busca individual com relacionamentos completos
+ * - **`toDTODetalhe()`** - Para busca individual a partir das consultas `findDetalhe*` (um único SQL)
+ * - **`toDTO()`** - Para entidades com relacionamentos já carregados (acessa as coleções LAZY)
  * - **`toDTOSimple()`** - Para listagens e buscas simples (melhor performance)
  * - **`toEntityForCreation()`** - Para criar novos alunos (ignora ID e auditoria)
  * - **`updateEntityFromDTO()`** - Para atualizar alunos existentes (atualização parcial)
@@ -47,8 +49,9 @@ public class AlunoMapper {
      * Converte entidade Aluno para AlunoDTO completo.
      * Inclui todos os campos e relacionamentos como IDs.
      * 
-     * **Uso:** Busca individual, detalhes do aluno  
-     * **Performance:** Pode ser mais lenta devido aos relacionamentos
+     * **Uso:** Entidades cujas coleções já estão carregadas  
+     * **Performance:** Cada coleção não inicializada gera um SELECT adicional (N+1);
+     * para busca individual, prefira {@link #toDTODetalhe(Object[])}
      * 
      * @param aluno Entidade a ser convertida
      * @return DTO correspondente com relacionamentos, ou null se aluno for null
@@ -93,6 +96,28 @@ public class AlunoMapper {
         return dto;
     }
     
+    /**
+     * Converte uma linha das consultas `AlunoRepository.findDetalhe*` para AlunoDTO completo.
+     * Os IDs dos relacionamentos vêm agregados na própria linha, sem acessar as coleções LAZY.
+     * 
+     * **Formato da linha:** [Aluno, matriculasIds, treinosIds, avaliacoesIds]  
+     * **Uso:** Busca individual, detalhes do aluno
+     * 
+     * @param detalhe Linha retornada pela consulta de detalhe
+     * @return DTO correspondente com relacionamentos, ou null se a linha for null
+     */
+    public AlunoDTO toDTODetalhe(Object[] detalhe) {
+        if (detalhe == null) {
+            return null;
+        }
+        
+        AlunoDTO dto = toDTOSimple((Aluno) detalhe[0]);
+        dto.setMatriculasIds(converterIds(detalhe[1]));
+        dto.setTreinosIds(converterIds(detalhe[2]));
+        dto.setAvaliacoesIds(converterIds(detalhe[3]));
+        return dto;
+    }
+    
     /**
      * Converte entidade Aluno para AlunoDTO simplificado.
      * Não inclui relacionamentos para melhor performance.
@@ -269,4 +294,19 @@ public class AlunoMapper {
                 .map(this::toDTOSimple)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+    
+    /**
+     * Converte IDs agregados em texto ("1,2,3") para lista.
+     */
+    static List<Long> converterIds(Object agregado) {
+        List<Long> ids = new ArrayList<>();
+        if (agregado == null || agregado.toString().isEmpty()) {
+            return ids;
+        }
+        
+        for (String id : agregado.toString().split(",")) {
+            ids.add(Long.valueOf(id));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.akdemia.api.mapper;
+
+import br.com.akdemia.api.dto.MatriculaDTO;
+import br.com.akdemia.api.entity.Matricula;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class MatriculaMapper {
+
+    /**
+     * Converte a matrícula em DTO. Os nomes do aluno e do plano só são preenchidos
+     * se o relacionamento já estiver carregado (não dispara consultas).
+     */
+    public MatriculaDTO toDTO(Matricula matricula) {
+        if (matricula == null) {
+            return null;
+        }
+
+        MatriculaDTO dto = new MatriculaDTO();
+        dto.setId(matricula.getId());
+        dto.setDataInicio(matricula.getDataInicio());
+        dto.setDataFim(matricula.getDataFim());
+        dto.setDataVencimento(matricula.getDataVencimento());
+        dto.setStatus(matricula.getStatus());
+        dto.setDataMatricula(matricula.getDataMatricula());
+
+        if (matricula.getAluno() != null) {
+            dto.setAlunoId(matricula.getAluno().getId());
+            if (Hibernate.isInitialized(matricula.getAluno())) {
+                dto.setNomeAluno(matricula.getAluno().getNome());
+            }
+        }
+        if (matricula.getPlano() != null) {
+            dto.setPlanoId(matricula.getPlano().getId());
+            if (Hibernate.isInitialized(matricula.getPlano())) {
+                dto.setNomePlano(matricula.getPlano().getNome());
+            }
+        }
+
+        return dto;
+    }
+
+    public List<MatriculaDTO> toDTOList(List<Matricula> matriculas) {
+        return matriculas.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+}
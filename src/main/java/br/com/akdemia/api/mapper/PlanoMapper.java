@@ -0,0 +1,67 @@
+package br.com.akdemia.api.mapper;
+
+import br.com.akdemia.api.dto.PlanoDTO;
+import br.com.akdemia.api.entity.Plano;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class PlanoMapper {
+
+    public PlanoDTO toDTO(Plano plano) {
+        if (plano == null) {
+            return null;
+        }
+
+        PlanoDTO dto = new PlanoDTO();
+        dto.setId(plano.getId());
+        dto.setNome(plano.getNome());
+        dto.setDescricao(plano.getDescricao());
+        dto.setValor(plano.getValor());
+        dto.setDuracaoDias(plano.getDuracaoDias());
+        dto.setAtivo(plano.getAtivo());
+        dto.setDataCriacao(plano.getDataCriacao());
+        dto.setDataAtualizacao(plano.getDataAtualizacao());
+
+        return dto;
+    }
+
+    public Plano toEntity(PlanoDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+
+        Plano plano = new Plano();
+        plano.setNome(dto.getNome());
+        plano.setDescricao(dto.getDescricao());
+        plano.setValor(dto.getValor());
+        plano.setDuracaoDias(dto.getDuracaoDias());
+        plano.setAtivo(dto.getAtivo() != null ? dto.getAtivo() : true);
+
+        return plano;
+    }
+
+    public List<PlanoDTO> toDTOList(List<Plano> planos) {
+        return planos.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    public void updateEntityFromDTO(PlanoDTO dto, Plano plano) {
+        if (dto.getNome() != null) {
+            plano.setNome(dto.getNome());
+        }
+        if (dto.getDescricao() != null) {
+            plano.setDescricao(dto.getDescricao());
+        }
+        if (dto.getValor() != null) {
+            plano.setValor(dto.getValor());
+        }
+        if (dto.getDuracaoDias() != null) {
+            plano.setDuracaoDias(dto.getDuracaoDias());
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package br.com.akdemia.api.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import br.com.akdemia.api.entity.Aluno;
 import br.com.akdemia.api.enums.TipoUsuario;
+import jakarta.persistence.LockModeType;
 
 /**
  * Repository para operações de persistência da entidade Aluno.
@@ -42,11 +47,17 @@ import br.com.akdemia.api.enums.TipoUsuario;
  * 
  * ## Uso Recomendado
  * 
- * - **Criação:** Use existsByEmailAndAtivoTrue() para validar unicidade
- * - **Atualização:** Use existsByEmailAndAtivoTrueAndIdNot() para validar
+ * - **Criação:** Use findConflitosUnicidade() para validar unicidade em uma consulta
+ * - **Atualização:** Use findConflitosUnicidade() informando o ID do aluno atual
  * - **Listagens:** Use findByAtivoTrue() com paginação
  * - **Exclusão:** Use desativarAluno() ao invés de delete()
  * 
+ * ## Índices
+ * 
+ * Toda consulta deve ser atendida por índice (chave primária, índices únicos ou os
+ * compostos de {@link Aluno}). AlunoRepositoryPlanoExecucaoTest executa EXPLAIN de
+ * cada método e falha quando algum deles passa a varrer a tabela.
+ * 
  * @author Sistema Akdemia
  * @version 1.0
  * @since 2025-01-29
@@ -89,6 +100,88 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
      */
     Optional<Aluno> findByIdAndAtivoTrue(Long id);
     
+    /**
+     * Busca aluno por ID com lock pessimista de escrita (SELECT ... FOR UPDATE) até o fim da transação.
+     * Serializa as operações que verificam e alteram dados dependentes do aluno, como a criação
+     * de matrículas.
+     * 
+     * @param id ID do aluno
+     * @return Optional contendo o aluno se encontrado
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Aluno a WHERE a.id = :id")
+    Optional<Aluno> findParaAtualizacaoById(@Param("id") Long id);
+    
+    // ========== DETALHE EM CONSULTA ÚNICA ==========
+    
+    /**
+     * Seleção do detalhe do aluno: a entidade e os IDs de matrículas, treinos e
+     * avaliações agregados por subconsultas (LISTAGG), separados por vírgula.
+     * Evita as três cargas LAZY das coleções ao montar o DTO completo.
+     */
+    String SELECT_DETALHE = """
+            SELECT a,
+                   (SELECT LISTAGG(CAST(m.id AS String), ',') WITHIN GROUP (ORDER BY m.id)
+                      FROM Matricula m WHERE m.aluno = a),
+                   (SELECT LISTAGG(CAST(t.id AS String), ',') WITHIN GROUP (ORDER BY t.id)
+                      FROM Treino t WHERE t.aluno = a),
+                   (SELECT LISTAGG(CAST(av.id AS String), ',') WITHIN GROUP (ORDER BY av.id)
+                      FROM Avaliacao av WHERE av.aluno = a)
+              FROM Aluno a
+            """;
+    
+    /**
+     * Busca o detalhe do aluno por ID (incluindo inativos) em um único comando SQL.
+     * 
+     * **Retorno:** [Aluno, matriculasIds, treinosIds, avaliacoesIds] - os IDs vêm
+     * como texto separado por vírgula, ou null quando não há registros
+     * 
+     * @param id ID do aluno
+     * @return Lista com no máximo uma linha
+     */
+    @Query(SELECT_DETALHE + "WHERE a.id = :id")
+    List<Object[]> findDetalheById(@Param("id") Long id);
+    
+    /**
+     * Busca a versão do aluno: a data da última modificação, ou a de cadastro se nunca modificado.
+     * 
+     * **Uso:** GET condicional (ETag/Last-Modified) sem carregar a entidade nem os relacionamentos  
+     * **Atenção:** Alterações em matrículas, treinos ou avaliações do aluno mudam o seu detalhe e
+     * devem atualizar a data de modificação ({@link #updateDataAtualizacao(Long, LocalDateTime)})
+     * 
+     * @param id ID do aluno (incluindo inativos)
+     * @return Versão do aluno, ou vazio se não existir
+     */
+    @Query("SELECT COALESCE(a.dataAtualizacao, a.dataCadastro) FROM Aluno a WHERE a.id = :id")
+    Optional<LocalDateTime> findVersaoById(@Param("id") Long id);
+    
+    /**
+     * Busca o detalhe do aluno por email (incluindo inativos) em um único comando SQL.
+     * 
+     * @param email Email do aluno
+     * @return Lista com no máximo uma linha, no formato de {@link #findDetalheById(Long)}
+     */
+    @Query(SELECT_DETALHE + "WHERE a.email = :email")
+    List<Object[]> findDetalheByEmail(@Param("email") String email);
+    
+    /**
+     * Busca o detalhe do aluno por CPF (incluindo inativos) em um único comando SQL.
+     * 
+     * @param cpf CPF do aluno (11 dígitos)
+     * @return Lista com no máximo uma linha, no formato de {@link #findDetalheById(Long)}
+     */
+    @Query(SELECT_DETALHE + "WHERE a.cpf = :cpf")
+    List<Object[]> findDetalheByCpf(@Param("cpf") String cpf);
+    
+    /**
+     * Busca o detalhe do aluno por número de matrícula (incluindo inativos) em um único comando SQL.
+     * 
+     * @param numeroMatricula Número de matrícula único
+     * @return Lista com no máximo uma linha, no formato de {@link #findDetalheById(Long)}
+     */
+    @Query(SELECT_DETALHE + "WHERE a.numeroMatricula = :numeroMatricula")
+    List<Object[]> findDetalheByNumeroMatricula(@Param("numeroMatricula") String numeroMatricula);
+    
     // ========== VERIFICAÇÕES DE EXISTÊNCIA ==========
     
     /**
@@ -172,6 +265,53 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
      */
     boolean existsByCpfAndAtivoTrueAndIdNot(String cpf, Long id);
     
+    /**
+     * Verifica, em uma única consulta, conflitos de email, CPF e número de matrícula
+     * com alunos ativos.
+     * Retorna uma linha por aluno conflitante, onde [0] = email, [1] = cpf e [2] = numeroMatricula.
+     * 
+     * **Uso:** Validação de unicidade na criação (id null) e na atualização (id do aluno atual)  
+     * **Comportamento:** Parâmetros null não geram conflito  
+     * **Performance:** Uma ida ao banco, resolvida pelos índices únicos de cada coluna -
+     * um UNION por coluna, pois o OR entre colunas diferentes leva o H2 a varrer a tabela
+     * 
+     * @param email Email para verificação (opcional)
+     * @param cpf CPF para verificação (opcional)
+     * @param numeroMatricula Número de matrícula para verificação (opcional)
+     * @param id ID do aluno a ser ignorado na verificação (opcional)
+     * @return Lista de arrays com email, CPF e número de matrícula dos alunos em conflito
+     */
+    @Query("SELECT a.email, a.cpf, a.numeroMatricula FROM Aluno a " +
+           "WHERE a.email = :email AND a.ativo = true AND (:id IS NULL OR a.id <> :id) " +
+           "UNION " +
+           "SELECT a.email, a.cpf, a.numeroMatricula FROM Aluno a " +
+           "WHERE a.cpf = :cpf AND a.ativo = true AND (:id IS NULL OR a.id <> :id) " +
+           "UNION " +
+           "SELECT a.email, a.cpf, a.numeroMatricula FROM Aluno a " +
+           "WHERE a.numeroMatricula = :numeroMatricula AND a.ativo = true AND (:id IS NULL OR a.id <> :id)")
+    List<Object[]> findConflitosUnicidade(@Param("email") String email,
+                                          @Param("cpf") String cpf,
+                                          @Param("numeroMatricula") String numeroMatricula,
+                                          @Param("id") Long id);
+    
+    /**
+     * Busca, em uma única consulta, emails e CPFs já cadastrados (incluindo inativos).
+     * Retorna uma linha por aluno encontrado, onde [0] = email e [1] = cpf.
+     * 
+     * **Uso:** Validação de unicidade em importações em lote  
+     * **Atenção:** Limite o tamanho das coleções ao tamanho do lote de importação  
+     * **Performance:** UNION de duas buscas pelos índices únicos de email e CPF
+     * 
+     * @param emails Emails a verificar
+     * @param cpfs CPFs a verificar
+     * @return Lista de arrays com email e CPF dos alunos já cadastrados
+     */
+    @Query("SELECT a.email, a.cpf FROM Aluno a WHERE a.email IN :emails " +
+           "UNION " +
+           "SELECT a.email, a.cpf FROM Aluno a WHERE a.cpf IN :cpfs")
+    List<Object[]> findEmailsECpfsExistentes(@Param("emails") Collection<String> emails,
+                                             @Param("cpfs") Collection<String> cpfs);
+    
     // ========== FILTROS POR STATUS E TIPO ==========
     
     /**
@@ -218,6 +358,21 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
      */
     Page<Aluno> findByAtivoFalse(Pageable pageable);
     
+    // ========== LEITURA EM LOTES (KEYSET) ==========
+    
+    /**
+     * Busca o próximo lote de alunos ativos após o ID informado (paginação por cursor).
+     * 
+     * **Uso:** Exportações e streaming de grandes volumes  
+     * **Performance:** Usa a chave primária como cursor, sem OFFSET - o custo de cada
+     * lote independe da posição na tabela
+     * 
+     * @param ultimoId Último ID já lido (use 0 para começar do início)
+     * @param limite Quantidade máxima de registros do lote
+     * @return Lote de alunos ativos ordenados por ID crescente
+     */
+    List<Aluno> findByAtivoTrueAndIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limite);
+    
     // ========== BUSCAS POR NOME ==========
     
     /**
@@ -230,6 +385,75 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
      */
     List<Aluno> findByNomeContainingIgnoreCaseAndAtivoTrue(String nome);
     
+    /**
+     * Busca alunos ativos pelo nome normalizado (busca parcial, sem acentos).
+     * 
+     * **Uso:** Fallback do índice em memória (IndiceNomeAlunos) quando ele não está
+     * disponível ou o termo casa com muitos alunos  
+     * **Limite:** O `LIKE '%termo%'` não usa índice; o limite interrompe a varredura
+     * assim que a quantidade pedida é encontrada
+     * 
+     * @param nomeBusca Termo já normalizado (ver NormalizadorNome)
+     * @param limite Quantidade máxima de alunos
+     * @return Alunos ativos cujo nome normalizado contém o termo, em ordem de ID
+     */
+    List<Aluno> findByNomeBuscaContainingAndAtivoTrueOrderByIdAsc(String nomeBusca, Limit limite);
+    
+    /**
+     * Busca alunos ativos cujo nome normalizado está no intervalo [inicio, fim), em ordem alfabética.
+     * 
+     * **Uso:** Fallback do índice de sugestões (IndiceSugestoesAlunos) enquanto ele é carregado,
+     * com `inicio` = prefixo e `fim` = primeiro texto após todos os que começam com o prefixo  
+     * **Performance:** Intervalo atendido pelo índice de `nome_busca` - um `LIKE :prefixo%`
+     * parametrizado não vira condição de índice no H2 e percorreria o índice inteiro
+     * 
+     * @param inicio Prefixo já normalizado (ver NormalizadorNome), inclusive
+     * @param fim Limite superior do intervalo, exclusive
+     * @param limite Quantidade máxima de registros
+     * @return Lista de alunos ativos ordenada por nome normalizado
+     */
+    @Query("SELECT a FROM Aluno a WHERE a.nomeBusca >= :inicio AND a.nomeBusca < :fim " +
+           "AND a.ativo = true ORDER BY a.nomeBusca")
+    List<Aluno> findByNomeBuscaNoIntervalo(@Param("inicio") String inicio,
+                                           @Param("fim") String fim,
+                                           Limit limite);
+    
+    /**
+     * Busca alunos ativos pelos IDs, ordenados por ID.
+     * 
+     * **Uso:** Carregar os alunos encontrados pelo índice de nomes
+     * 
+     * @param ids IDs dos alunos
+     * @return Lista de alunos ativos com os IDs informados
+     */
+    List<Aluno> findByIdInAndAtivoTrueOrderByIdAsc(Collection<Long> ids);
+    
+    /**
+     * Lê IDs e nomes normalizados dos alunos ativos após o ID informado (paginação por cursor).
+     * 
+     * **Uso:** Carga do índice de nomes em memória, sem materializar entidades  
+     * **Retorno:** Cada linha contém [id, nomeBusca]
+     * 
+     * @param ultimoId Último ID já lido (use 0 para começar do início)
+     * @param limite Quantidade máxima de registros do lote
+     * @return Lote de [id, nomeBusca] ordenado por ID crescente
+     */
+    @Query("SELECT a.id, a.nomeBusca FROM Aluno a WHERE a.ativo = true AND a.id > :ultimoId ORDER BY a.id")
+    List<Object[]> findNomesBuscaAtivos(@Param("ultimoId") Long ultimoId, Limit limite);
+    
+    /**
+     * Lê os dados de sugestão (autocompletar) dos alunos ativos após o ID informado.
+     * 
+     * **Uso:** Carga do índice de sugestões em memória, sem materializar entidades  
+     * **Retorno:** Cada linha contém [id, nome, numeroMatricula]
+     * 
+     * @param ultimoId Último ID já lido (use 0 para começar do início)
+     * @param limite Quantidade máxima de registros do lote
+     * @return Lote de [id, nome, numeroMatricula] ordenado por ID crescente
+     */
+    @Query("SELECT a.id, a.nome, a.numeroMatricula FROM Aluno a WHERE a.ativo = true AND a.id > :ultimoId ORDER BY a.id")
+    List<Object[]> findSugestoesAtivas(@Param("ultimoId") Long ultimoId, Limit limite);
+    
     // ========== BUSCAS AVANÇADAS ==========
     
     /**
@@ -239,19 +463,108 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
      * **Flexibilidade:** Parâmetros null são ignorados no filtro  
      * **Performance:** Otimizada para grandes volumes de dados
      * 
-     * @param nome Nome para filtro (opcional - pode ser null)
+     * @param nome Nome normalizado para filtro (opcional - pode ser null, ver NormalizadorNome)
      * @param tipo Tipo de usuário para filtro (opcional - pode ser null)
      * @param pageable Configuração de paginação
      * @return Página de alunos filtrados
      */
     @Query("SELECT a FROM Aluno a WHERE " +
-           "(:nome IS NULL OR LOWER(a.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) AND " +
+           "(:nome IS NULL OR a.nomeBusca LIKE CONCAT('%', :nome, '%')) AND " +
            "(:tipo IS NULL OR a.tipo = :tipo) AND " +
            "a.ativo = true")
     Page<Aluno> findByFiltros(@Param("nome") String nome, 
                              @Param("tipo") TipoUsuario tipo, 
                              Pageable pageable);
     
+    /**
+     * Busca alunos ativos entre os IDs informados, com filtro opcional de tipo e paginação.
+     * 
+     * **Uso:** Filtro por nome resolvido pelo índice em memória (IDs já conhecidos)
+     * 
+     * @param ids IDs candidatos (não vazio)
+     * @param tipo Tipo de usuário para filtro (opcional - pode ser null)
+     * @param pageable Configuração de paginação
+     * @return Página de alunos filtrados
+     */
+    @Query("SELECT a FROM Aluno a WHERE a.id IN :ids AND " +
+           "(:tipo IS NULL OR a.tipo = :tipo) AND " +
+           "a.ativo = true")
+    Page<Aluno> findByIdsEFiltros(@Param("ids") Collection<Long> ids,
+                                  @Param("tipo") TipoUsuario tipo,
+                                  Pageable pageable);
+    
+    /**
+     * Mesma busca de {@link #findByFiltros(String, TipoUsuario, Pageable)}, sem a consulta de contagem.
+     * 
+     * **Performance:** Lê `tamanho + 1` registros para saber se há próxima página,
+     * sem o `COUNT(*)` sobre todo o filtro
+     * 
+     * @param nome Nome normalizado para filtro (opcional)
+     * @param tipo Tipo de usuário para filtro (opcional)
+     * @param pageable Configuração de paginação
+     * @return Fatia de alunos filtrados
+     */
+    @Query("SELECT a FROM Aluno a WHERE " +
+           "(:nome IS NULL OR a.nomeBusca LIKE CONCAT('%', :nome, '%')) AND " +
+           "(:tipo IS NULL OR a.tipo = :tipo) AND " +
+           "a.ativo = true")
+    Slice<Aluno> findSliceByFiltros(@Param("nome") String nome,
+                                    @Param("tipo") TipoUsuario tipo,
+                                    Pageable pageable);
+    
+    /**
+     * Mesma busca de {@link #findByIdsEFiltros(Collection, TipoUsuario, Pageable)}, sem a consulta de contagem.
+     * 
+     * @param ids IDs candidatos (não vazio)
+     * @param tipo Tipo de usuário para filtro (opcional)
+     * @param pageable Configuração de paginação
+     * @return Fatia de alunos filtrados
+     */
+    @Query("SELECT a FROM Aluno a WHERE a.id IN :ids AND " +
+           "(:tipo IS NULL OR a.tipo = :tipo) AND " +
+           "a.ativo = true")
+    Slice<Aluno> findSliceByIdsEFiltros(@Param("ids") Collection<Long> ids,
+                                        @Param("tipo") TipoUsuario tipo,
+                                        Pageable pageable);
+    
+    /**
+     * Busca alunos ativos filtrados com ID maior que o cursor (paginação keyset).
+     * 
+     * **Performance:** Custo constante em qualquer profundidade - usa a chave primária
+     * em vez de OFFSET
+     * 
+     * @param nome Nome normalizado para filtro (opcional)
+     * @param tipo Tipo de usuário para filtro (opcional)
+     * @param aposId Último ID já retornado
+     * @param limite Quantidade máxima de registros
+     * @return Alunos em ordem crescente de ID
+     */
+    @Query("SELECT a FROM Aluno a WHERE " +
+           "(:nome IS NULL OR a.nomeBusca LIKE CONCAT('%', :nome, '%')) AND " +
+           "(:tipo IS NULL OR a.tipo = :tipo) AND " +
+           "a.ativo = true AND a.id > :aposId ORDER BY a.id")
+    List<Aluno> findAposIdByFiltros(@Param("nome") String nome,
+                                    @Param("tipo") TipoUsuario tipo,
+                                    @Param("aposId") Long aposId,
+                                    Limit limite);
+    
+    /**
+     * Busca alunos ativos entre os IDs informados, com ID maior que o cursor (paginação keyset).
+     * 
+     * @param ids IDs candidatos (não vazio)
+     * @param tipo Tipo de usuário para filtro (opcional)
+     * @param aposId Último ID já retornado
+     * @param limite Quantidade máxima de registros
+     * @return Alunos em ordem crescente de ID
+     */
+    @Query("SELECT a FROM Aluno a WHERE a.id IN :ids AND " +
+           "(:tipo IS NULL OR a.tipo = :tipo) AND " +
+           "a.ativo = true AND a.id > :aposId ORDER BY a.id")
+    List<Aluno> findAposIdByIdsEFiltros(@Param("ids") Collection<Long> ids,
+                                        @Param("tipo") TipoUsuario tipo,
+                                        @Param("aposId") Long aposId,
+                                        Limit limite);
+    
     /**
      * Busca alunos ativos sem matrículas.
      * Útil para identificar alunos cadastrados mas não matriculados em cursos.
@@ -365,26 +678,22 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
     @Query("SELECT a.tipo, COUNT(a) FROM Aluno a WHERE a.ativo = true GROUP BY a.tipo")
     List<Object[]> countAlunosAtivosPorTipo();
     
-    // ========== GERAÇÃO DE MATRÍCULA ==========
-    
     /**
-     * Busca o próximo número de matrícula disponível.
-     * Analisa matrículas existentes no formato 'AKD###' e retorna o próximo número sequencial.
+     * Contagem de alunos agrupada por tipo e status, em uma única consulta.
+     * Retorna array de objetos onde [0] = TipoUsuario, [1] = Boolean (ativo) e [2] = Long (count).
      * 
-     * **Formato:** AKD001, AKD002, AKD003...  
-     * **Comportamento:** Se não houver matrículas, retorna 1
+     * **Uso:** Carga e reconciliação dos contadores em memória (EstatisticasAlunos)
      * 
-     * @return Próximo número sequencial de matrícula
+     * @return Lista de arrays com tipo, status e quantidade de alunos
      */
-    @Query("SELECT COALESCE(MAX(CAST(SUBSTRING(a.numeroMatricula, 4) AS int)), 0) + 1 " +
-           "FROM Aluno a WHERE a.numeroMatricula LIKE 'AKD%'")
-    Integer findNextMatriculaNumber();
+    @Query("SELECT a.tipo, a.ativo, COUNT(a) FROM Aluno a GROUP BY a.tipo, a.ativo")
+    List<Object[]> countAlunosPorTipoEStatus();
     
     // ========== OPERAÇÕES DE SOFT DELETE ==========
     
     /**
      * Desativa um aluno (soft delete).
-     * Marca o aluno como inativo e registra a data de desativação.
+     * Marca o aluno como inativo e registra a data de desativação, também como data de modificação.
      * 
      * **Comportamento:** Apenas alunos ativos podem ser desativados  
      * **Auditoria:** Preserva todos os dados históricos
@@ -395,8 +704,8 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
      */
     @Modifying
     @Transactional
-    @Query("UPDATE Aluno a SET a.ativo = false, a.dataDesativacao = :dataDesativacao " +
-           "WHERE a.id = :id AND a.ativo = true")
+    @Query("UPDATE Aluno a SET a.ativo = false, a.dataDesativacao = :dataDesativacao, " +
+           "a.dataAtualizacao = :dataDesativacao WHERE a.id = :id AND a.ativo = true")
     int desativarAluno(@Param("id") Long id, @Param("dataDesativacao") LocalDateTime dataDesativacao);
     
     /**
@@ -1,35 +1,128 @@
 package br.com.akdemia.api.repository;
 
+import br.com.akdemia.api.dto.MatriculaResumoDTO;
 import br.com.akdemia.api.entity.Matricula;
-import br.com.akdemia.api.entity.Usuario;
 import br.com.akdemia.api.enums.StatusMatricula;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MatriculaRepository extends JpaRepository<Matricula, Long> {
     
-    List<Matricula> findByAlunoAndStatus(Usuario aluno, StatusMatricula status);
+    /**
+     * Matrículas não canceladas por plano, para a reconciliação da popularidade dos planos.
+     *
+     * @return Lista de arrays com ID do plano e quantidade de matrículas
+     */
+    @Query("SELECT m.plano.id, COUNT(m) FROM Matricula m WHERE m.status <> :cancelada GROUP BY m.plano.id")
+    List<Object[]> countMatriculasPorPlano(@Param("cancelada") StatusMatricula cancelada);
     
-    Optional<Matricula> findByAlunoAndStatusOrderByDataMatriculaDesc(Usuario aluno, StatusMatricula status);
+    /**
+     * Matrículas não canceladas por plano e data de matrícula, a partir de `desde`
+     * (usa o índice em data_matricula).
+     *
+     * @return Lista de arrays com ID do plano, data de matrícula e quantidade de matrículas
+     */
+    @Query("SELECT m.plano.id, m.dataMatricula, COUNT(m) FROM Matricula m "
+            + "WHERE m.dataMatricula >= :desde AND m.status <> :cancelada "
+            + "GROUP BY m.plano.id, m.dataMatricula")
+    List<Object[]> countMatriculasPorPlanoEDia(@Param("desde") LocalDate desde,
+                                               @Param("cancelada") StatusMatricula cancelada);
     
-   /* @Query("SELECT m FROM Matricula m WHERE m.dataFim < :data AND m.status = 'ATIVA'")
-    List<Matricula> findMatriculasVencidas(@Param("data") LocalDate data);
+    boolean existsByAlunoIdAndStatusIn(Long alunoId, Collection<StatusMatricula> status);
     
-    @Query("SELECT m FROM Matricula m WHERE m.dataFim BETWEEN :dataInicio AND :dataFim")
-    List<Matricula> findMatriculasVencendoEntre(@Param("dataInicio") LocalDate dataInicio, 
-                                                @Param("dataFim") LocalDate dataFim);
+    /**
+     * Matrícula com aluno e plano carregados na mesma consulta.
+     */
+    @EntityGraph(attributePaths = {"aluno", "plano"})
+    Optional<Matricula> findComAlunoEPlanoById(Long id);
     
-    @Query("SELECT COUNT(m) FROM Matricula m WHERE m.status = 'ATIVA'")
-    Long countMatriculasAtivas();
+    /**
+     * Matrículas do aluno, da mais recente para a mais antiga, com o plano carregado.
+     */
+    @EntityGraph(attributePaths = "plano")
+    List<Matricula> findByAlunoIdOrderByDataInicioDesc(Long alunoId);
     
-    @Query("SELECT m FROM Matricula m WHERE m.aluno.id = :alunoId ORDER BY m.dataCriacao DESC")
-    List<Matricula> findByAlunoIdOrderByDataCriacaoDesc(@Param("alunoId") Long alunoId);*/
+    // ========== PROJEÇÕES POR ALUNO ==========
+    
+    /**
+     * Matrícula mais recente no status (maior data de início; no empate, maior ID) de cada aluno
+     * do lote, em uma única consulta. Alunos sem matrícula no status não aparecem.
+     * 
+     * **Uso:** Validação de check-in da lista de alunos de uma aula
+     */
+    @Query("SELECT new br.com.akdemia.api.dto.MatriculaResumoDTO(m.id, m.aluno.id, m.plano.id, m.status, m.dataInicio, m.dataFim) " +
+           "FROM Matricula m WHERE m.aluno.id IN :alunoIds AND m.status = :status " +
+           "AND NOT EXISTS (SELECT 1 FROM Matricula r WHERE r.aluno.id = m.aluno.id AND r.status = :status " +
+           "AND (r.dataInicio > m.dataInicio OR (r.dataInicio = m.dataInicio AND r.id > m.id))) " +
+           "ORDER BY m.aluno.id")
+    List<MatriculaResumoDTO> findUltimasPorAlunosEStatus(@Param("alunoIds") Collection<Long> alunoIds,
+                                                         @Param("status") StatusMatricula status);
+    
+    // ========== AGENDA DE MATRÍCULAS ==========
+    
+    /**
+     * Matrículas no status com data de fim a partir de `data`, para a carga da agenda
+     * (faixa no índice em status e data_fim).
+     * 
+     * @return Lista de arrays com ID, data de fim e data de vencimento (pode ser null)
+     */
+    @Query("SELECT m.id, m.dataFim, m.dataVencimento FROM Matricula m WHERE m.status = :status AND m.dataFim >= :data")
+    List<Object[]> findAgendaPorStatusComDataFimAPartirDe(@Param("status") StatusMatricula status,
+                                                         @Param("data") LocalDate data);
+    
+    /**
+     * Altera o status de um lote com vencimento do pagamento anterior a `data` em um único UPDATE.
+     * Ignora matrículas que não estão mais no status ou cujo vencimento mudou.
+     * 
+     * @return Quantidade de matrículas alteradas
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Matricula m SET m.status = :novoStatus " +
+           "WHERE m.id IN :ids AND m.status = :status AND m.dataVencimento < :data")
+    int atualizarStatusComVencimentoAntesDe(@Param("ids") Collection<Long> ids,
+                                            @Param("status") StatusMatricula status,
+                                            @Param("data") LocalDate data,
+                                            @Param("novoStatus") StatusMatricula novoStatus);
+    
+    // ========== EXPIRAÇÃO EM LOTE ==========
+    
+    /**
+     * IDs de um lote de matrículas no status com data de fim anterior a `data`
+     * (usa o índice em status e data_fim).
+     * 
+     * @param pageable Tamanho do lote (primeira página, sem contagem)
+     */
+    @Query("SELECT m.id FROM Matricula m WHERE m.status = :status AND m.dataFim < :data")
+    List<Long> findIdsPorStatusComDataFimAntesDe(@Param("status") StatusMatricula status,
+                                                 @Param("data") LocalDate data,
+                                                 Pageable pageable);
+    
+    /**
+     * Altera o status de um lote em um único UPDATE. Repete as condições da seleção,
+     * ignorando matrículas alteradas desde então (ex: canceladas ou renovadas).
+     * 
+     * @return Quantidade de matrículas alteradas
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Matricula m SET m.status = :novoStatus " +
+           "WHERE m.id IN :ids AND m.status = :status AND m.dataFim < :data")
+    int atualizarStatusComDataFimAntesDe(@Param("ids") Collection<Long> ids,
+                                         @Param("status") StatusMatricula status,
+                                         @Param("data") LocalDate data,
+                                         @Param("novoStatus") StatusMatricula novoStatus);
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,12 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     
     Optional<Usuario> findByCpf(String cpf);
     
+    /**
+     * Data da última modificação do usuário (ou de criação, se nunca modificado), para GET condicional.
+     */
+    @Query("SELECT COALESCE(u.dataAtualizacao, u.dataCriacao) FROM Usuario u WHERE u.id = :id")
+    Optional<LocalDateTime> findVersaoById(@Param("id") Long id);
+    
     List<Usuario> findByTipoAndAtivoTrue(TipoUsuario tipo);
     
     List<Usuario> findByAtivoTrue();
@@ -0,0 +1,128 @@
+package br.com.akdemia.api.search;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Limit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carga em lotes, por cursor de ID, de um índice de alunos em memória que continua
+ * recebendo eventos durante a carga.
+ *
+ * ## Características
+ *
+ * - **Lotes:** Cada lote é lido sem lock e aplicado sob o lock de escrita do índice,
+ *   sem bloquear as consultas durante a leitura no banco
+ * - **Alterações durante a carga:** IDs alterados por eventos enquanto a carga está em
+ *   andamento prevalecem sobre as linhas lidas pela carga, que podem estar desatualizadas
+ * - **Falha na leitura:** O índice parcial não é marcado como pronto; a falha é registrada
+ *   e as consultas seguem pelo banco até a próxima carga completa
+ *
+ * O índice chama {@link #marcarAlteracao(Long)} sob o mesmo lock de escrita, antes de
+ * aplicar cada evento.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Slf4j
+final class CargaIndice {
+
+    private final String descricao;
+    private final Lock escrita;
+    private final int tamanhoLote;
+
+    /**
+     * IDs alterados por eventos durante a carga, que a carga não deve sobrescrever.
+     */
+    private final Set<Long> alteradosDuranteCarga = new HashSet<>();
+
+    private boolean carregando;
+
+    /**
+     * @param descricao Nome do índice, para o log de falha
+     * @param escrita Lock de escrita do índice
+     * @param tamanhoLote Linhas lidas por consulta
+     */
+    CargaIndice(String descricao, Lock escrita, int tamanhoLote) {
+        this.descricao = descricao;
+        this.escrita = escrita;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Executa a carga completa.
+     *
+     * @param limpar Esvazia o índice, sob o lock, antes da leitura
+     * @param leitura Lê o lote após o ID informado; cada linha começa pelo ID, em ordem crescente
+     * @param adicionar Inclui uma linha lida no índice, sob o lock
+     * @param concluir Marca o índice como pronto, sob o lock, apenas se a leitura terminar
+     */
+    void carregar(Runnable limpar, BiFunction<Long, Limit, List<Object[]>> leitura,
+                  Consumer<Object[]> adicionar, Runnable concluir) {
+        escrita.lock();
+        try {
+            carregando = true;
+            alteradosDuranteCarga.clear();
+            limpar.run();
+        } finally {
+            escrita.unlock();
+        }
+
+        boolean concluida = false;
+        try {
+            Long ultimoId = 0L;
+            List<Object[]> lote;
+            do {
+                lote = leitura.apply(ultimoId, Limit.of(tamanhoLote));
+                if (lote.isEmpty()) {
+                    break;
+                }
+                ultimoId = (Long) lote.get(lote.size() - 1)[0];
+                adicionarLote(lote, adicionar);
+            } while (lote.size() == tamanhoLote);
+            concluida = true;
+        } catch (RuntimeException e) {
+            log.error("Falha na carga do {}; consultas seguem pelo banco até a próxima carga", descricao, e);
+        } finally {
+            escrita.lock();
+            try {
+                carregando = false;
+                alteradosDuranteCarga.clear();
+                if (concluida) {
+                    concluir.run();
+                }
+            } finally {
+                escrita.unlock();
+            }
+        }
+    }
+
+    /**
+     * Registra a alteração do aluno por um evento. Chamado sob o lock de escrita do índice.
+     */
+    void marcarAlteracao(Long id) {
+        if (carregando) {
+            alteradosDuranteCarga.add(id);
+        }
+    }
+
+    private void adicionarLote(List<Object[]> lote, Consumer<Object[]> adicionar) {
+        escrita.lock();
+        try {
+            for (Object[] linha : lote) {
+                if (!alteradosDuranteCarga.contains((Long) linha[0])) {
+                    adicionar.accept(linha);
+                }
+            }
+        } finally {
+            escrita.unlock();
+        }
+    }
+}
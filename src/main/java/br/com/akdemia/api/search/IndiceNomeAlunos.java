@@ -0,0 +1,330 @@
+package br.com.akdemia.api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.repository.AlunoRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice invertido de trigramas em memória sobre os nomes normalizados dos alunos ativos.
+ *
+ * Cada nome é decomposto em trigramas ("jose" → "jos", "ose") e cada trigrama aponta
+ * para a lista ordenada de IDs dos alunos que o contêm. Uma busca por substring intersecta
+ * as listas dos trigramas do termo e confirma cada candidato no nome armazenado.
+ *
+ * ## Características
+ *
+ * - **Prefixo e substring:** Qualquer trecho do nome, sem acentos e sem diferenciar maiúsculas
+ * - **Termos curtos:** Termos com menos de 3 caracteres são resolvidos por varredura dos nomes
+ * - **Memória compacta:** Listas de IDs em arrays de `long` ordenados
+ * - **Atualização incremental:** Reage aos eventos {@link AlunoAlteradoEvent} após o commit
+ *
+ * ## Consistência
+ *
+ * - Carregado do banco ao final da inicialização; até lá, {@link #buscar(String)} retorna vazio
+ *   e o chamador consulta o banco
+ * - Alterações recebidas durante a carga prevalecem sobre os dados lidos pela carga
+ *   (ver {@link CargaIndice})
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class IndiceNomeAlunos {
+
+    static final int TAMANHO_GRAMA = 3;
+
+    private static final int TAMANHO_LOTE_CARGA = 5_000;
+
+    private final AlunoRepository alunoRepository;
+    private final int maximoResultados;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String> nomePorId = new HashMap<>();
+    private final Map<String, ListaIds> idsPorTrigrama = new HashMap<>();
+    private final CargaIndice carga = new CargaIndice("índice de nomes", lock.writeLock(), TAMANHO_LOTE_CARGA);
+
+    private volatile boolean pronto;
+
+    public IndiceNomeAlunos(AlunoRepository alunoRepository,
+                            @Value("${akdemia.busca.nome.maximo-resultados:1000}") int maximoResultados) {
+        this.alunoRepository = alunoRepository;
+        this.maximoResultados = maximoResultados;
+    }
+
+    // ========== CONSULTA ==========
+
+    /**
+     * Busca os IDs dos alunos ativos cujo nome normalizado contém o termo.
+     *
+     * @param termo Termo já normalizado (ver {@link NormalizadorNome})
+     * @return IDs em ordem crescente, ou vazio se o índice não estiver carregado, o termo
+     *         for vazio ou houver mais resultados que o máximo configurado - nesses casos
+     *         a busca deve ser feita no banco
+     */
+    public Optional<List<Long>> buscar(String termo) {
+        if (!pronto || termo == null || termo.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Long> ids = termo.length() < TAMANHO_GRAMA
+                    ? buscarPorVarredura(termo)
+                    : buscarPorTrigramas(termo);
+            if (ids == null) {
+                return Optional.empty();
+            }
+
+            ids.sort(null);
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    /**
+     * @return Quantidade máxima de IDs retornados por {@link #buscar(String)}
+     */
+    public int getMaximoResultados() {
+        return maximoResultados;
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return nomePorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== CARGA E ATUALIZAÇÃO ==========
+
+    /**
+     * (Re)carrega o índice a partir dos alunos ativos do banco, em lotes por cursor.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long inicio = System.currentTimeMillis();
+        carga.carregar(
+                () -> {
+                    pronto = false;
+                    nomePorId.clear();
+                    idsPorTrigrama.clear();
+                },
+                alunoRepository::findNomesBuscaAtivos,
+                linha -> adicionarInterno((Long) linha[0], (String) linha[1]),
+                () -> {
+                    pronto = true;
+                    log.info("Índice de nomes carregado: {} alunos, {} trigramas em {} ms",
+                            nomePorId.size(), idsPorTrigrama.size(), System.currentTimeMillis() - inicio);
+                });
+    }
+
+    /**
+     * Inclui ou atualiza o nome de um aluno ativo no índice.
+     *
+     * @param id ID do aluno
+     * @param nomeBusca Nome já normalizado
+     */
+    public void indexar(Long id, String nomeBusca) {
+        lock.writeLock().lock();
+        try {
+            carga.marcarAlteracao(id);
+            removerInterno(id);
+            adicionarInterno(id, nomeBusca);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um aluno do índice (ex: desativação).
+     *
+     * @param id ID do aluno
+     */
+    public void remover(Long id) {
+        lock.writeLock().lock();
+        try {
+            carga.marcarAlteracao(id);
+            removerInterno(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mantém o índice alinhado às alterações confirmadas de alunos.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAluno(AlunoAlteradoEvent evento) {
+        Long id = evento.aluno().getId();
+        if (!evento.ativo()) {
+            remover(id);
+        } else {
+            indexar(id, NormalizadorNome.normalizar(evento.aluno().getNome()));
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Intersecta as listas dos trigramas do termo, da menor para a maior, e confirma
+     * cada candidato no nome completo.
+     *
+     * @return IDs encontrados, ou null se excederem o máximo de resultados
+     */
+    private List<Long> buscarPorTrigramas(String termo) {
+        List<ListaIds> listas = new ArrayList<>();
+        for (String trigrama : trigramas(termo)) {
+            ListaIds lista = idsPorTrigrama.get(trigrama);
+            if (lista == null) {
+                return new ArrayList<>();
+            }
+            listas.add(lista);
+        }
+        listas.sort(Comparator.comparingInt(ListaIds::tamanho));
+
+        ListaIds menor = listas.get(0);
+        List<Long> ids = new ArrayList<>();
+        candidatos:
+        for (int i = 0; i < menor.tamanho; i++) {
+            long id = menor.ids[i];
+            for (int j = 1; j < listas.size(); j++) {
+                if (!listas.get(j).contem(id)) {
+                    continue candidatos;
+                }
+            }
+            // Os trigramas podem estar em posições que não formam o termo
+            if (nomePorId.get(id).contains(termo)) {
+                ids.add(id);
+                if (ids.size() > maximoResultados) {
+                    return null;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Termos menores que um trigrama: percorre os nomes indexados.
+     *
+     * @return IDs encontrados, ou null se excederem o máximo de resultados
+     */
+    private List<Long> buscarPorVarredura(String termo) {
+        List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Long, String> entrada : nomePorId.entrySet()) {
+            if (entrada.getValue().contains(termo)) {
+                ids.add(entrada.getKey());
+                if (ids.size() > maximoResultados) {
+                    return null;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void adicionarInterno(Long id, String nomeBusca) {
+        if (nomeBusca == null) {
+            return;
+        }
+
+        nomePorId.put(id, nomeBusca);
+        for (String trigrama : trigramas(nomeBusca)) {
+            idsPorTrigrama.computeIfAbsent(trigrama, t -> new ListaIds()).adicionar(id);
+        }
+    }
+
+    private void removerInterno(Long id) {
+        String nomeAnterior = nomePorId.remove(id);
+        if (nomeAnterior == null) {
+            return;
+        }
+
+        for (String trigrama : trigramas(nomeAnterior)) {
+            ListaIds lista = idsPorTrigrama.get(trigrama);
+            if (lista != null && lista.remover(id) && lista.tamanho == 0) {
+                idsPorTrigrama.remove(trigrama);
+            }
+        }
+    }
+
+    /**
+     * Trigramas distintos do texto, na ordem em que aparecem.
+     */
+    static Set<String> trigramas(String texto) {
+        Set<String> trigramas = new LinkedHashSet<>();
+        for (int i = 0; i + TAMANHO_GRAMA <= texto.length(); i++) {
+            trigramas.add(texto.substring(i, i + TAMANHO_GRAMA));
+        }
+        return trigramas;
+    }
+
+    /**
+     * Lista ordenada de IDs sobre um array de long. Os IDs vêm de sequência, então as
+     * inclusões costumam ocorrer no final, sem deslocamento.
+     */
+    private static final class ListaIds {
+
+        private long[] ids = new long[4];
+        private int tamanho;
+
+        int tamanho() {
+            return tamanho;
+        }
+
+        boolean contem(long id) {
+            return Arrays.binarySearch(ids, 0, tamanho, id) >= 0;
+        }
+
+        void adicionar(long id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao >= 0) {
+                return;
+            }
+
+            posicao = -posicao - 1;
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, tamanho * 2);
+            }
+            System.arraycopy(ids, posicao, ids, posicao + 1, tamanho - posicao);
+            ids[posicao] = id;
+            tamanho++;
+        }
+
+        boolean remover(long id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao < 0) {
+                return false;
+            }
+
+            System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.akdemia.api.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.akdemia.api.dto.AlunoSugestaoDTO;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.repository.AlunoRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice de prefixos em memória para sugestões de alunos ativos (autocompletar).
+ *
+ * Mantém mapas ordenados ({@link ConcurrentSkipListMap}) cujas chaves são textos
+ * normalizados seguidos do ID. Uma consulta por prefixo percorre apenas a faixa
+ * `[prefixo, prefixo + Character.MAX_VALUE)`, com custo O(log n + limite).
+ *
+ * ## Ranking
+ *
+ * 1. **Nome completo** começando pelo termo (correspondência exata primeiro)
+ * 2. **Matrícula** começando pelo termo
+ * 3. **Demais palavras do nome** começando pelo termo (ex: "sil" → "João Silva")
+ *
+ * Dentro de cada grupo, a ordem é alfabética pelo texto normalizado.
+ *
+ * ## Consistência
+ *
+ * - Carregado do banco ao final da inicialização
+ * - Atualizado incrementalmente pelos eventos {@link AlunoAlteradoEvent} após o commit;
+ *   alterações recebidas durante a carga prevalecem sobre os dados lidos pela carga
+ *   (ver {@link CargaIndice})
+ * - Leituras não bloqueiam; as escritas são serializadas
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class IndiceSugestoesAlunos {
+
+    private static final char SEPARADOR = '\u0000';
+    private static final char LIMITE_SUPERIOR = Character.MAX_VALUE;
+    private static final int TAMANHO_LOTE_CARGA = 5_000;
+
+    private final AlunoRepository alunoRepository;
+
+    private final ConcurrentSkipListMap<String, AlunoSugestaoDTO> porNome = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, AlunoSugestaoDTO> porMatricula = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, AlunoSugestaoDTO> porPalavra = new ConcurrentSkipListMap<>();
+
+    /**
+     * Chaves gravadas para cada aluno, para remoção na atualização ou desativação.
+     */
+    private final Map<Long, Chaves> chavesPorId = new ConcurrentHashMap<>();
+
+    // ReentrantLock em vez de synchronized: não prende a thread portadora (threads virtuais) na espera pelo lock
+    private final ReentrantLock lockEscrita = new ReentrantLock();
+    private final CargaIndice carga = new CargaIndice("índice de sugestões", lockEscrita, TAMANHO_LOTE_CARGA);
+
+    private volatile boolean pronto;
+
+    public IndiceSugestoesAlunos(AlunoRepository alunoRepository) {
+        this.alunoRepository = alunoRepository;
+    }
+
+    // ========== CONSULTA ==========
+
+    /**
+     * Retorna as sugestões de alunos ativos para o termo digitado.
+     *
+     * @param termo Termo já normalizado (ver {@link NormalizadorNome})
+     * @param limite Quantidade máxima de sugestões
+     * @return Sugestões ordenadas pelo ranking, ou vazio se o índice não estiver carregado
+     */
+    public Optional<List<AlunoSugestaoDTO>> sugerir(String termo, int limite) {
+        if (!pronto) {
+            return Optional.empty();
+        }
+        if (termo == null || termo.isEmpty() || limite <= 0) {
+            return Optional.of(List.of());
+        }
+
+        Map<Long, AlunoSugestaoDTO> sugestoes = new LinkedHashMap<>();
+        coletar(porNome, termo, limite, sugestoes);
+        coletar(porMatricula, termo, limite, sugestoes);
+        coletar(porPalavra, termo, limite, sugestoes);
+        return Optional.of(new ArrayList<>(sugestoes.values()));
+    }
+
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    // ========== CARGA E ATUALIZAÇÃO ==========
+
+    /**
+     * (Re)carrega o índice a partir dos alunos ativos do banco, em lotes por cursor.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long inicio = System.currentTimeMillis();
+        carga.carregar(
+                () -> {
+                    pronto = false;
+                    porNome.clear();
+                    porMatricula.clear();
+                    porPalavra.clear();
+                    chavesPorId.clear();
+                },
+                alunoRepository::findSugestoesAtivas,
+                linha -> adicionarInterno(new AlunoSugestaoDTO((Long) linha[0], (String) linha[1], (String) linha[2])),
+                () -> {
+                    pronto = true;
+                    log.info("Índice de sugestões carregado: {} alunos em {} ms",
+                            chavesPorId.size(), System.currentTimeMillis() - inicio);
+                });
+    }
+
+    /**
+     * Inclui ou atualiza um aluno ativo no índice.
+     *
+     * @param sugestao Dados de sugestão do aluno
+     */
+    public void indexar(AlunoSugestaoDTO sugestao) {
+        lockEscrita.lock();
+        try {
+            carga.marcarAlteracao(sugestao.getId());
+            removerInterno(sugestao.getId());
+            adicionarInterno(sugestao);
+        } finally {
+            lockEscrita.unlock();
+        }
+    }
+
+    /**
+     * Remove um aluno do índice (ex: desativação).
+     *
+     * @param id ID do aluno
+     */
+    public void remover(Long id) {
+        lockEscrita.lock();
+        try {
+            carga.marcarAlteracao(id);
+            removerInterno(id);
+        } finally {
+            lockEscrita.unlock();
+        }
+    }
+
+    /**
+     * Mantém o índice alinhado às alterações confirmadas de alunos.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAluno(AlunoAlteradoEvent evento) {
+        if (!evento.ativo()) {
+            remover(evento.aluno().getId());
+        } else {
+            indexar(new AlunoSugestaoDTO(evento.aluno().getId(), evento.aluno().getNome(),
+                    evento.aluno().getNumeroMatricula()));
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void coletar(ConcurrentSkipListMap<String, AlunoSugestaoDTO> indice, String termo, int limite,
+                         Map<Long, AlunoSugestaoDTO> sugestoes) {
+        NavigableMap<String, AlunoSugestaoDTO> faixa = indice.subMap(termo, true, termo + LIMITE_SUPERIOR, false);
+        for (AlunoSugestaoDTO sugestao : faixa.values()) {
+            if (sugestoes.size() >= limite) {
+                return;
+            }
+            sugestoes.putIfAbsent(sugestao.getId(), sugestao);
+        }
+    }
+
+    private void adicionarInterno(AlunoSugestaoDTO sugestao) {
+        Long id = sugestao.getId();
+        String nome = NormalizadorNome.normalizar(sugestao.getNome());
+        String matricula = sugestao.getNumeroMatricula() != null
+                ? sugestao.getNumeroMatricula().toLowerCase(Locale.ROOT)
+                : null;
+
+        Chaves chaves = new Chaves(new ArrayList<>(), matricula != null ? chave(matricula, id) : null,
+                nome != null ? chave(nome, id) : null);
+
+        if (chaves.nome() != null) {
+            porNome.put(chaves.nome(), sugestao);
+
+            // Cada palavra após a primeira vira um ponto de entrada: "joao da silva" → "da silva", "silva"
+            for (int i = nome.indexOf(' '); i >= 0; i = nome.indexOf(' ', i + 1)) {
+                String chavePalavra = chave(nome.substring(i + 1), id);
+                porPalavra.put(chavePalavra, sugestao);
+                chaves.palavras().add(chavePalavra);
+            }
+        }
+        if (chaves.matricula() != null) {
+            porMatricula.put(chaves.matricula(), sugestao);
+        }
+        chavesPorId.put(id, chaves);
+    }
+
+    private void removerInterno(Long id) {
+        Chaves chaves = chavesPorId.remove(id);
+        if (chaves == null) {
+            return;
+        }
+
+        if (chaves.nome() != null) {
+            porNome.remove(chaves.nome());
+        }
+        if (chaves.matricula() != null) {
+            porMatricula.remove(chaves.matricula());
+        }
+        chaves.palavras().forEach(porPalavra::remove);
+    }
+
+    private static String chave(String texto, Long id) {
+        return texto + SEPARADOR + id;
+    }
+
+    private record Chaves(List<String> palavras, String matricula, String nome) {
+    }
+}
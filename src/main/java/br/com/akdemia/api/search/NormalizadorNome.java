@@ -0,0 +1,44 @@
+package br.com.akdemia.api.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de nomes para busca.
+ *
+ * Remove acentos e diacríticos, converte para minúsculas e colapsa espaços,
+ * de forma que "José  da Conceição" e "jose da conceicao" sejam equivalentes.
+ *
+ * ## Uso
+ *
+ * - **Gravação:** Coluna `nome_busca` da entidade Aluno
+ * - **Consulta:** Termo informado na busca, antes de consultar o índice ou o banco
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+public final class NormalizadorNome {
+
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private NormalizadorNome() {
+    }
+
+    /**
+     * Normaliza um nome ou termo de busca.
+     *
+     * @param nome Nome original
+     * @return Nome sem acentos, em minúsculas e com espaços simples, ou null se nome for null
+     */
+    public static String normalizar(String nome) {
+        if (nome == null) {
+            return null;
+        }
+
+        String semAcentos = DIACRITICOS.matcher(Normalizer.normalize(nome, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
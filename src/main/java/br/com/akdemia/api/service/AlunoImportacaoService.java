@@ -0,0 +1,439 @@
+package br.com.akdemia.api.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.ImportacaoAlunosDTO;
+import br.com.akdemia.api.dto.ResultadoImportacaoAlunoDTO;
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.enums.StatusImportacao;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.mapper.AlunoMapper;
+import br.com.akdemia.api.repository.AlunoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service para importação de alunos em lote.
+ *
+ * Recebe o conteúdo em streaming (array JSON, NDJSON ou CSV) e o processa em lotes
+ * de tamanho configurável, cada um em sua própria transação.
+ *
+ * ## Processamento de Cada Lote
+ *
+ * - Validação dos campos via Bean Validation (mesmas regras de POST /alunos/novo)
+ * - Detecção de email/CPF repetidos dentro do próprio conteúdo
+ * - Verificação de email/CPF já cadastrados com uma única consulta `IN (...)`
+ * - Reserva dos números de matrícula em bloco
+ * - Gravação com JDBC batch (IDs por sequência, `hibernate.jdbc.batch_size`)
+ *
+ * Se a gravação do lote falhar por violação de unicidade (ex: cadastro concorrente),
+ * os registros do lote são gravados individualmente para isolar os rejeitados.
+ *
+ * ## Formato CSV
+ *
+ * - Primeira linha de cabeçalho com as colunas: nome, email, cpf, telefone, tipo
+ * - Separador vírgula ou ponto e vírgula (detectado pelo cabeçalho)
+ * - Campos sem aspas e sem separador no conteúdo
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlunoImportacaoService {
+
+    /**
+     * Tipo de conteúdo aceito para importação em CSV.
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    private static final List<String> COLUNAS_CSV = List.of("nome", "email", "cpf", "telefone", "tipo");
+
+    private final AlunoRepository alunoRepository;
+    private final AlunoMapper alunoMapper;
+    private final GeradorNumeroMatricula geradorNumeroMatricula;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${akdemia.alunos.importacao.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    /**
+     * Importa alunos a partir do conteúdo enviado.
+     *
+     * **Formatos aceitos:**
+     *
+     * - `application/json` - Array JSON de alunos
+     * - `application/x-ndjson` - Um aluno em JSON por linha
+     * - `text/csv` - Cabeçalho seguido de um aluno por linha
+     *
+     * @param conteudo Conteúdo a ser lido em streaming
+     * @param tipoConteudo Tipo do conteúdo (Content-Type da requisição)
+     * @return Relatório com o resultado de cada registro
+     * @throws BusinessException se o conteúdo estiver malformado
+     */
+    public ImportacaoAlunosDTO importar(InputStream conteudo, MediaType tipoConteudo) {
+        log.info("Iniciando importação de alunos em lote ({}), lotes de {}", tipoConteudo, tamanhoLote);
+        long inicio = System.nanoTime();
+
+        Iterator<RegistroImportacao> registros = TEXT_CSV.isCompatibleWith(tipoConteudo)
+                ? lerCsv(conteudo)
+                : lerJson(conteudo);
+
+        ImportacaoAlunosDTO relatorio = new ImportacaoAlunosDTO();
+        List<RegistroImportacao> lote = new ArrayList<>(tamanhoLote);
+        while (registros.hasNext()) {
+            lote.add(registros.next());
+            if (lote.size() == tamanhoLote) {
+                processarLote(lote, relatorio);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            processarLote(lote, relatorio);
+        }
+
+        relatorio.setDuracaoMs((System.nanoTime() - inicio) / 1_000_000);
+        log.info("Importação concluída: {} registros, {} importados, {} rejeitados em {} ms",
+                relatorio.getTotalRegistros(), relatorio.getImportados(),
+                relatorio.getRejeitados(), relatorio.getDuracaoMs());
+        return relatorio;
+    }
+
+    // ========== PROCESSAMENTO DE LOTES ==========
+
+    /**
+     * Valida e grava um lote, acrescentando ao relatório o resultado de cada registro
+     * na ordem em que foram lidos.
+     */
+    private void processarLote(List<RegistroImportacao> lote, ImportacaoAlunosDTO relatorio) {
+        ResultadoImportacaoAlunoDTO[] resultados = new ResultadoImportacaoAlunoDTO[lote.size()];
+        List<Integer> validos = new ArrayList<>(lote.size());
+        Set<String> emails = new HashSet<>();
+        Set<String> cpfs = new HashSet<>();
+
+        // Validação de campos e de repetições dentro do conteúdo enviado
+        for (int i = 0; i < lote.size(); i++) {
+            RegistroImportacao registro = lote.get(i);
+            String erro = registro.erro() != null ? registro.erro() : validarCampos(registro.aluno());
+
+            if (erro == null && emails.contains(registro.aluno().getEmail())) {
+                erro = "Email repetido no conteúdo enviado: " + registro.aluno().getEmail();
+            } else if (erro == null && cpfs.contains(registro.aluno().getCpf())) {
+                erro = "CPF repetido no conteúdo enviado: " + registro.aluno().getCpf();
+            }
+
+            if (erro != null) {
+                resultados[i] = rejeitado(registro, erro);
+            } else {
+                emails.add(registro.aluno().getEmail());
+                cpfs.add(registro.aluno().getCpf());
+                validos.add(i);
+            }
+        }
+
+        // Unicidade contra a base em uma única consulta
+        if (!validos.isEmpty()) {
+            validos = removerExistentes(lote, validos, emails, cpfs, resultados);
+        }
+
+        if (!validos.isEmpty()) {
+            List<String> numeros = geradorNumeroMatricula.reservar(validos.size());
+            for (int i = 0; i < validos.size(); i++) {
+                lote.get(validos.get(i)).aluno().setNumeroMatricula(numeros.get(i));
+            }
+            gravar(lote, validos, resultados);
+        }
+
+        for (ResultadoImportacaoAlunoDTO resultado : resultados) {
+            relatorio.getResultados().add(resultado);
+            if (resultado.getStatus() == StatusImportacao.IMPORTADO) {
+                relatorio.setImportados(relatorio.getImportados() + 1);
+            } else {
+                relatorio.setRejeitados(relatorio.getRejeitados() + 1);
+            }
+        }
+        relatorio.setTotalRegistros(relatorio.getTotalRegistros() + lote.size());
+    }
+
+    /**
+     * Rejeita os registros cujo email ou CPF já está cadastrado, retornando os que restaram.
+     */
+    private List<Integer> removerExistentes(List<RegistroImportacao> lote, List<Integer> validos,
+                                            Set<String> emails, Set<String> cpfs,
+                                            ResultadoImportacaoAlunoDTO[] resultados) {
+        List<Object[]> existentes = alunoRepository.findEmailsECpfsExistentes(emails, cpfs);
+        if (existentes.isEmpty()) {
+            return validos;
+        }
+
+        Set<Object> emailsExistentes = existentes.stream().map(linha -> linha[0]).collect(Collectors.toSet());
+        Set<Object> cpfsExistentes = existentes.stream().map(linha -> linha[1]).collect(Collectors.toSet());
+
+        List<Integer> restantes = new ArrayList<>(validos.size());
+        for (Integer i : validos) {
+            AlunoDTO aluno = lote.get(i).aluno();
+            if (emailsExistentes.contains(aluno.getEmail())) {
+                resultados[i] = rejeitado(lote.get(i), "Já existe um aluno com este email: " + aluno.getEmail());
+            } else if (cpfsExistentes.contains(aluno.getCpf())) {
+                resultados[i] = rejeitado(lote.get(i), "Já existe um aluno com este CPF: " + aluno.getCpf());
+            } else {
+                restantes.add(i);
+            }
+        }
+        return restantes;
+    }
+
+    /**
+     * Grava os registros válidos do lote em uma única transação com JDBC batch.
+     * Em caso de violação de unicidade, grava um a um para identificar os conflitantes.
+     */
+    private void gravar(List<RegistroImportacao> lote, List<Integer> validos,
+                        ResultadoImportacaoAlunoDTO[] resultados) {
+        try {
+            List<Aluno> alunos = transactionTemplate.execute(status -> {
+                List<Aluno> entidades = validos.stream()
+                        .map(i -> alunoMapper.toEntityForCreation(lote.get(i).aluno()))
+                        .toList();
+                alunoRepository.saveAll(entidades);
+                // Pelo repositório: a violação de unicidade chega traduzida como DataIntegrityViolationException
+                alunoRepository.flush();
+                entidades.forEach(this::publicarCriacao);
+                return entidades;
+            });
+
+            for (int i = 0; i < validos.size(); i++) {
+                resultados[validos.get(i)] = importado(lote.get(validos.get(i)), alunos.get(i));
+            }
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Conflito de unicidade ao gravar lote de {} alunos, gravando individualmente", validos.size());
+            for (Integer i : validos) {
+                resultados[i] = gravarIndividualmente(lote.get(i));
+            }
+        } finally {
+            // Evita que o contexto de persistência acumule as entidades de lotes anteriores
+            entityManager.clear();
+        }
+    }
+
+    private ResultadoImportacaoAlunoDTO gravarIndividualmente(RegistroImportacao registro) {
+        Aluno entidade = alunoMapper.toEntityForCreation(registro.aluno());
+        try {
+            Aluno aluno = transactionTemplate.execute(status -> {
+                Aluno salvo = alunoRepository.saveAndFlush(entidade);
+                publicarCriacao(salvo);
+                return salvo;
+            });
+            return importado(registro, aluno);
+        } catch (DataIntegrityViolationException ex) {
+            String mensagem = AlunoService.mensagemViolacaoUnicidade(ex, entidade);
+            return rejeitado(registro, mensagem != null ? mensagem : "Violação de integridade ao gravar o aluno");
+        }
+    }
+
+    /**
+     * Aplica as validações de Bean Validation do AlunoDTO.
+     *
+     * @return Mensagens de erro concatenadas, ou null se o registro for válido
+     */
+    private String validarCampos(AlunoDTO aluno) {
+        Set<ConstraintViolation<AlunoDTO>> violacoes = validator.validate(aluno);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Publica a criação dentro da transação; os ouvintes só a recebem após o commit.
+     */
+    private void publicarCriacao(Aluno aluno) {
+        eventPublisher.publishEvent(AlunoAlteradoEvent.criado(alunoMapper.toDTOSimple(aluno)));
+    }
+
+    private ResultadoImportacaoAlunoDTO importado(RegistroImportacao registro, Aluno aluno) {
+        return new ResultadoImportacaoAlunoDTO(registro.linha(), StatusImportacao.IMPORTADO,
+                aluno.getId(), aluno.getNumeroMatricula(), aluno.getEmail(), null);
+    }
+
+    private ResultadoImportacaoAlunoDTO rejeitado(RegistroImportacao registro, String mensagem) {
+        String email = registro.aluno() != null ? registro.aluno().getEmail() : null;
+        return new ResultadoImportacaoAlunoDTO(registro.linha(), StatusImportacao.REJEITADO,
+                null, null, email, mensagem);
+    }
+
+    // ========== LEITURA DO CONTEÚDO ==========
+
+    /**
+     * Lê um array JSON ou NDJSON em streaming, um registro por vez.
+     * Registros com tipos inválidos (ex: tipo de usuário inexistente) são rejeitados
+     * individualmente; JSON malformado interrompe a importação.
+     */
+    private Iterator<RegistroImportacao> lerJson(InputStream conteudo) {
+        MappingIterator<AlunoDTO> valores;
+        try {
+            valores = objectMapper.readerFor(AlunoDTO.class).readValues(conteudo);
+        } catch (IOException e) {
+            throw new BusinessException("Conteúdo JSON inválido: " + e.getMessage());
+        }
+
+        return new Iterator<>() {
+            private int linha = 0;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    return valores.hasNextValue();
+                } catch (IOException e) {
+                    throw new BusinessException("Conteúdo JSON inválido após o registro " + linha + ": " + e.getMessage());
+                }
+            }
+
+            @Override
+            public RegistroImportacao next() {
+                linha++;
+                try {
+                    return new RegistroImportacao(linha, valores.nextValue(), null);
+                } catch (JsonMappingException e) {
+                    return new RegistroImportacao(linha, null, "Registro inválido: " + e.getOriginalMessage());
+                } catch (IOException e) {
+                    throw new BusinessException("Conteúdo JSON inválido no registro " + linha + ": " + e.getMessage());
+                }
+            }
+        };
+    }
+
+    /**
+     * Lê um CSV em streaming, uma linha por vez. A primeira linha deve ser o cabeçalho.
+     */
+    private Iterator<RegistroImportacao> lerCsv(InputStream conteudo) {
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(conteudo, StandardCharsets.UTF_8));
+
+        String cabecalho = lerLinha(leitor);
+        if (cabecalho == null) {
+            return Collections.emptyIterator();
+        }
+
+        String separador = cabecalho.contains(";") ? ";" : ",";
+        List<String> colunas = Arrays.stream(cabecalho.replace("\uFEFF", "").split(separador))
+                .map(coluna -> coluna.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        if (!colunas.containsAll(COLUNAS_CSV)) {
+            throw new BusinessException("Cabeçalho CSV deve conter as colunas: " + String.join(",", COLUNAS_CSV));
+        }
+
+        return new Iterator<>() {
+            private int linha = 0;
+            private String proxima = avancar();
+
+            private String avancar() {
+                String atual;
+                do {
+                    atual = lerLinha(leitor);
+                } while (atual != null && atual.isBlank());
+                return atual;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return proxima != null;
+            }
+
+            @Override
+            public RegistroImportacao next() {
+                if (proxima == null) {
+                    throw new NoSuchElementException();
+                }
+                linha++;
+                String atual = proxima;
+                proxima = avancar();
+                return converterLinhaCsv(linha, atual.split(separador, -1), colunas);
+            }
+        };
+    }
+
+    private RegistroImportacao converterLinhaCsv(int linha, String[] valores, List<String> colunas) {
+        if (valores.length != colunas.size()) {
+            return new RegistroImportacao(linha, null,
+                    "Quantidade de colunas inválida: esperado " + colunas.size() + ", encontrado " + valores.length);
+        }
+
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setNome(valorCsv(valores, colunas, "nome"));
+        aluno.setEmail(valorCsv(valores, colunas, "email"));
+        aluno.setCpf(valorCsv(valores, colunas, "cpf"));
+        aluno.setTelefone(valorCsv(valores, colunas, "telefone"));
+
+        String tipo = valorCsv(valores, colunas, "tipo");
+        if (tipo != null) {
+            try {
+                aluno.setTipo(TipoUsuario.valueOf(tipo.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                return new RegistroImportacao(linha, aluno, "Tipo de usuário inválido: " + tipo);
+            }
+        }
+
+        return new RegistroImportacao(linha, aluno, null);
+    }
+
+    private String valorCsv(String[] valores, List<String> colunas, String coluna) {
+        String valor = valores[colunas.indexOf(coluna)].trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private String lerLinha(BufferedReader leitor) {
+        try {
+            return leitor.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Registro lido do conteúdo enviado, com a posição e o erro de leitura (se houver).
+     */
+    private record RegistroImportacao(int linha, AlunoDTO aluno, String erro) {
+    }
+}
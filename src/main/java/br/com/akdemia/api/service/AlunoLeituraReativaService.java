@@ -0,0 +1,156 @@
+package br.com.akdemia.api.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+
+import br.com.akdemia.api.cache.AlunoCache;
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.mapper.AlunoLinhaMapper;
+import br.com.akdemia.api.search.IndiceNomeAlunos;
+import br.com.akdemia.api.search.NormalizadorNome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service de leitura não bloqueante de alunos, sobre R2DBC.
+ *
+ * Espelha as consultas de {@link AlunoService} usadas pelo app móvel (busca por ID,
+ * listagem e busca com filtros), retornando {@link Mono}/{@link Flux} e o mesmo
+ * contrato {@link AlunoDTO}. Nenhuma thread fica bloqueada aguardando o banco.
+ *
+ * ## Características
+ *
+ * - **Somente leitura:** Escritas continuam em {@link AlunoService} (JPA)
+ * - **Cache:** Busca por ID consulta e alimenta o mesmo {@link AlunoCache} da API bloqueante
+ * - **Busca por nome:** Usa o {@link IndiceNomeAlunos} e recorre ao LIKE em `nome_busca`
+ *   quando o índice não responde
+ * - **Backpressure:** As linhas são emitidas conforme a demanda do assinante
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlunoLeituraReativaService {
+
+    private static final String COLUNAS = """
+            a.id, a.nome, a.email, a.cpf, a.telefone, a.tipo, a.numero_matricula, a.ativo,
+            a.data_cadastro, a.data_atualizacao, a.data_desativacao
+            """;
+
+    private static final String SELECT_DETALHE = "SELECT " + COLUNAS + """
+            , (SELECT LISTAGG(CAST(m.id AS VARCHAR), ',') WITHIN GROUP (ORDER BY m.id)
+                 FROM tb_matriculas m WHERE m.aluno_id = a.id) AS matriculas_ids
+            , (SELECT LISTAGG(CAST(t.id AS VARCHAR), ',') WITHIN GROUP (ORDER BY t.id)
+                 FROM tb_treinos t WHERE t.aluno_id = a.id) AS treinos_ids
+            , (SELECT LISTAGG(CAST(av.id AS VARCHAR), ',') WITHIN GROUP (ORDER BY av.id)
+                 FROM tb_avaliacoes av WHERE av.aluno_id = a.id) AS avaliacoes_ids
+              FROM tb_alunos a
+             WHERE a.id = :id
+            """;
+
+    private static final String SELECT_ATIVOS = "SELECT " + COLUNAS + " FROM tb_alunos a WHERE a.ativo = TRUE";
+
+    private final DatabaseClient databaseClient;
+    private final AlunoLinhaMapper alunoLinhaMapper;
+    private final AlunoCache alunoCache;
+    private final IndiceNomeAlunos indiceNomeAlunos;
+
+    // ========== OPERAÇÕES DE BUSCA ==========
+
+    /**
+     * Busca aluno por ID (incluindo inativos), com os IDs dos relacionamentos.
+     *
+     * **Cache:** Consulta o {@link AlunoCache} antes do banco
+     *
+     * @param id ID do aluno
+     * @return Mono com o aluno, ou erro {@link ResourceNotFoundException} se não existir
+     */
+    public Mono<AlunoDTO> buscarPorId(Long id) {
+        log.debug("Buscando aluno por ID (reativo): {}", id);
+
+        return Mono.justOrEmpty(alunoCache.buscarPorId(id))
+                .switchIfEmpty(Mono.defer(() -> {
+                    long marca = alunoCache.marcarLeitura();
+                    return databaseClient.sql(SELECT_DETALHE)
+                            .bind("id", id)
+                            .map(alunoLinhaMapper::toDTODetalhe)
+                            .one()
+                            .doOnNext(aluno -> alunoCache.armazenar(aluno, marca));
+                }))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Aluno não encontrado com ID: " + id)));
+    }
+
+    // ========== OPERAÇÕES DE LISTAGEM ==========
+
+    /**
+     * Lista todos os alunos ativos, em ordem crescente de ID.
+     *
+     * **Backpressure:** As linhas são lidas conforme o assinante as consome
+     *
+     * @return Flux de DTOs simplificados de alunos ativos
+     */
+    public Flux<AlunoDTO> listarTodos() {
+        log.debug("Listando todos os alunos ativos (reativo)");
+
+        return databaseClient.sql(SELECT_ATIVOS + " ORDER BY a.id")
+                .map(alunoLinhaMapper::toDTOSimple)
+                .all();
+    }
+
+    /**
+     * Busca alunos ativos com filtros opcionais, paginado por LIMIT/OFFSET em ordem de ID.
+     *
+     * **Flexibilidade:** Parâmetros null são ignorados
+     * **Nome:** Mesma busca sem acentos de {@link AlunoService#buscarPorNome(String)}
+     *
+     * @param nome Nome para filtro (opcional)
+     * @param tipo Tipo de usuário para filtro (opcional)
+     * @param pagina Número da página (a partir de 0)
+     * @param tamanho Tamanho da página
+     * @return Flux com os alunos da página
+     */
+    public Flux<AlunoDTO> buscarComFiltros(String nome, TipoUsuario tipo, int pagina, int tamanho) {
+        log.debug("Buscando alunos com filtros (reativo) - Nome: {}, Tipo: {}", nome, tipo);
+
+        String termo = NormalizadorNome.normalizar(nome);
+        Optional<List<Long>> ids = indiceNomeAlunos.buscar(termo);
+        if (ids.isPresent() && ids.get().isEmpty()) {
+            return Flux.empty();
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_ATIVOS);
+        if (ids.isPresent()) {
+            sql.append(" AND a.id IN (:ids)");
+        } else if (termo != null && !termo.isEmpty()) {
+            sql.append(" AND a.nome_busca LIKE :nome");
+        }
+        if (tipo != null) {
+            sql.append(" AND a.tipo = CAST(:tipo AS VARCHAR(20))");
+        }
+        sql.append(" ORDER BY a.id LIMIT :limite OFFSET :deslocamento");
+
+        DatabaseClient.GenericExecuteSpec consulta = databaseClient.sql(sql.toString())
+                .bind("limite", tamanho)
+                .bind("deslocamento", (long) pagina * tamanho);
+        if (ids.isPresent()) {
+            consulta = consulta.bind("ids", ids.get());
+        } else if (termo != null && !termo.isEmpty()) {
+            consulta = consulta.bind("nome", "%" + termo + "%");
+        }
+        if (tipo != null) {
+            consulta = consulta.bind("tipo", tipo.name());
+        }
+
+        return consulta.map(alunoLinhaMapper::toDTOSimple).all();
+    }
+}
@@ -1,20 +1,42 @@
 package br.com.akdemia.api.service;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.akdemia.api.cache.AlunoCache;
 import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.AlunoSugestaoDTO;
+import br.com.akdemia.api.dto.EstatisticasAlunosDTO;
+import br.com.akdemia.api.dto.PaginaDTO;
 import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.enums.OperacaoAluno;
 import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
 import br.com.akdemia.api.exception.BusinessException;
 import br.com.akdemia.api.exception.ResourceNotFoundException;
 import br.com.akdemia.api.mapper.AlunoMapper;
 import br.com.akdemia.api.repository.AlunoRepository;
+import br.com.akdemia.api.search.IndiceNomeAlunos;
+import br.com.akdemia.api.search.IndiceSugestoesAlunos;
+import br.com.akdemia.api.search.NormalizadorNome;
+import br.com.akdemia.api.stats.EstatisticasAlunos;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,10 +47,14 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * - Operações CRUD completas (criar, buscar, atualizar, desativar)
  * - Validações de regras de negócio
- * - Geração automática de números de matrícula
+ * - Geração automática de números de matrícula (via {@link GeradorNumeroMatricula})
  * - Soft delete (desativação/reativação)
  * - Buscas avançadas e filtros
  * - Controle de transações
+ * - Cache das buscas por ID, email, CPF e matrícula (via {@link AlunoCache})
+ * - Busca por nome sem acentos via índice em memória (via {@link IndiceNomeAlunos})
+ * - Sugestões para autocompletar (via {@link IndiceSugestoesAlunos})
+ * - Contadores de estatísticas em memória (via {@link EstatisticasAlunos})
  * 
  * ## Regras de Negócio
  * 
@@ -55,6 +81,13 @@ public class AlunoService {
     
     private final AlunoRepository alunoRepository;
     private final AlunoMapper alunoMapper;
+    private final GeradorNumeroMatricula geradorNumeroMatricula;
+    private final EntityManager entityManager;
+    private final AlunoCache alunoCache;
+    private final IndiceNomeAlunos indiceNomeAlunos;
+    private final IndiceSugestoesAlunos indiceSugestoesAlunos;
+    private final EstatisticasAlunos estatisticasAlunos;
+    private final ApplicationEventPublisher eventPublisher;
     
     // ========== OPERAÇÕES DE CRIAÇÃO ==========
     
@@ -75,26 +108,30 @@ public class AlunoService {
      * 
      * @param alunoDTO Dados do aluno a ser criado
      * @return DTO do aluno criado com ID e dados de auditoria
-     * @throws BusinessException se email ou CPF já existir entre alunos ativos
+     * @throws BusinessException se email, CPF ou matrícula já existir
      * @throws IllegalArgumentException se dados obrigatórios estiverem ausentes
      */
     public AlunoDTO criar(AlunoDTO alunoDTO) {
-        log.info("Iniciando criação de novo aluno: {}", alunoDTO.getEmail());
+        log.debug("Iniciando criação de novo aluno: {}", alunoDTO.getEmail());
         
-        // Validações de negócio
         validarDadosObrigatorios(alunoDTO);
-        validarAlunoUnico(alunoDTO);
         
         // Gerar número de matrícula
-        String numeroMatricula = gerarNumeroMatricula();
+        String numeroMatricula = geradorNumeroMatricula.proximo();
         alunoDTO.setNumeroMatricula(numeroMatricula);
         
-        // Converter e salvar
+        // Validações de negócio (email, CPF e matrícula em uma única consulta)
+        validarAlunoUnico(alunoDTO);
+        
+        // Converter e salvar - conflitos concorrentes são barrados pelos índices únicos
         Aluno aluno = alunoMapper.toEntityForCreation(alunoDTO);
-        aluno = alunoRepository.save(aluno);
+        aluno = salvarComUnicidade(aluno);
         
         log.info("Aluno criado com sucesso. ID: {}, Matrícula: {}", aluno.getId(), aluno.getNumeroMatricula());
-        return alunoMapper.toDTO(aluno);
+        // Aluno recém-criado não possui relacionamentos - dispensa a consulta das coleções
+        AlunoDTO criado = alunoMapper.toDTOSimple(aluno);
+        eventPublisher.publishEvent(AlunoAlteradoEvent.criado(criado));
+        return criado;
     }
     
     // ========== OPERAÇÕES DE BUSCA ==========
@@ -102,7 +139,8 @@ public class AlunoService {
     /**
      * Busca aluno por ID (incluindo inativos).
      * 
-     * **Comportamento:** Retorna aluno independente do status ativo/inativo
+     * **Comportamento:** Retorna aluno independente do status ativo/inativo  
+     * **Cache:** Consulta o {@link AlunoCache} antes do banco
      * 
      * @param id ID do aluno
      * @return DTO do aluno encontrado
@@ -110,12 +148,31 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public AlunoDTO buscarPorId(Long id) {
-        log.info("Buscando aluno por ID: {}", id);
+        log.debug("Buscando aluno por ID: {}", id);
         
-        Aluno aluno = alunoRepository.findById(id)
+        return alunoCache.buscarPorId(id).orElseGet(() -> {
+            long marca = alunoCache.marcarLeitura();
+            Object[] detalhe = primeiraLinha(alunoRepository.findDetalheById(id), "Aluno não encontrado com ID: " + id);
+            return armazenarEmCache(detalhe, marca);
+        });
+    }
+    
+    /**
+     * Busca a versão do aluno (data da última modificação, ou de cadastro), para GET condicional.
+     * 
+     * **Comportamento:** Não carrega a entidade nem monta o DTO  
+     * **Cache:** Usa o DTO do {@link AlunoCache}, se presente; senão, consulta apenas a versão no banco
+     * 
+     * @param id ID do aluno (incluindo inativos)
+     * @return Versão atual do aluno
+     * @throws ResourceNotFoundException se aluno não for encontrado
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime buscarVersao(Long id) {
+        return alunoCache.buscarPorId(id)
+                .map(aluno -> aluno.getDataAtualizacao() != null ? aluno.getDataAtualizacao() : aluno.getDataCadastro())
+                .or(() -> alunoRepository.findVersaoById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado com ID: " + id));
-        
-        return alunoMapper.toDTO(aluno);
     }
     
     /**
@@ -130,12 +187,15 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public AlunoDTO buscarAtivoPorId(Long id) {
-        log.info("Buscando aluno ativo por ID: {}", id);
+        log.debug("Buscando aluno ativo por ID: {}", id);
         
-        Aluno aluno = alunoRepository.findByIdAndAtivoTrue(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Aluno ativo não encontrado com ID: " + id));
+        String mensagem = "Aluno ativo não encontrado com ID: " + id;
+        AlunoDTO aluno = alunoMapper.toDTODetalhe(primeiraLinha(alunoRepository.findDetalheById(id), mensagem));
+        if (!Boolean.TRUE.equals(aluno.getAtivo())) {
+            throw new ResourceNotFoundException(mensagem);
+        }
         
-        return alunoMapper.toDTO(aluno);
+        return aluno;
     }
     
     /**
@@ -147,12 +207,13 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public AlunoDTO buscarPorEmail(String email) {
-        log.info("Buscando aluno por email: {}", email);
-        
-        Aluno aluno = alunoRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado com email: " + email));
+        log.debug("Buscando aluno por email: {}", email);
         
-        return alunoMapper.toDTO(aluno);
+        return alunoCache.buscarPorEmail(email).orElseGet(() -> {
+            long marca = alunoCache.marcarLeitura();
+            Object[] detalhe = primeiraLinha(alunoRepository.findDetalheByEmail(email), "Aluno não encontrado com email: " + email);
+            return armazenarEmCache(detalhe, marca);
+        });
     }
     
     /**
@@ -164,12 +225,13 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public AlunoDTO buscarPorCpf(String cpf) {
-        log.info("Buscando aluno por CPF: {}", cpf);
+        log.debug("Buscando aluno por CPF: {}", cpf);
         
-        Aluno aluno = alunoRepository.findByCpf(cpf)
-                .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado com CPF: " + cpf));
-        
-        return alunoMapper.toDTO(aluno);
+        return alunoCache.buscarPorCpf(cpf).orElseGet(() -> {
+            long marca = alunoCache.marcarLeitura();
+            Object[] detalhe = primeiraLinha(alunoRepository.findDetalheByCpf(cpf), "Aluno não encontrado com CPF: " + cpf);
+            return armazenarEmCache(detalhe, marca);
+        });
     }
     
     /**
@@ -181,12 +243,13 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public AlunoDTO buscarPorMatricula(String numeroMatricula) {
-        log.info("Buscando aluno por matrícula: {}", numeroMatricula);
-        
-        Aluno aluno = alunoRepository.findByNumeroMatricula(numeroMatricula)
-                .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado com matrícula: " + numeroMatricula));
+        log.debug("Buscando aluno por matrícula: {}", numeroMatricula);
         
-        return alunoMapper.toDTO(aluno);
+        return alunoCache.buscarPorMatricula(numeroMatricula).orElseGet(() -> {
+            long marca = alunoCache.marcarLeitura();
+            Object[] detalhe = primeiraLinha(alunoRepository.findDetalheByNumeroMatricula(numeroMatricula), "Aluno não encontrado com matrícula: " + numeroMatricula);
+            return armazenarEmCache(detalhe, marca);
+        });
     }
     
     // ========== OPERAÇÕES DE LISTAGEM ==========
@@ -201,12 +264,48 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public List<AlunoDTO> listarTodos() {
-        log.info("Listando todos os alunos ativos");
+        log.debug("Listando todos os alunos ativos");
         
         List<Aluno> alunos = alunoRepository.findByAtivoTrue();
         return alunoMapper.toDTOSimpleList(alunos);
     }
     
+    /**
+     * Percorre todos os alunos ativos em lotes, com paginação por cursor (keyset) no ID.
+     * 
+     * **Comportamento:**
+     * 
+     * - Cada lote é lido com `id > ultimoId ORDER BY id`, sem OFFSET
+     * - As entidades do lote são descartadas do contexto de persistência após a conversão
+     * - Cada lote é lido fora de transação longa, sem prender conexão durante a escrita
+     * 
+     * **Memória:** Limitada ao tamanho do lote, independente do total de alunos  
+     * **Uso:** Exportações e streaming de respostas (NDJSON)
+     * 
+     * @param tamanhoLote Quantidade de registros por lote
+     * @param consumidor Recebe cada lote de DTOs simplificados, em ordem crescente de ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void percorrerAtivos(int tamanhoLote, Consumer<List<AlunoDTO>> consumidor) {
+        log.debug("Percorrendo alunos ativos em lotes de {}", tamanhoLote);
+        
+        Long ultimoId = 0L;
+        List<Aluno> lote;
+        do {
+            lote = alunoRepository.findByAtivoTrueAndIdGreaterThanOrderByIdAsc(ultimoId, Limit.of(tamanhoLote));
+            if (lote.isEmpty()) {
+                break;
+            }
+            
+            ultimoId = lote.get(lote.size() - 1).getId();
+            List<AlunoDTO> dtos = alunoMapper.toDTOSimpleList(lote);
+            
+            // Evita que o contexto de persistência acumule as entidades já enviadas
+            entityManager.clear();
+            consumidor.accept(dtos);
+        } while (lote.size() == tamanhoLote);
+    }
+    
     /**
      * Lista todos os alunos ativos com paginação.
      * 
@@ -218,7 +317,7 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public Page<AlunoDTO> listarTodosComPaginacao(Pageable pageable) {
-        log.info("Listando alunos ativos com paginação: página {}, tamanho {}", 
+        log.debug("Listando alunos ativos com paginação: página {}, tamanho {}", 
                 pageable.getPageNumber(), pageable.getPageSize());
         
         Page<Aluno> alunos = alunoRepository.findByAtivoTrue(pageable);
@@ -233,7 +332,7 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public List<AlunoDTO> listarPorTipo(TipoUsuario tipo) {
-        log.info("Listando alunos ativos por tipo: {}", tipo);
+        log.debug("Listando alunos ativos por tipo: {}", tipo);
         
         List<Aluno> alunos = alunoRepository.findByTipoAndAtivoTrue(tipo);
         return alunoMapper.toDTOSimpleList(alunos);
@@ -248,7 +347,7 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public List<AlunoDTO> listarInativos() {
-        log.info("Listando todos os alunos inativos");
+        log.debug("Listando todos os alunos inativos");
         
         List<Aluno> alunos = alunoRepository.findByAtivoFalse();
         return alunoMapper.toDTOSimpleList(alunos);
@@ -257,25 +356,60 @@ public class AlunoService {
     // ========== OPERAÇÕES DE BUSCA AVANÇADA ==========
     
     /**
-     * Busca alunos ativos por nome (busca parcial, case insensitive).
+     * Busca alunos ativos por nome (busca parcial, sem acentos, case insensitive).
      * 
-     * **Comportamento:** Busca por substring no nome
+     * **Comportamento:** Busca por substring no nome normalizado ("jose" encontra "José")  
+     * **Performance:** IDs resolvidos pelo índice de trigramas em memória; o banco é
+     * consultado por LIKE em `nome_busca` apenas se o índice não estiver pronto ou o
+     * termo casar com muitos alunos  
+     * **Limite:** No máximo `akdemia.busca.nome.maximo-resultados` alunos, em ordem de ID
      * 
      * @param nome Nome ou parte do nome para busca
      * @return Lista de DTOs de alunos que contêm o nome especificado
      */
     @Transactional(readOnly = true)
     public List<AlunoDTO> buscarPorNome(String nome) {
-        log.info("Buscando alunos ativos por nome: {}", nome);
+        log.debug("Buscando alunos ativos por nome: {}", nome);
         
-        List<Aluno> alunos = alunoRepository.findByNomeContainingIgnoreCaseAndAtivoTrue(nome);
+        String termo = NormalizadorNome.normalizar(nome);
+        List<Aluno> alunos = indiceNomeAlunos.buscar(termo)
+                .map(ids -> ids.isEmpty() ? List.<Aluno>of() : alunoRepository.findByIdInAndAtivoTrueOrderByIdAsc(ids))
+                .orElseGet(() -> alunoRepository.findByNomeBuscaContainingAndAtivoTrueOrderByIdAsc(
+                        termo, Limit.of(indiceNomeAlunos.getMaximoResultados())));
         return alunoMapper.toDTOSimpleList(alunos);
     }
     
+    /**
+     * Sugere alunos ativos para autocompletar, pelo início do nome, de uma palavra do
+     * nome ou da matrícula.
+     * 
+     * **Comportamento:** Sem acentos e sem diferenciar maiúsculas; ranking definido
+     * em {@link IndiceSugestoesAlunos}  
+     * **Performance:** Resolvido em memória, sem abrir transação nem acessar o banco;
+     * enquanto o índice é carregado, consulta o prefixo do nome no banco
+     * 
+     * @param termo Texto digitado
+     * @param limite Quantidade máxima de sugestões
+     * @return Lista de sugestões (id, nome e matrícula)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<AlunoSugestaoDTO> sugerir(String termo, int limite) {
+        log.debug("Sugerindo alunos para o termo: {}", termo);
+        
+        String termoNormalizado = NormalizadorNome.normalizar(termo);
+        return indiceSugestoesAlunos.sugerir(termoNormalizado, limite)
+                .orElseGet(() -> alunoRepository
+                        .findByNomeBuscaNoIntervalo(termoNormalizado, fimDoPrefixo(termoNormalizado), Limit.of(limite))
+                        .stream()
+                        .map(aluno -> new AlunoSugestaoDTO(aluno.getId(), aluno.getNome(), aluno.getNumeroMatricula()))
+                        .toList());
+    }
+    
     /**
      * Busca alunos ativos com filtros múltiplos e paginação.
      * 
-     * **Flexibilidade:** Parâmetros null são ignorados
+     * **Flexibilidade:** Parâmetros null são ignorados  
+     * **Nome:** Mesma busca sem acentos de {@link #buscarPorNome(String)}
      * 
      * @param nome Nome para filtro (opcional)
      * @param tipo Tipo de usuário para filtro (opcional)
@@ -284,12 +418,87 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public Page<AlunoDTO> buscarComFiltros(String nome, TipoUsuario tipo, Pageable pageable) {
-        log.info("Buscando alunos com filtros - Nome: {}, Tipo: {}", nome, tipo);
-        
-        Page<Aluno> alunos = alunoRepository.findByFiltros(nome, tipo, pageable);
+        log.debug("Buscando alunos com filtros - Nome: {}, Tipo: {}", nome, tipo);
+        
+        String termo = NormalizadorNome.normalizar(nome);
+        Page<Aluno> alunos = indiceNomeAlunos.buscar(termo)
+                .map(ids -> ids.isEmpty()
+                        ? new PageImpl<Aluno>(List.of(), pageable, 0)
+                        : alunoRepository.findByIdsEFiltros(ids, tipo, pageable))
+                .orElseGet(() -> alunoRepository.findByFiltros(termo, tipo, pageable));
         return alunos.map(alunoMapper::toDTOSimple);
     }
     
+    /**
+     * Lista alunos ativos com filtros, paginados por número de página.
+     * 
+     * **Contagem:** O `COUNT(*)` só é executado quando `incluirTotal` é true; caso contrário
+     * a consulta lê um registro a mais para saber se há próxima página  
+     * **Cursor:** Com ordenação por ID, a resposta traz o cursor para continuar por
+     * {@link #listarAposId(String, TipoUsuario, Long, int)}, sem OFFSET
+     * 
+     * @param nome Nome para filtro (opcional)
+     * @param tipo Tipo de usuário para filtro (opcional)
+     * @param pageable Página, tamanho e ordenação
+     * @param incluirTotal Se true, calcula o total de elementos e de páginas
+     * @return Página de DTOs de alunos filtrados
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<AlunoDTO> listarPaginado(String nome, TipoUsuario tipo, Pageable pageable, boolean incluirTotal) {
+        log.debug("Listando alunos - Nome: {}, Tipo: {}, página {}, tamanho {}, total: {}", 
+                nome, tipo, pageable.getPageNumber(), pageable.getPageSize(), incluirTotal);
+        
+        if (incluirTotal) {
+            Page<AlunoDTO> pagina = buscarComFiltros(nome, tipo, pageable);
+            return new PaginaDTO<>(pagina.getContent(), pagina.getNumber(), pagina.getSize(), pagina.hasNext(),
+                    proximoCursor(pagina), pagina.getTotalElements(), pagina.getTotalPages());
+        }
+        
+        String termo = NormalizadorNome.normalizar(nome);
+        Slice<AlunoDTO> pagina = indiceNomeAlunos.buscar(termo)
+                .map(ids -> ids.isEmpty()
+                        ? new SliceImpl<Aluno>(List.of(), pageable, false)
+                        : alunoRepository.findSliceByIdsEFiltros(ids, tipo, pageable))
+                .orElseGet(() -> alunoRepository.findSliceByFiltros(termo, tipo, pageable))
+                .map(alunoMapper::toDTOSimple);
+        return new PaginaDTO<>(pagina.getContent(), pagina.getNumber(), pagina.getSize(), pagina.hasNext(),
+                proximoCursor(pagina), null, null);
+    }
+    
+    /**
+     * Lista alunos ativos com filtros, paginados por cursor (keyset) no ID.
+     * 
+     * **Performance:** Custo constante em qualquer profundidade, sem OFFSET nem `COUNT(*)`  
+     * **Uso:** Rolagem infinita e percursos completos; a próxima página é pedida com o
+     * `proximoCursor` da resposta
+     * 
+     * @param nome Nome para filtro (opcional)
+     * @param tipo Tipo de usuário para filtro (opcional)
+     * @param aposId Último ID já recebido (0 para a primeira página)
+     * @param tamanho Tamanho da página
+     * @return Página de DTOs em ordem crescente de ID
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<AlunoDTO> listarAposId(String nome, TipoUsuario tipo, Long aposId, int tamanho) {
+        log.debug("Listando alunos após ID {} - Nome: {}, Tipo: {}, tamanho {}", aposId, nome, tipo, tamanho);
+        
+        String termo = NormalizadorNome.normalizar(nome);
+        Limit limite = Limit.of(tamanho + 1);
+        List<Aluno> alunos = indiceNomeAlunos.buscar(termo)
+                .map(ids -> {
+                    List<Long> restantes = idsApos(ids, aposId);
+                    return restantes.isEmpty()
+                            ? List.<Aluno>of()
+                            : alunoRepository.findAposIdByIdsEFiltros(restantes, tipo, aposId, limite);
+                })
+                .orElseGet(() -> alunoRepository.findAposIdByFiltros(termo, tipo, aposId, limite));
+        
+        boolean temProxima = alunos.size() > tamanho;
+        List<AlunoDTO> conteudo = alunoMapper.toDTOSimpleList(temProxima ? alunos.subList(0, tamanho) : alunos);
+        Long cursor = temProxima ? conteudo.get(conteudo.size() - 1).getId() : null;
+        return new PaginaDTO<>(conteudo, null, tamanho, temProxima, cursor, null, null);
+    }
+    
     /**
      * Busca alunos ativos sem matrículas em cursos.
      * 
@@ -299,7 +508,7 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public List<AlunoDTO> buscarSemMatricula() {
-        log.info("Buscando alunos ativos sem matrícula em cursos");
+        log.debug("Buscando alunos ativos sem matrícula em cursos");
         
         List<Aluno> alunos = alunoRepository.findAlunosSemMatricula();
         return alunoMapper.toDTOSimpleList(alunos);
@@ -329,21 +538,28 @@ public class AlunoService {
      * @throws BusinessException se email ou CPF já existir para outro aluno ativo
      */
     public AlunoDTO atualizar(Long id, AlunoDTO alunoDTO) {
-        log.info("Iniciando atualização do aluno ID: {}", id);
-        
-        // Buscar aluno ativo
-        Aluno aluno = alunoRepository.findByIdAndAtivoTrue(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Aluno ativo não encontrado com ID: " + id));
+        log.debug("Iniciando atualização do aluno ID: {}", id);
+        
+        // Buscar aluno ativo junto com os IDs dos relacionamentos (inalterados pela atualização)
+        String mensagem = "Aluno ativo não encontrado com ID: " + id;
+        Object[] detalhe = primeiraLinha(alunoRepository.findDetalheById(id), mensagem);
+        Aluno aluno = (Aluno) detalhe[0];
+        if (!Boolean.TRUE.equals(aluno.getAtivo())) {
+            throw new ResourceNotFoundException(mensagem);
+        }
         
         // Validações de negócio
         validarAlunoUnicoParaAtualizacao(alunoDTO, id);
         
         // Atualizar dados
+        TipoUsuario tipoAnterior = aluno.getTipo();
         alunoMapper.updateEntityFromDTO(alunoDTO, aluno);
-        aluno = alunoRepository.save(aluno);
+        detalhe[0] = salvarComUnicidade(aluno);
         
         log.info("Aluno atualizado com sucesso. ID: {}", id);
-        return alunoMapper.toDTO(aluno);
+        AlunoDTO atualizado = alunoMapper.toDTODetalhe(detalhe);
+        eventPublisher.publishEvent(new AlunoAlteradoEvent(OperacaoAluno.ATUALIZADO, atualizado, tipoAnterior, true));
+        return atualizado;
     }
     
     // ========== OPERAÇÕES DE SOFT DELETE ==========
@@ -354,7 +570,7 @@ public class AlunoService {
      * **Comportamento:**
      * 
      * - Marca aluno como inativo
-     * - Registra data de desativação
+     * - Registra data de desativação (também como data de atualização, que muda o ETag)
      * - Preserva todos os dados históricos
      * - Aluno não aparece mais em listagens padrão
      * 
@@ -363,7 +579,7 @@ public class AlunoService {
      * @throws BusinessException se aluno já estiver inativo
      */
     public void desativar(Long id) {
-        log.info("Iniciando desativação do aluno ID: {}", id);
+        log.debug("Iniciando desativação do aluno ID: {}", id);
         
         // Verificar se aluno existe e está ativo
         Aluno aluno = alunoRepository.findByIdAndAtivoTrue(id)
@@ -376,6 +592,10 @@ public class AlunoService {
             throw new BusinessException("Não foi possível desativar o aluno com ID: " + id);
         }
         
+        AlunoDTO desativado = alunoMapper.toDTOSimple(aluno);
+        desativado.setAtivo(false);
+        eventPublisher.publishEvent(new AlunoAlteradoEvent(OperacaoAluno.DESATIVADO, desativado, desativado.getTipo(), true));
+        
         log.info("Aluno desativado com sucesso. ID: {}", id);
     }
     
@@ -394,12 +614,11 @@ public class AlunoService {
      * @throws BusinessException se aluno já estiver ativo
      */
     public void reativar(Long id) {
-        log.info("Iniciando reativação do aluno ID: {}", id);
+        log.debug("Iniciando reativação do aluno ID: {}", id);
         
         // Verificar se aluno existe
-        if (!alunoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Aluno não encontrado com ID: " + id);
-        }
+        Aluno aluno = alunoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado com ID: " + id));
         
         // Usar método do repository para reativação
         int registrosAfetados = alunoRepository.reativarAluno(id);
@@ -408,20 +627,31 @@ public class AlunoService {
             throw new BusinessException("Aluno não está inativo ou não foi encontrado com ID: " + id);
         }
         
+        AlunoDTO reativado = alunoMapper.toDTOSimple(aluno);
+        reativado.setAtivo(true);
+        eventPublisher.publishEvent(new AlunoAlteradoEvent(OperacaoAluno.REATIVADO, reativado, reativado.getTipo(), false));
+        
         log.info("Aluno reativado com sucesso. ID: {}", id);
     }
     
     // ========== OPERAÇÕES DE ESTATÍSTICAS ==========
     
+    /*
+     * Contadores servidos em memória por EstatisticasAlunos (O(1), sem transação).
+     * O COUNT no banco só é usado antes da carga inicial dos contadores.
+     */
+    
     /**
      * Conta total de alunos ativos.
      * 
      * @return Número de alunos ativos
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long contarAtivos() {
-        log.info("Contando alunos ativos");
-        return alunoRepository.countByAtivoTrue();
+        log.debug("Contando alunos ativos");
+        return estatisticasAlunos.isPronto()
+                ? estatisticasAlunos.contarAtivos()
+                : alunoRepository.countByAtivoTrue();
     }
     
     /**
@@ -430,10 +660,12 @@ public class AlunoService {
      * @param tipo Tipo de usuário
      * @return Número de alunos ativos do tipo especificado
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long contarPorTipo(TipoUsuario tipo) {
-        log.info("Contando alunos ativos por tipo: {}", tipo);
-        return alunoRepository.countByTipoAndAtivoTrue(tipo);
+        log.debug("Contando alunos ativos por tipo: {}", tipo);
+        return estatisticasAlunos.isPronto()
+                ? estatisticasAlunos.contarAtivosPorTipo(tipo)
+                : alunoRepository.countByTipoAndAtivoTrue(tipo);
     }
     
     /**
@@ -441,10 +673,12 @@ public class AlunoService {
      * 
      * @return Total de alunos no sistema
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long contarTodos() {
-        log.info("Contando todos os alunos");
-        return alunoRepository.countTotalAlunos();
+        log.debug("Contando todos os alunos");
+        return estatisticasAlunos.isPronto()
+                ? estatisticasAlunos.contarTodos()
+                : alunoRepository.countTotalAlunos();
     }
     
     /**
@@ -452,10 +686,82 @@ public class AlunoService {
      * 
      * @return Número de alunos desativados
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long contarInativos() {
-        log.info("Contando alunos inativos");
-        return alunoRepository.countAlunosInativos();
+        log.debug("Contando alunos inativos");
+        return estatisticasAlunos.isPronto()
+                ? estatisticasAlunos.contarInativos()
+                : alunoRepository.countAlunosInativos();
+    }
+    
+    /**
+     * Retorna todas as estatísticas de alunos (totais e por tipo) em uma única chamada.
+     * 
+     * **Uso:** Dashboards que antes consultavam cada contador separadamente
+     * 
+     * @return DTO com totais, ativos e inativos por tipo
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EstatisticasAlunosDTO obterEstatisticas() {
+        log.debug("Consolidando estatísticas de alunos");
+        if (!estatisticasAlunos.isPronto()) {
+            estatisticasAlunos.reconciliar();
+        }
+        return estatisticasAlunos.consolidar();
+    }
+    
+    // ========== MÉTODOS PRIVADOS DE LEITURA E CACHE ==========
+    
+    /**
+     * Converte o detalhe lido do banco e o armazena no cache, se não houve invalidação
+     * concorrente desde o início da leitura.
+     */
+    private AlunoDTO armazenarEmCache(Object[] detalhe, long marca) {
+        AlunoDTO dto = alunoMapper.toDTODetalhe(detalhe);
+        alunoCache.armazenar(dto, marca);
+        return dto;
+    }
+    
+    /**
+     * Retorna a única linha de uma consulta de detalhe (findDetalhe*).
+     * 
+     * @throws ResourceNotFoundException se a consulta não retornou linhas
+     */
+    private Object[] primeiraLinha(List<Object[]> linhas, String mensagemNaoEncontrado) {
+        if (linhas.isEmpty()) {
+            throw new ResourceNotFoundException(mensagemNaoEncontrado);
+        }
+        return linhas.get(0);
+    }
+    
+    /**
+     * Cursor para a próxima página: ID do último item, apenas quando há próxima página
+     * e a ordenação é somente por ID crescente.
+     */
+    private Long proximoCursor(Slice<AlunoDTO> pagina) {
+        if (!pagina.hasNext() || pagina.getContent().isEmpty() || !Sort.by("id").equals(pagina.getSort())) {
+            return null;
+        }
+        return pagina.getContent().get(pagina.getContent().size() - 1).getId();
+    }
+    
+    /**
+     * IDs (em ordem crescente) maiores que o cursor.
+     */
+    private List<Long> idsApos(List<Long> ids, Long aposId) {
+        int posicao = Collections.binarySearch(ids, aposId);
+        return ids.subList(posicao >= 0 ? posicao + 1 : -posicao - 1, ids.size());
+    }
+    
+    /**
+     * Menor texto maior que todos os que começam com o prefixo (último caractere incrementado).
+     */
+    private static String fimDoPrefixo(String prefixo) {
+        if (prefixo.isEmpty()) {
+            return String.valueOf(Character.MAX_VALUE);
+        }
+        int ultimo = prefixo.length() - 1;
+        return prefixo.substring(0, ultimo) + (char) (prefixo.charAt(ultimo) + 1);
     }
     
     // ========== MÉTODOS PRIVADOS DE VALIDAÇÃO ==========
@@ -482,38 +788,92 @@ public class AlunoService {
     }
     
     /**
-     * Valida unicidade de email e CPF para criação de novo aluno.
+     * Valida unicidade de email, CPF e matrícula para criação de novo aluno.
      */
     private void validarAlunoUnico(AlunoDTO alunoDTO) {
-        if (alunoRepository.existsByEmailAndAtivoTrue(alunoDTO.getEmail())) {
-            throw new BusinessException("Já existe um aluno ativo com este email: " + alunoDTO.getEmail());
-        }
+        List<Object[]> conflitos = alunoRepository.findConflitosUnicidade(
+                alunoDTO.getEmail(), alunoDTO.getCpf(), alunoDTO.getNumeroMatricula(), null);
         
-        if (alunoRepository.existsByCpfAndAtivoTrue(alunoDTO.getCpf())) {
-            throw new BusinessException("Já existe um aluno ativo com este CPF: " + alunoDTO.getCpf());
-        }
+        validarConflitos(conflitos, alunoDTO, "Já existe um aluno ativo");
     }
     
     /**
-     * Valida unicidade de email e CPF para atualização de aluno existente.
+     * Valida unicidade de email, CPF e matrícula para atualização de aluno existente.
      */
     private void validarAlunoUnicoParaAtualizacao(AlunoDTO alunoDTO, Long id) {
-        if (alunoDTO.getEmail() != null && 
-            alunoRepository.existsByEmailAndAtivoTrueAndIdNot(alunoDTO.getEmail(), id)) {
-            throw new BusinessException("Já existe outro aluno ativo com este email: " + alunoDTO.getEmail());
+        if (alunoDTO.getEmail() == null && alunoDTO.getCpf() == null && alunoDTO.getNumeroMatricula() == null) {
+            return;
+        }
+        
+        List<Object[]> conflitos = alunoRepository.findConflitosUnicidade(
+                alunoDTO.getEmail(), alunoDTO.getCpf(), alunoDTO.getNumeroMatricula(), id);
+        
+        validarConflitos(conflitos, alunoDTO, "Já existe outro aluno ativo");
+    }
+    
+    /**
+     * Lança BusinessException para o primeiro campo em conflito (email, CPF e matrícula, nesta ordem).
+     * Cada linha de conflitos contém [email, cpf, numeroMatricula] de um aluno existente; a mensagem
+     * usa o valor gravado nessa linha, pois na atualização parcial os campos do DTO podem ser null.
+     */
+    private void validarConflitos(List<Object[]> conflitos, AlunoDTO alunoDTO, String prefixoMensagem) {
+        if (conflitos.isEmpty()) {
+            return;
         }
         
-        if (alunoDTO.getCpf() != null && 
-            alunoRepository.existsByCpfAndAtivoTrueAndIdNot(alunoDTO.getCpf(), id)) {
-            throw new BusinessException("Já existe outro aluno ativo com este CPF: " + alunoDTO.getCpf());
+        for (Object[] conflito : conflitos) {
+            if (alunoDTO.getEmail() != null && alunoDTO.getEmail().equals(conflito[0])) {
+                throw new BusinessException(prefixoMensagem + " com este email: " + conflito[0]);
+            }
+        }
+        for (Object[] conflito : conflitos) {
+            if (alunoDTO.getCpf() != null && alunoDTO.getCpf().equals(conflito[1])) {
+                throw new BusinessException(prefixoMensagem + " com este CPF: " + conflito[1]);
+            }
+        }
+        // Sem conflito de email ou CPF, a linha veio da consulta por número de matrícula
+        throw new BusinessException(prefixoMensagem + " com este número de matrícula: " + conflitos.get(0)[2]);
+    }
+    
+    /**
+     * Persiste o aluno imediatamente, convertendo violações dos índices únicos
+     * (ex: cadastros concorrentes ou conflito com aluno inativo) em BusinessException.
+     */
+    private Aluno salvarComUnicidade(Aluno aluno) {
+        try {
+            return alunoRepository.saveAndFlush(aluno);
+        } catch (DataIntegrityViolationException ex) {
+            throw traduzirViolacaoUnicidade(ex, aluno);
         }
     }
     
     /**
-     * Gera próximo número de matrícula no formato AKD###.
+     * Converte a violação de unicidade em BusinessException.
+     * Violações não relacionadas à unicidade são devolvidas sem alteração.
+     */
+    private RuntimeException traduzirViolacaoUnicidade(DataIntegrityViolationException ex, Aluno aluno) {
+        String mensagem = mensagemViolacaoUnicidade(ex, aluno);
+        return mensagem != null ? new BusinessException(mensagem) : ex;
+    }
+    
+    /**
+     * Identifica pelo nome da constraint qual campo causou a violação de unicidade.
+     * 
+     * @param aluno Entidade que se tentou gravar (completa, mesmo na atualização parcial)
+     * @return Mensagem de negócio do campo em conflito, ou null se a violação não for de unicidade
      */
-    private String gerarNumeroMatricula() {
-        Integer proximoNumero = alunoRepository.findNextMatriculaNumber();
-        return String.format("AKD%03d", proximoNumero);
+    static String mensagemViolacaoUnicidade(DataIntegrityViolationException ex, Aluno aluno) {
+        String causa = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        
+        if (causa.contains(Aluno.UK_EMAIL)) {
+            return "Já existe um aluno com este email: " + aluno.getEmail();
+        }
+        if (causa.contains(Aluno.UK_CPF)) {
+            return "Já existe um aluno com este CPF: " + aluno.getCpf();
+        }
+        if (causa.contains(Aluno.UK_NUMERO_MATRICULA)) {
+            return "Já existe um aluno com este número de matrícula: " + aluno.getNumeroMatricula();
+        }
+        return null;
     }
 }
\ No newline at end of file
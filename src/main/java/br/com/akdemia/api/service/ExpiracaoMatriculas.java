@@ -0,0 +1,158 @@
+package br.com.akdemia.api.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.akdemia.api.dto.ResultadoExpiracaoDTO;
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.repository.MatriculaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expiração das matrículas: `ATIVA` com data de fim anterior a hoje passa a `VENCIDA`.
+ *
+ * ## Processamento em lotes
+ *
+ * - **Seleção:** IDs de até `akdemia.matriculas.expiracao.tamanho-lote` matrículas vencidas,
+ *   pelo índice em status e data de fim
+ * - **Atualização:** Um único `UPDATE ... WHERE id IN (...)` por lote, sem carregar entidades,
+ *   repetindo as condições da seleção
+ * - **Transação:** Uma por lote - bloqueios curtos, e uma falha preserva os lotes anteriores
+ * - **Fim:** Quando a seleção retorna menos que um lote completo; as matrículas alteradas deixam
+ *   de satisfazer a seleção, então cada lote avança sem paginação
+ *
+ * ## Execução
+ *
+ * - **Agendada:** Diariamente (`akdemia.matriculas.expiracao.cron`, padrão 00:05)
+ * - **Inicialização:** Uma vez quando a aplicação fica pronta, para as matrículas que venceram
+ *   com a aplicação parada; a agenda de matrículas só carrega as ainda vigentes
+ * - **Manual:** `POST /matriculas/expiracao`
+ *
+ * A alteração para `VENCIDA` não muda a popularidade dos planos nem os dados expostos do aluno,
+ * por isso não publica eventos.
+ *
+ * ## Métricas
+ *
+ * - `akdemia.matriculas.expiracao` - duração de cada execução
+ * - `akdemia.matriculas.vencidas` - matrículas alteradas para `VENCIDA`
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class ExpiracaoMatriculas {
+
+    private final MatriculaRepository matriculaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final ReentrantLock lockExecucao = new ReentrantLock();
+    private Timer duracao;
+    private Counter vencidas;
+
+    public ExpiracaoMatriculas(MatriculaRepository matriculaRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${akdemia.matriculas.expiracao.tamanho-lote:1000}") int tamanhoLote,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
+        this.matriculaRepository = matriculaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanhoLote = tamanhoLote;
+
+        meterRegistry.ifAvailable(registry -> {
+            duracao = Timer.builder("akdemia.matriculas.expiracao")
+                    .description("Duração da expiração de matrículas em lote")
+                    .register(registry);
+            vencidas = Counter.builder("akdemia.matriculas.vencidas")
+                    .description("Matrículas alteradas de ATIVA para VENCIDA")
+                    .register(registry);
+        });
+    }
+
+    @Scheduled(cron = "${akdemia.matriculas.expiracao.cron:0 5 0 * * *}")
+    public void executar() {
+        processar(LocalDate.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoIniciar() {
+        processar(LocalDate.now());
+    }
+
+    /**
+     * Altera para `VENCIDA` as matrículas `ATIVA` com data de fim anterior a `referencia`.
+     * Execuções concorrentes são serializadas.
+     *
+     * @param referencia Primeiro dia em que a matrícula ainda estaria vigente (normalmente hoje)
+     * @return Quantidade de matrículas alteradas, lotes e duração
+     */
+    public ResultadoExpiracaoDTO processar(LocalDate referencia) {
+        // ReentrantLock em vez de synchronized: não prende a thread portadora (threads virtuais) durante as consultas
+        lockExecucao.lock();
+        try {
+            long inicio = System.nanoTime();
+            long processadas = 0;
+            int lotes = 0;
+            int selecionadas;
+            do {
+                int[] lote = transactionTemplate.execute(status -> expirarLote(referencia));
+                selecionadas = lote[0];
+                processadas += lote[1];
+                if (selecionadas > 0) {
+                    lotes++;
+                }
+            } while (selecionadas == tamanhoLote);
+
+            long nanos = System.nanoTime() - inicio;
+            ResultadoExpiracaoDTO resultado = new ResultadoExpiracaoDTO(referencia, processadas, lotes,
+                    TimeUnit.NANOSECONDS.toMillis(nanos));
+            registrar(resultado, nanos);
+            return resultado;
+        } finally {
+            lockExecucao.unlock();
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * @return Matrículas selecionadas e alteradas no lote
+     */
+    private int[] expirarLote(LocalDate referencia) {
+        List<Long> ids = matriculaRepository.findIdsPorStatusComDataFimAntesDe(
+                StatusMatricula.ATIVA, referencia, PageRequest.ofSize(tamanhoLote));
+        if (ids.isEmpty()) {
+            return new int[] {0, 0};
+        }
+        int alteradas = matriculaRepository.atualizarStatusComDataFimAntesDe(
+                ids, StatusMatricula.ATIVA, referencia, StatusMatricula.VENCIDA);
+        return new int[] {ids.size(), alteradas};
+    }
+
+    private void registrar(ResultadoExpiracaoDTO resultado, long nanos) {
+        if (duracao != null) {
+            duracao.record(nanos, TimeUnit.NANOSECONDS);
+            vencidas.increment(resultado.processadas());
+        }
+        if (resultado.processadas() > 0) {
+            log.info("Expiração de matrículas: {} vencidas em {} lotes, {} ms",
+                    resultado.processadas(), resultado.lotes(), resultado.duracaoMs());
+        } else {
+            log.debug("Expiração de matrículas: nenhuma vencida ({} ms)", resultado.duracaoMs());
+        }
+    }
+}
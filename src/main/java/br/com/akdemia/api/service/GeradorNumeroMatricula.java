@@ -0,0 +1,178 @@
+package br.com.akdemia.api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gerador de números de matrícula no formato AKD### baseado em sequência do banco.
+ *
+ * Utiliza a estratégia hi/lo: cada acesso à sequência `seq_numero_matricula` reserva
+ * um bloco de números (o INCREMENT BY da sequência), que é distribuído em memória por
+ * um {@link AtomicLong}. O banco só é consultado quando o bloco atual se esgota.
+ *
+ * ## Características
+ *
+ * - **Sem colisão:** Blocos vêm de uma sequência, nunca se sobrepõem entre threads ou instâncias
+ * - **Sem lock no caminho comum:** Apenas a troca de bloco é sincronizada
+ * - **Custo constante:** Independe da quantidade de alunos cadastrados
+ *
+ * ## Observações
+ *
+ * - Números reservados e não utilizados (ex: reinício da aplicação) geram lacunas
+ * - O tamanho do bloco deve ser igual ao INCREMENT BY da sequência
+ * - A sequência nunca é reiniciada em tempo de execução: o alinhamento às matrículas já
+ *   existentes é feito uma única vez na migração V4, pois um `RESTART` por instância
+ *   recuaria a sequência e emitiria de novo blocos já reservados por outras instâncias
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class GeradorNumeroMatricula {
+
+    /**
+     * Nome da sequência utilizada para reservar blocos de números.
+     */
+    public static final String SEQUENCIA = "seq_numero_matricula";
+
+    private static final String PREFIXO = "AKD";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate novaTransacao;
+    private final String sqlProximoBloco;
+    private final int tamanhoBloco;
+
+    private final AtomicReference<Bloco> blocoAtual = new AtomicReference<>(Bloco.ESGOTADO);
+    private final ReentrantLock lockReserva = new ReentrantLock();
+
+    @Autowired
+    public GeradorNumeroMatricula(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  EntityManagerFactory entityManagerFactory,
+                                  @Value("${akdemia.matricula.sequencia.tamanho-bloco:50}") int tamanhoBloco) {
+        this(jdbcTemplate, transactionManager, sqlProximoValor(entityManagerFactory), tamanhoBloco);
+    }
+
+    /**
+     * @param sqlProximoBloco Consulta do próximo valor da sequência (início do bloco)
+     */
+    GeradorNumeroMatricula(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           String sqlProximoBloco, int tamanhoBloco) {
+        if (tamanhoBloco < 1) {
+            throw new IllegalArgumentException("akdemia.matricula.sequencia.tamanho-bloco deve ser positivo");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlProximoBloco = sqlProximoBloco;
+        this.tamanhoBloco = tamanhoBloco;
+
+        // A reserva de bloco não deve participar da transação de quem pediu o número
+        this.novaTransacao = new TransactionTemplate(transactionManager);
+        this.novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Retorna o próximo número de matrícula formatado (ex: AKD001).
+     *
+     * @return Número de matrícula único
+     */
+    public String proximo() {
+        return formatar(proximoNumero());
+    }
+
+    /**
+     * Reserva vários números de matrícula de uma vez (ex: importação em lote).
+     * Os blocos da sequência são consumidos em sequência, com uma ida ao banco
+     * a cada bloco esgotado.
+     *
+     * @param quantidade Quantidade de números a reservar
+     * @return Números de matrícula formatados, em ordem crescente
+     */
+    public List<String> reservar(int quantidade) {
+        List<String> numeros = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            numeros.add(proximo());
+        }
+        return numeros;
+    }
+
+    /**
+     * Retorna o próximo número sequencial de matrícula, sem formatação.
+     *
+     * @return Número sequencial único
+     */
+    public long proximoNumero() {
+        while (true) {
+            Bloco bloco = blocoAtual.get();
+            long numero = bloco.proximo().getAndIncrement();
+            if (numero < bloco.fim()) {
+                return numero;
+            }
+            reservarBloco(bloco);
+        }
+    }
+
+    /**
+     * Formata um número sequencial no padrão de matrícula AKD###.
+     *
+     * @param numero Número sequencial
+     * @return Número de matrícula formatado
+     */
+    public static String formatar(long numero) {
+        return String.format(PREFIXO + "%03d", numero);
+    }
+
+    /**
+     * Reserva um novo bloco na sequência, caso nenhuma outra thread já o tenha feito.
+     *
+     * Usa {@link ReentrantLock} em vez de `synchronized`: a reserva acessa o banco e,
+     * com threads virtuais, um monitor prenderia a thread portadora durante a consulta.
+     */
+    private void reservarBloco(Bloco esgotado) {
+        lockReserva.lock();
+        try {
+            if (blocoAtual.get() != esgotado) {
+                return;
+            }
+
+            long inicio = novaTransacao.execute(status -> jdbcTemplate.queryForObject(sqlProximoBloco, Long.class));
+
+            blocoAtual.set(new Bloco(new AtomicLong(inicio), inicio + tamanhoBloco));
+            log.debug("Bloco de matrículas reservado: {} a {}", inicio, inicio + tamanhoBloco - 1);
+        } finally {
+            lockReserva.unlock();
+        }
+    }
+
+    private static String sqlProximoValor(EntityManagerFactory entityManagerFactory) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        return dialect.getSequenceSupport().getSequenceNextValString(SEQUENCIA);
+    }
+
+    /**
+     * Faixa de números reservada: [proximo, fim).
+     */
+    private record Bloco(AtomicLong proximo, long fim) {
+
+        static final Bloco ESGOTADO = new Bloco(new AtomicLong(0), 0);
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.akdemia.api.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.akdemia.api.dto.MatriculaDTO;
+import br.com.akdemia.api.dto.MatriculaResumoDTO;
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.entity.Matricula;
+import br.com.akdemia.api.entity.Plano;
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.mapper.MatriculaMapper;
+import br.com.akdemia.api.repository.AlunoRepository;
+import br.com.akdemia.api.repository.MatriculaRepository;
+import br.com.akdemia.api.repository.PlanoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service para as matrículas dos alunos em planos.
+ *
+ * ## Ciclo de vida
+ *
+ * - **Criação:** Sempre `ATIVA`; o aluno e o plano devem estar ativos, e o aluno não pode ter
+ *   outra matrícula ativa ou suspensa
+ * - **Suspensão:** `ATIVA` → `SUSPENSA`
+ * - **Reativação:** `SUSPENSA` → `ATIVA`, se a data de fim ainda não passou
+ * - **Cancelamento:** `ATIVA` ou `SUSPENSA` → `CANCELADA`
+ * - **Suspensão automática:** `ATIVA` → `SUSPENSA` após a carência do vencimento do pagamento,
+ *   pela agenda de matrículas
+ * - **Vencimento:** `ATIVA` → `VENCIDA` em lote, pela agenda de matrículas e por {@link ExpiracaoMatriculas}
+ *
+ * A criação bloqueia a linha do aluno (`PESSIMISTIC_WRITE`) antes de verificar a matrícula
+ * em vigor, evitando duas matrículas em vigor por criações concorrentes.
+ *
+ * Cada operação publica um {@link MatriculaAlteradaEvent}. A criação também atualiza a data
+ * de modificação do aluno (o aluno expõe os IDs das matrículas), invalidando o seu ETag.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class MatriculaService {
+
+    private static final Set<StatusMatricula> STATUS_EM_VIGOR = EnumSet.of(StatusMatricula.ATIVA, StatusMatricula.SUSPENSA);
+    private static final int MAXIMO_ALUNOS_POR_CONSULTA = 500;
+
+    private final MatriculaRepository matriculaRepository;
+    private final AlunoRepository alunoRepository;
+    private final PlanoRepository planoRepository;
+    private final MatriculaMapper matriculaMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ========== OPERAÇÕES DE CRIAÇÃO ==========
+
+    /**
+     * Matricula o aluno no plano.
+     *
+     * @param matriculaDTO IDs do aluno e do plano e período da matrícula
+     * @return DTO da matrícula criada
+     * @throws ResourceNotFoundException se o aluno ou o plano não existir ou estiver inativo
+     * @throws BusinessException se o período for inválido ou o aluno já tiver matrícula em vigor
+     */
+    public MatriculaDTO criar(MatriculaDTO matriculaDTO) {
+        log.debug("Criando matrícula do aluno {} no plano {}", matriculaDTO.getAlunoId(), matriculaDTO.getPlanoId());
+
+        if (matriculaDTO.getDataFim().isBefore(matriculaDTO.getDataInicio())) {
+            throw new BusinessException("Data de fim não pode ser anterior à data de início");
+        }
+        if (matriculaDTO.getDataVencimento() != null && matriculaDTO.getDataVencimento().isBefore(matriculaDTO.getDataInicio())) {
+            throw new BusinessException("Data de vencimento não pode ser anterior à data de início");
+        }
+        // Lock do aluno até o commit: criações concorrentes para o mesmo aluno são serializadas,
+        // e a segunda vê a matrícula da primeira na verificação abaixo
+        Aluno aluno = alunoRepository.findParaAtualizacaoById(matriculaDTO.getAlunoId())
+                .filter(encontrado -> Boolean.TRUE.equals(encontrado.getAtivo()))
+                .orElseThrow(() -> new ResourceNotFoundException("Aluno ativo não encontrado com ID: " + matriculaDTO.getAlunoId()));
+        Plano plano = planoRepository.findById(matriculaDTO.getPlanoId())
+                .filter(encontrado -> Boolean.TRUE.equals(encontrado.getAtivo()))
+                .orElseThrow(() -> new ResourceNotFoundException("Plano ativo não encontrado com ID: " + matriculaDTO.getPlanoId()));
+        if (matriculaRepository.existsByAlunoIdAndStatusIn(aluno.getId(), STATUS_EM_VIGOR)) {
+            throw new BusinessException("Aluno já possui matrícula ativa ou suspensa");
+        }
+
+        Matricula matricula = new Matricula();
+        matricula.setAluno(aluno);
+        matricula.setPlano(plano);
+        matricula.setDataInicio(matriculaDTO.getDataInicio());
+        matricula.setDataFim(matriculaDTO.getDataFim());
+        matricula.setDataVencimento(matriculaDTO.getDataVencimento());
+        matricula.setStatus(StatusMatricula.ATIVA);
+        matricula = matriculaRepository.saveAndFlush(matricula);
+
+        alunoRepository.updateDataAtualizacao(aluno.getId(), LocalDateTime.now());
+        eventPublisher.publishEvent(MatriculaAlteradaEvent.criada(matricula.getId(), aluno.getId(), plano.getId(),
+                matricula.getDataMatricula(), matricula.getDataFim(), matricula.getDataVencimento(), matricula.getStatus()));
+
+        log.info("Matrícula criada com sucesso. ID: {}, Aluno: {}", matricula.getId(), aluno.getId());
+        return matriculaMapper.toDTO(matricula);
+    }
+
+    // ========== OPERAÇÕES DE BUSCA ==========
+
+    @Transactional(readOnly = true)
+    public MatriculaDTO buscarPorId(Long id) {
+        return matriculaRepository.findComAlunoEPlanoById(id)
+                .map(matriculaMapper::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Matrícula não encontrada com ID: " + id));
+    }
+
+    /**
+     * @return Matrículas do aluno, da mais recente para a mais antiga
+     */
+    @Transactional(readOnly = true)
+    public List<MatriculaDTO> listarPorAluno(Long alunoId) {
+        return matriculaMapper.toDTOList(matriculaRepository.findByAlunoIdOrderByDataInicioDesc(alunoId));
+    }
+
+    /**
+     * Matrícula ativa mais recente de cada aluno, em uma única consulta e sem carregar entidades
+     * (ex: check-in da lista de alunos de uma aula). Alunos sem matrícula ativa não aparecem.
+     *
+     * @param alunoIds IDs dos alunos (repetidos são ignorados)
+     * @return Resumos ordenados por ID do aluno
+     * @throws BusinessException se a lista estiver vazia ou tiver mais de 500 alunos
+     */
+    @Transactional(readOnly = true)
+    public List<MatriculaResumoDTO> buscarAtivasPorAlunos(Collection<Long> alunoIds) {
+        Set<Long> ids = new LinkedHashSet<>(alunoIds);
+        if (ids.isEmpty() || ids.size() > MAXIMO_ALUNOS_POR_CONSULTA) {
+            throw new BusinessException("Informe entre 1 e " + MAXIMO_ALUNOS_POR_CONSULTA + " alunos");
+        }
+        return matriculaRepository.findUltimasPorAlunosEStatus(ids, StatusMatricula.ATIVA);
+    }
+
+    // ========== ALTERAÇÕES DE STATUS ==========
+
+    public MatriculaDTO suspender(Long id) {
+        return alterarStatus(id, StatusMatricula.SUSPENSA, EnumSet.of(StatusMatricula.ATIVA));
+    }
+
+    /**
+     * @throws BusinessException se a data de fim já passou (a matrícula deve ser renovada)
+     */
+    public MatriculaDTO reativar(Long id) {
+        return alterarStatus(id, StatusMatricula.ATIVA, EnumSet.of(StatusMatricula.SUSPENSA));
+    }
+
+    public MatriculaDTO cancelar(Long id) {
+        return alterarStatus(id, StatusMatricula.CANCELADA, STATUS_EM_VIGOR);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private MatriculaDTO alterarStatus(Long id, StatusMatricula novoStatus, Set<StatusMatricula> statusPermitidos) {
+        log.debug("Alterando status da matrícula ID: {} para {}", id, novoStatus);
+
+        Matricula matricula = matriculaRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Matrícula não encontrada com ID: " + id));
+        StatusMatricula statusAnterior = matricula.getStatus();
+        if (!statusPermitidos.contains(statusAnterior)) {
+            throw new BusinessException("Matrícula " + statusAnterior.getDescricao().toLowerCase()
+                    + " não pode passar para " + novoStatus.getDescricao().toLowerCase());
+        }
+        if (novoStatus == StatusMatricula.ATIVA && matricula.getDataFim().isBefore(LocalDate.now())) {
+            throw new BusinessException("Matrícula com data de fim já passada não pode ser reativada");
+        }
+
+        matricula.setStatus(novoStatus);
+        matricula = matriculaRepository.saveAndFlush(matricula);
+        eventPublisher.publishEvent(new MatriculaAlteradaEvent(id, matricula.getAluno().getId(),
+                matricula.getPlano().getId(), matricula.getDataMatricula(), matricula.getDataFim(),
+                matricula.getDataVencimento(), statusAnterior, novoStatus));
+
+        log.info("Matrícula ID: {} alterada de {} para {}", id, statusAnterior, novoStatus);
+        return matriculaMapper.toDTO(matricula);
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.akdemia.api.service;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.akdemia.api.cache.CatalogoPlanos;
+import br.com.akdemia.api.dto.PlanoDTO;
+import br.com.akdemia.api.dto.PlanoPopularidadeDTO;
+import br.com.akdemia.api.entity.Plano;
+import br.com.akdemia.api.event.PlanoAlteradoEvent;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.mapper.PlanoMapper;
+import br.com.akdemia.api.repository.PlanoRepository;
+import br.com.akdemia.api.stats.PopularidadePlanos;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service para o catálogo de planos da academia.
+ *
+ * ## Leitura e escrita
+ *
+ * - **Consultas:** Servidas pelo {@link CatalogoPlanos}, sem transação nem acesso ao banco
+ * - **Popularidade:** Contadores de matrículas em memória ({@link PopularidadePlanos})
+ * - **Alterações:** Transacionais; cada uma publica um {@link PlanoAlteradoEvent}, e o catálogo
+ *   é recarregado após o commit
+ *
+ * As consultas retornam apenas planos ativos.
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlanoService {
+
+    private final PlanoRepository planoRepository;
+    private final PlanoMapper planoMapper;
+    private final CatalogoPlanos catalogoPlanos;
+    private final PopularidadePlanos popularidadePlanos;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ========== OPERAÇÕES DE BUSCA ==========
+
+    /**
+     * @return Planos ativos, do menor para o maior valor
+     */
+    public List<PlanoDTO> listarAtivos() {
+        return catalogoPlanos.listar();
+    }
+
+    /**
+     * @throws ResourceNotFoundException se não houver plano ativo com o ID
+     */
+    public PlanoDTO buscarPorId(Long id) {
+        return catalogoPlanos.buscarPorId(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Plano ativo não encontrado com ID: " + id));
+    }
+
+    /**
+     * Planos ativos com valor na faixa (inclusive), do menor para o maior valor.
+     *
+     * @param minimo Valor mínimo, ou null para sem limite inferior
+     * @param maximo Valor máximo, ou null para sem limite superior
+     * @throws BusinessException se o mínimo for maior que o máximo
+     */
+    public List<PlanoDTO> buscarPorFaixaDeValor(BigDecimal minimo, BigDecimal maximo) {
+        if (minimo != null && maximo != null && minimo.compareTo(maximo) > 0) {
+            throw new BusinessException("Valor mínimo não pode ser maior que o valor máximo");
+        }
+        return catalogoPlanos.buscarPorFaixaDeValor(minimo, maximo);
+    }
+
+    /**
+     * Planos ativos com duração na faixa (inclusive), da menor para a maior duração.
+     *
+     * @param minimo Duração mínima em dias, ou null para sem limite inferior
+     * @param maximo Duração máxima em dias, ou null para sem limite superior
+     * @throws BusinessException se o mínimo for maior que o máximo
+     */
+    public List<PlanoDTO> buscarPorFaixaDeDuracao(Integer minimo, Integer maximo) {
+        if (minimo != null && maximo != null && minimo > maximo) {
+            throw new BusinessException("Duração mínima não pode ser maior que a duração máxima");
+        }
+        return catalogoPlanos.buscarPorFaixaDeDuracao(minimo, maximo);
+    }
+
+    /**
+     * Ranking dos planos ativos com matrículas, do mais para o menos popular
+     * (no empate, do menor para o maior valor).
+     *
+     * @param dias Janela em dias, com hoje inclusive, ou null para todo o histórico
+     * @throws BusinessException se a janela estiver fora de 1 a `akdemia.planos.popularidade.dias-maximos`
+     */
+    public List<PlanoPopularidadeDTO> listarPopulares(Integer dias) {
+        if (dias != null && (dias < 1 || dias > popularidadePlanos.getDiasMaximos())) {
+            throw new BusinessException("Janela deve ter entre 1 e " + popularidadePlanos.getDiasMaximos() + " dias");
+        }
+        return catalogoPlanos.listar().stream()
+                .map(plano -> new PlanoPopularidadeDTO(plano, popularidadePlanos.contar(plano.getId(), dias)))
+                .filter(popularidade -> popularidade.getMatriculas() > 0)
+                .sorted(Comparator.comparingLong(PlanoPopularidadeDTO::getMatriculas).reversed())
+                .toList();
+    }
+
+    // ========== OPERAÇÕES DE ALTERAÇÃO ==========
+
+    @Transactional
+    public PlanoDTO criar(PlanoDTO planoDTO) {
+        log.debug("Criando novo plano: {}", planoDTO.getNome());
+
+        Plano plano = planoRepository.saveAndFlush(planoMapper.toEntity(planoDTO));
+        eventPublisher.publishEvent(new PlanoAlteradoEvent(plano.getId()));
+
+        log.info("Plano criado com sucesso. ID: {}", plano.getId());
+        return planoMapper.toDTO(plano);
+    }
+
+    @Transactional
+    public PlanoDTO atualizar(Long id, PlanoDTO planoDTO) {
+        log.debug("Atualizando plano ID: {}", id);
+
+        Plano plano = buscarEntidade(id);
+        planoMapper.updateEntityFromDTO(planoDTO, plano);
+        plano = planoRepository.saveAndFlush(plano);
+        eventPublisher.publishEvent(new PlanoAlteradoEvent(id));
+
+        log.info("Plano atualizado com sucesso. ID: {}", id);
+        return planoMapper.toDTO(plano);
+    }
+
+    @Transactional
+    public void desativar(Long id) {
+        log.debug("Desativando plano ID: {}", id);
+
+        Plano plano = buscarEntidade(id);
+        plano.setAtivo(false);
+        planoRepository.save(plano);
+        eventPublisher.publishEvent(new PlanoAlteradoEvent(id));
+
+        log.info("Plano desativado com sucesso. ID: {}", id);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private Plano buscarEntidade(Long id) {
+        return planoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Plano não encontrado com ID: " + id));
+    }
+}
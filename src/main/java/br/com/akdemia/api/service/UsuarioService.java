@@ -14,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -26,7 +27,7 @@ public class UsuarioService {
     private final UsuarioMapper usuarioMapper;
     
     public UsuarioDTO criar(UsuarioDTO usuarioDTO) {
-        log.info("Criando novo usuário: {}", usuarioDTO.getEmail());
+        log.debug("Criando novo usuário: {}", usuarioDTO.getEmail());
         
         validarUsuarioUnico(usuarioDTO);
         
@@ -39,7 +40,7 @@ public class UsuarioService {
     
     @Transactional(readOnly = true)
     public UsuarioDTO buscarPorId(Long id) {
-        log.info("Buscando usuário por ID: {}", id);
+        log.debug("Buscando usuário por ID: {}", id);
         
         Usuario usuario = usuarioRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
@@ -47,9 +48,15 @@ public class UsuarioService {
         return usuarioMapper.toDTO(usuario);
     }
     
+    @Transactional(readOnly = true)
+    public LocalDateTime buscarVersao(Long id) {
+        return usuarioRepository.findVersaoById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
+    }
+    
     @Transactional(readOnly = true)
     public List<UsuarioDTO> listarTodos() {
-        log.info("Listando todos os usuários ativos");
+        log.debug("Listando todos os usuários ativos");
         
         List<Usuario> usuarios = usuarioRepository.findByAtivoTrue();
         return usuarioMapper.toDTOList(usuarios);
@@ -57,14 +64,14 @@ public class UsuarioService {
     
     @Transactional(readOnly = true)
     public List<UsuarioDTO> listarPorTipo(TipoUsuario tipo) {
-        log.info("Listando usuários por tipo: {}", tipo);
+        log.debug("Listando usuários por tipo: {}", tipo);
         
         List<Usuario> usuarios = usuarioRepository.findByTipoAndAtivoTrue(tipo);
         return usuarioMapper.toDTOList(usuarios);
     }
     
     public UsuarioDTO atualizar(Long id, UsuarioDTO usuarioDTO) {
-        log.info("Atualizando usuário ID: {}", id);
+        log.debug("Atualizando usuário ID: {}", id);
         
         Usuario usuario = usuarioRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
@@ -79,7 +86,7 @@ public class UsuarioService {
     }
     
     public void desativar(Long id) {
-        log.info("Desativando usuário ID: {}", id);
+        log.debug("Desativando usuário ID: {}", id);
         
         Usuario usuario = usuarioRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
@@ -92,7 +99,7 @@ public class UsuarioService {
     
     @Transactional(readOnly = true)
     public List<UsuarioDTO> buscarPorNome(String nome) {
-        log.info("Buscando usuários por nome: {}", nome);
+        log.debug("Buscando usuários por nome: {}", nome);
         
         List<Usuario> usuarios = usuarioRepository.findByNomeContainingIgnoreCaseAndAtivoTrue(nome);
         return usuarioMapper.toDTOList(usuarios);
@@ -0,0 +1,77 @@
+package br.com.akdemia.api.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Coordena a aplicação de eventos e a reconciliação com o banco de contadores em memória.
+ *
+ * ## Protocolo
+ *
+ * - **Eventos:** Aplicados sob o lock de leitura, concorrentes entre si; cada um incrementa a versão
+ * - **Reconciliação:** A consulta roda sem lock; o resultado é aplicado sob o lock de escrita,
+ *   apenas se nenhum evento foi aplicado desde o início da consulta. A verificação e a aplicação
+ *   ficam na mesma seção crítica, então nenhum evento se perde entre as duas
+ * - **Progresso:** Após {@value #TENTATIVAS} tentativas descartadas, a consulta roda sob o lock de
+ *   escrita, bloqueando os eventos até o fim; sob escrita contínua a reconciliação não é adiada
+ *   indefinidamente
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+final class ControleReconciliacao {
+
+    static final int TENTATIVAS = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Incrementada a cada evento aplicado; usada para detectar eventos durante a consulta.
+     */
+    private final AtomicLong versao = new AtomicLong();
+
+    /**
+     * Aplica um evento aos contadores.
+     */
+    void aplicarEvento(Runnable aplicacao) {
+        lock.readLock().lock();
+        try {
+            aplicacao.run();
+            versao.incrementAndGet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Consulta o banco e aplica o resultado aos contadores sem concorrer com eventos.
+     *
+     * @return Número de consultas descartadas por eventos concorrentes
+     */
+    <T> int reconciliar(Supplier<T> consulta, Consumer<T> aplicacao) {
+        for (int tentativa = 0; tentativa < TENTATIVAS; tentativa++) {
+            long versaoInicial = versao.get();
+            T resultado = consulta.get();
+            lock.writeLock().lock();
+            try {
+                if (versao.get() == versaoInicial) {
+                    aplicacao.accept(resultado);
+                    return tentativa;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            aplicacao.accept(consulta.get());
+            return TENTATIVAS;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
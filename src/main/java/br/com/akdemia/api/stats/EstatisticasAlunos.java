@@ -0,0 +1,210 @@
+package br.com.akdemia.api.stats;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.akdemia.api.dto.EstatisticasAlunosDTO;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.repository.AlunoRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contadores de alunos em memória, por tipo e status (ativo/inativo).
+ *
+ * Substitui os `COUNT(*)` por chamada: os contadores são carregados do banco na
+ * inicialização e mantidos pelos eventos {@link AlunoAlteradoEvent}, de forma que
+ * as consultas de estatísticas têm custo O(1).
+ *
+ * ## Características
+ *
+ * - **Contadores:** {@link LongAdder} por tipo e status, sem contenção entre escritas concorrentes
+ * - **Transições:** Cada evento desconta a situação anterior e soma a nova
+ *   (ex: atualização que altera o tipo)
+ * - **Reconciliação:** Periódica com o banco (`akdemia.estatisticas.reconciliacao.intervalo`),
+ *   corrigindo desvios (ex: alterações feitas fora da aplicação)
+ *
+ * ## Consistência
+ *
+ * - Eventos e reconciliação são coordenados pelo {@link ControleReconciliacao}: uma consulta
+ *   que concorre com eventos é descartada e refeita, para não somar duas vezes a mesma alteração
+ *   nem sobrescrever uma alteração aplicada entre a consulta e a aplicação
+ * - Antes da primeira carga, {@link #isPronto()} retorna false e o chamador consulta o banco
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class EstatisticasAlunos {
+
+    private static final TipoUsuario[] TIPOS = TipoUsuario.values();
+    private static final int INATIVO = 0;
+    private static final int ATIVO = 1;
+
+    private final AlunoRepository alunoRepository;
+
+    /**
+     * Contadores indexados por [ordinal do tipo][INATIVO | ATIVO].
+     */
+    private final LongAdder[][] contadores = new LongAdder[TIPOS.length][2];
+
+    private final ControleReconciliacao controle = new ControleReconciliacao();
+
+    private final ReentrantLock lockReconciliacao = new ReentrantLock();
+
+    private volatile boolean pronto;
+    private volatile LocalDateTime ultimaReconciliacao;
+
+    public EstatisticasAlunos(AlunoRepository alunoRepository) {
+        this.alunoRepository = alunoRepository;
+        for (LongAdder[] porStatus : contadores) {
+            porStatus[INATIVO] = new LongAdder();
+            porStatus[ATIVO] = new LongAdder();
+        }
+    }
+
+    // ========== CONSULTAS ==========
+
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    public long contarAtivos() {
+        return somar(ATIVO);
+    }
+
+    public long contarInativos() {
+        return somar(INATIVO);
+    }
+
+    public long contarTodos() {
+        return somar(ATIVO) + somar(INATIVO);
+    }
+
+    public long contarAtivosPorTipo(TipoUsuario tipo) {
+        return contadores[tipo.ordinal()][ATIVO].sum();
+    }
+
+    /**
+     * Retorna todas as estatísticas em uma única leitura dos contadores.
+     */
+    public EstatisticasAlunosDTO consolidar() {
+        Map<TipoUsuario, Long> ativosPorTipo = new EnumMap<>(TipoUsuario.class);
+        Map<TipoUsuario, Long> inativosPorTipo = new EnumMap<>(TipoUsuario.class);
+        long ativos = 0;
+        long inativos = 0;
+
+        for (TipoUsuario tipo : TIPOS) {
+            long ativosDoTipo = contadores[tipo.ordinal()][ATIVO].sum();
+            long inativosDoTipo = contadores[tipo.ordinal()][INATIVO].sum();
+            ativosPorTipo.put(tipo, ativosDoTipo);
+            inativosPorTipo.put(tipo, inativosDoTipo);
+            ativos += ativosDoTipo;
+            inativos += inativosDoTipo;
+        }
+
+        return new EstatisticasAlunosDTO(ativos + inativos, ativos, inativos,
+                ativosPorTipo, inativosPorTipo, ultimaReconciliacao);
+    }
+
+    // ========== ATUALIZAÇÃO ==========
+
+    /**
+     * Aplica a transição do aluno (situação anterior → nova) após o commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAluno(AlunoAlteradoEvent evento) {
+        controle.aplicarEvento(() -> {
+            if (evento.tipoAnterior() != null && evento.ativoAnterior() != null) {
+                contador(evento.tipoAnterior(), evento.ativoAnterior()).decrement();
+            }
+            if (evento.aluno().getTipo() != null) {
+                contador(evento.aluno().getTipo(), evento.ativo()).increment();
+            }
+        });
+    }
+
+    /**
+     * Carrega os contadores ao final da inicialização.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        reconciliar();
+    }
+
+    /**
+     * Recalcula os contadores a partir do banco (uma consulta agrupada por tipo e status).
+     * Refaz a consulta se algum evento foi aplicado durante ela.
+     */
+    @Scheduled(initialDelayString = "${akdemia.estatisticas.reconciliacao.intervalo:5m}",
+               fixedDelayString = "${akdemia.estatisticas.reconciliacao.intervalo:5m}")
+    public void reconciliar() {
+        // ReentrantLock em vez de synchronized: não prende a thread portadora (threads virtuais) durante a consulta
+        lockReconciliacao.lock();
+        try {
+            int descartadas = controle.reconciliar(alunoRepository::countAlunosPorTipoEStatus, this::aplicar);
+            if (descartadas > 0) {
+                log.debug("Reconciliação de estatísticas refeita {} vez(es): alterações durante a consulta", descartadas);
+            }
+        } finally {
+            lockReconciliacao.unlock();
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Substitui os contadores pelas contagens do banco. Chamado sem eventos concorrentes.
+     */
+    private void aplicar(List<Object[]> contagens) {
+        long[][] valores = new long[TIPOS.length][2];
+        for (Object[] linha : contagens) {
+            TipoUsuario tipo = (TipoUsuario) linha[0];
+            boolean ativo = Boolean.TRUE.equals(linha[1]);
+            valores[tipo.ordinal()][ativo ? ATIVO : INATIVO] = ((Number) linha[2]).longValue();
+        }
+
+        long desvio = 0;
+        for (TipoUsuario tipo : TIPOS) {
+            for (int status = INATIVO; status <= ATIVO; status++) {
+                LongAdder contador = contadores[tipo.ordinal()][status];
+                long diferenca = valores[tipo.ordinal()][status] - contador.sum();
+                if (diferenca != 0) {
+                    contador.add(diferenca);
+                    desvio += Math.abs(diferenca);
+                }
+            }
+        }
+
+        ultimaReconciliacao = LocalDateTime.now();
+        if (pronto && desvio > 0) {
+            log.warn("Estatísticas de alunos reconciliadas com o banco: desvio de {} registros", desvio);
+        }
+        pronto = true;
+    }
+
+    private LongAdder contador(TipoUsuario tipo, boolean ativo) {
+        return contadores[tipo.ordinal()][ativo ? ATIVO : INATIVO];
+    }
+
+    private long somar(int status) {
+        long total = 0;
+        for (LongAdder[] porStatus : contadores) {
+            total += porStatus[status].sum();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,271 @@
+package br.com.akdemia.api.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+import br.com.akdemia.api.repository.MatriculaRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contadores de matrículas por plano em memória, para o ranking de popularidade.
+ *
+ * Substitui o `JOIN` + `GROUP BY` sobre todo o histórico de matrículas a cada consulta:
+ * os contadores são carregados do banco na inicialização e mantidos pelos eventos
+ * {@link MatriculaAlteradaEvent}. Contam as matrículas não canceladas.
+ *
+ * ## Características
+ *
+ * - **Total:** {@link LongAdder} por plano, sem contenção entre escritas concorrentes
+ * - **Janela:** Anel de baldes diários (`akdemia.planos.popularidade.dias-maximos`), cada um com
+ *   um {@link LongAdder} por plano; o balde do dia mais antigo é reaproveitado quando o dia
+ *   seguinte começa, sem tarefa de limpeza
+ * - **Transições:** Criação soma 1; cancelamento desconta 1 do total e do balde do dia da
+ *   matrícula (se ainda estiver na janela)
+ * - **Reconciliação:** Periódica com o banco (`akdemia.planos.popularidade.reconciliacao`),
+ *   recalculando o total e os baldes da janela
+ *
+ * ## Consistência
+ *
+ * - Eventos e reconciliação são coordenados pelo {@link ControleReconciliacao}: uma consulta
+ *   que concorre com eventos é descartada e refeita, para não somar duas vezes a mesma alteração
+ *   nem sobrescrever uma alteração aplicada entre a consulta e a aplicação
+ * - Antes da primeira carga, a consulta dispara a reconciliação
+ *
+ * @author Sistema Akdemia
+ * @version 1.0
+ * @since 2025-01-29
+ */
+@Component
+@Slf4j
+public class PopularidadePlanos {
+
+    private final MatriculaRepository matriculaRepository;
+    private final int diasMaximos;
+
+    private final ConcurrentHashMap<Long, LongAdder> totais = new ConcurrentHashMap<>();
+
+    /**
+     * Baldes diários, na posição `epochDay % diasMaximos`.
+     */
+    private final AtomicReferenceArray<Balde> baldes;
+
+    private final ControleReconciliacao controle = new ControleReconciliacao();
+
+    private final ReentrantLock lockReconciliacao = new ReentrantLock();
+
+    private volatile boolean pronto;
+    private volatile LocalDateTime ultimaReconciliacao;
+
+    public PopularidadePlanos(MatriculaRepository matriculaRepository,
+                              @Value("${akdemia.planos.popularidade.dias-maximos:90}") int diasMaximos) {
+        if (diasMaximos < 1) {
+            throw new IllegalArgumentException("akdemia.planos.popularidade.dias-maximos deve ser positivo");
+        }
+        this.matriculaRepository = matriculaRepository;
+        this.diasMaximos = diasMaximos;
+        this.baldes = new AtomicReferenceArray<>(diasMaximos);
+    }
+
+    // ========== CONSULTAS ==========
+
+    public int getDiasMaximos() {
+        return diasMaximos;
+    }
+
+    public LocalDateTime getUltimaReconciliacao() {
+        return ultimaReconciliacao;
+    }
+
+    /**
+     * Matrículas não canceladas do plano.
+     *
+     * @param planoId ID do plano
+     * @param dias Janela em dias, com hoje inclusive (até `diasMaximos`), ou null para todo o histórico
+     */
+    public long contar(Long planoId, Integer dias) {
+        return contar(planoId, dias, LocalDate.now());
+    }
+
+    long contar(Long planoId, Integer dias, LocalDate hoje) {
+        if (!pronto) {
+            reconciliar(hoje);
+        }
+        if (dias == null) {
+            LongAdder total = totais.get(planoId);
+            return total != null ? total.sum() : 0;
+        }
+
+        long soma = 0;
+        long ultimoDia = hoje.toEpochDay();
+        for (long dia = ultimoDia - Math.min(dias, diasMaximos) + 1; dia <= ultimoDia; dia++) {
+            Balde balde = baldes.get(posicao(dia));
+            if (balde != null && balde.dia == dia) {
+                LongAdder contador = balde.porPlano.get(planoId);
+                soma += contador != null ? contador.sum() : 0;
+            }
+        }
+        return soma;
+    }
+
+    // ========== ATUALIZAÇÃO ==========
+
+    /**
+     * Aplica a transição da matrícula (status anterior → novo) após o commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarMatricula(MatriculaAlteradaEvent evento) {
+        int diferenca = (contabilizada(evento.status()) ? 1 : 0) - (contabilizada(evento.statusAnterior()) ? 1 : 0);
+        controle.aplicarEvento(() -> {
+            if (diferenca != 0) {
+                totais.computeIfAbsent(evento.planoId(), id -> new LongAdder()).add(diferenca);
+                Balde balde = balde(evento.dataMatricula().toEpochDay());
+                if (balde != null) {
+                    balde.porPlano.computeIfAbsent(evento.planoId(), id -> new LongAdder()).add(diferenca);
+                }
+            }
+        });
+    }
+
+    /**
+     * Carrega os contadores ao final da inicialização.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        reconciliar();
+    }
+
+    /**
+     * Recalcula o total e os baldes da janela a partir do banco (duas consultas agrupadas).
+     * Refaz as consultas se algum evento foi aplicado durante elas.
+     */
+    @Scheduled(initialDelayString = "${akdemia.planos.popularidade.reconciliacao:10m}",
+               fixedDelayString = "${akdemia.planos.popularidade.reconciliacao:10m}")
+    public void reconciliar() {
+        reconciliar(LocalDate.now());
+    }
+
+    void reconciliar(LocalDate hoje) {
+        // ReentrantLock em vez de synchronized: não prende a thread portadora (threads virtuais) durante a consulta
+        lockReconciliacao.lock();
+        try {
+            LocalDate inicioJanela = hoje.minusDays(diasMaximos - 1L);
+            int descartadas = controle.reconciliar(
+                    () -> new Contagens(
+                            matriculaRepository.countMatriculasPorPlano(StatusMatricula.CANCELADA),
+                            matriculaRepository.countMatriculasPorPlanoEDia(inicioJanela, StatusMatricula.CANCELADA)),
+                    contagens -> aplicar(contagens, inicioJanela, hoje));
+            if (descartadas > 0) {
+                log.debug("Reconciliação da popularidade dos planos refeita {} vez(es): alterações durante a consulta",
+                        descartadas);
+            }
+        } finally {
+            lockReconciliacao.unlock();
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Substitui o total e os baldes da janela pelas contagens do banco. Chamado sem eventos concorrentes.
+     */
+    private void aplicar(Contagens contagens, LocalDate inicioJanela, LocalDate hoje) {
+        Map<Long, Long> valores = new HashMap<>();
+        for (Object[] linha : contagens.porPlano()) {
+            valores.put((Long) linha[0], ((Number) linha[1]).longValue());
+        }
+        Set<Long> planos = new HashSet<>(valores.keySet());
+        planos.addAll(totais.keySet());
+        long desvio = 0;
+        for (Long planoId : planos) {
+            LongAdder contador = totais.computeIfAbsent(planoId, id -> new LongAdder());
+            long diferenca = valores.getOrDefault(planoId, 0L) - contador.sum();
+            if (diferenca != 0) {
+                contador.add(diferenca);
+                desvio += Math.abs(diferenca);
+            }
+        }
+
+        Map<Long, Balde> novos = new HashMap<>();
+        for (Object[] linha : contagens.porPlanoEDia()) {
+            long dia = ((LocalDate) linha[1]).toEpochDay();
+            novos.computeIfAbsent(dia, Balde::new).porPlano
+                    .computeIfAbsent((Long) linha[0], id -> new LongAdder())
+                    .add(((Number) linha[2]).longValue());
+        }
+        for (long dia = inicioJanela.toEpochDay(); dia <= hoje.toEpochDay(); dia++) {
+            Balde balde = novos.get(dia);
+            baldes.set(posicao(dia), balde != null ? balde : new Balde(dia));
+        }
+
+        ultimaReconciliacao = LocalDateTime.now();
+        if (pronto && desvio > 0) {
+            log.warn("Popularidade dos planos reconciliada com o banco: desvio de {} matrículas", desvio);
+        }
+        pronto = true;
+    }
+
+    private static boolean contabilizada(StatusMatricula status) {
+        return status != null && status != StatusMatricula.CANCELADA;
+    }
+
+    private int posicao(long dia) {
+        return (int) Math.floorMod(dia, (long) diasMaximos);
+    }
+
+    /**
+     * Balde do dia, substituindo o de um dia mais antigo na mesma posição do anel.
+     *
+     * @return null se a posição já pertence a um dia mais recente (dia fora da janela)
+     */
+    private Balde balde(long dia) {
+        int posicao = posicao(dia);
+        while (true) {
+            Balde atual = baldes.get(posicao);
+            if (atual != null && atual.dia >= dia) {
+                return atual.dia == dia ? atual : null;
+            }
+            Balde novo = new Balde(dia);
+            if (baldes.compareAndSet(posicao, atual, novo)) {
+                return novo;
+            }
+        }
+    }
+
+    /**
+     * Resultado das consultas de reconciliação: `[planoId, total]` e `[planoId, dia, total]`.
+     */
+    private record Contagens(List<Object[]> porPlano, List<Object[]> porPlanoEDia) {
+    }
+
+    /**
+     * Contagens de um dia (epochDay), por plano.
+     */
+    private static final class Balde {
+
+        private final long dia;
+        private final ConcurrentHashMap<Long, LongAdder> porPlano = new ConcurrentHashMap<>();
+
+        Balde(long dia) {
+            this.dia = dia;
+        }
+    }
+}
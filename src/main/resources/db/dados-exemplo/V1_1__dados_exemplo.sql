@@ -0,0 +1,18 @@
+-- Dados de exemplo para desenvolvimento e testes.
+-- Aplicados apenas quando spring.flyway.locations inclui db/dados-exemplo (fora de produção).
+
+-- Planos
+INSERT INTO tb_planos (nome, descricao, valor, duracao_dias, ativo, data_criacao) VALUES
+('Mensal', 'Plano mensal com acesso completo', 89.90, 30, true, NOW()),
+('Trimestral', 'Plano trimestral com desconto', 239.90, 90, true, NOW()),
+('Anual', 'Plano anual com maior desconto', 899.90, 365, true, NOW());
+
+-- Aluno
+INSERT INTO tb_alunos (id, email, cpf, nome, nome_busca, telefone, tipo, numero_matricula, ativo, data_cadastro) VALUES
+(NEXT VALUE FOR seq_alunos, 'joao.silva@email.com', '11999999999', 'João Silva', 'joao silva', '12345678901', 'ALUNO', '1', true, NOW()),
+(NEXT VALUE FOR seq_alunos, 'maria.santos@email.com', '11888888888', 'Maria Santos', 'maria santos', '12345678902', 'ALUNO', '2', true, NOW()),
+(NEXT VALUE FOR seq_alunos, 'jose.moreira@email.com', '11777777777', 'José Moreira', 'jose moreira', '12345678903', 'ALUNO', '3', true, NOW());
+
+-- Matrículas
+INSERT INTO tb_matriculas (data_inicio, data_fim, data_matricula, status, aluno_id, plano_id) VALUES
+('2024-01-01', '2024-01-31', NOW(), 'ATIVA', (SELECT id FROM tb_alunos WHERE email = 'joao.silva@email.com'), 1);
\ No newline at end of file
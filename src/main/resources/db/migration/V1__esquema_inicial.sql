@@ -0,0 +1,167 @@
+-- Esquema inicial (baseline) de todas as entidades.
+-- Novas alterações de esquema entram em novas versões (V2__..., V3__...); migrações
+-- já aplicadas não devem ser editadas. O Hibernate apenas valida o mapeamento
+-- (ddl-auto: validate), fora de produção.
+
+-- ========== SEQUÊNCIAS ==========
+
+-- IDs de alunos; o INCREMENT BY deve ser igual ao allocationSize de Aluno (inserções em lote).
+CREATE SEQUENCE seq_alunos START WITH 1 INCREMENT BY 50;
+
+-- Números de matrícula (AKD###). O INCREMENT BY define o tamanho do bloco reservado por
+-- acesso e deve ser igual a akdemia.matricula.sequencia.tamanho-bloco.
+CREATE SEQUENCE seq_numero_matricula START WITH 1 INCREMENT BY 50;
+
+-- ========== TABELAS ==========
+
+CREATE TABLE tb_alunos (
+    id BIGINT NOT NULL,
+    nome VARCHAR(100) NOT NULL,
+    nome_busca VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    cpf VARCHAR(11) NOT NULL,
+    telefone VARCHAR(15) NOT NULL,
+    tipo ENUM ('ADMINISTRADOR', 'ALUNO', 'INSTRUTOR') NOT NULL,
+    numero_matricula VARCHAR(20) NOT NULL,
+    ativo BOOLEAN NOT NULL,
+    data_cadastro TIMESTAMP(6) NOT NULL,
+    data_atualizacao TIMESTAMP(6),
+    data_desativacao TIMESTAMP(6),
+    CONSTRAINT pk_alunos PRIMARY KEY (id),
+    CONSTRAINT uk_alunos_email UNIQUE (email),
+    CONSTRAINT uk_alunos_cpf UNIQUE (cpf),
+    CONSTRAINT uk_alunos_numero_matricula UNIQUE (numero_matricula)
+);
+
+CREATE TABLE tb_usuarios (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    cpf VARCHAR(11) NOT NULL,
+    telefone VARCHAR(15) NOT NULL,
+    tipo ENUM ('ADMINISTRADOR', 'ALUNO', 'INSTRUTOR') NOT NULL,
+    ativo BOOLEAN NOT NULL,
+    data_criacao TIMESTAMP(6) NOT NULL,
+    data_atualizacao TIMESTAMP(6),
+    CONSTRAINT pk_usuarios PRIMARY KEY (id),
+    CONSTRAINT uk_usuarios_email UNIQUE (email),
+    CONSTRAINT uk_usuarios_cpf UNIQUE (cpf)
+);
+
+CREATE TABLE tb_instrutores (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    cref VARCHAR(20) NOT NULL,
+    especialidade VARCHAR(200) NOT NULL,
+    anos_experiencia INTEGER CHECK (anos_experiencia >= 0),
+    valor_hora NUMERIC(8, 2),
+    CONSTRAINT pk_instrutores PRIMARY KEY (id),
+    CONSTRAINT uk_instrutores_cref UNIQUE (cref)
+);
+
+CREATE TABLE tb_planos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome VARCHAR(50) NOT NULL,
+    descricao VARCHAR(255),
+    valor NUMERIC(10, 2) NOT NULL,
+    duracao_dias INTEGER NOT NULL CHECK (duracao_dias >= 1),
+    ativo BOOLEAN NOT NULL,
+    data_criacao TIMESTAMP(6) NOT NULL,
+    data_atualizacao TIMESTAMP(6),
+    CONSTRAINT pk_planos PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_matriculas (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aluno_id BIGINT NOT NULL,
+    plano_id BIGINT NOT NULL,
+    data_matricula DATE NOT NULL,
+    data_inicio DATE NOT NULL,
+    data_fim DATE NOT NULL,
+    data_vencimento DATE,
+    status ENUM ('ATIVA', 'CANCELADA', 'SUSPENSA', 'VENCIDA') NOT NULL,
+    CONSTRAINT pk_matriculas PRIMARY KEY (id),
+    CONSTRAINT fk_matriculas_aluno FOREIGN KEY (aluno_id) REFERENCES tb_alunos (id),
+    CONSTRAINT fk_matriculas_plano FOREIGN KEY (plano_id) REFERENCES tb_planos (id)
+);
+
+CREATE TABLE tb_exercicios (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome VARCHAR(100) NOT NULL,
+    descricao VARCHAR(1000),
+    instrucoes VARCHAR(500),
+    equipamento VARCHAR(200),
+    grupo_muscular ENUM ('ABDOMEN', 'ANTEBRACO', 'BICEPS', 'CARDIO', 'CORPO_INTEIRO', 'COSTAS', 'GLUTEOS',
+                         'OMBROS', 'PANTURRILHA', 'PEITO', 'POSTERIOR_COXA', 'QUADRICEPS', 'TRICEPS') NOT NULL,
+    tipo ENUM ('CARDIO', 'EQUILIBRIO', 'FLEXIBILIDADE', 'FORCA', 'RESISTENCIA') NOT NULL,
+    criado_em TIMESTAMP(6) NOT NULL,
+    atualizado_em TIMESTAMP(6),
+    CONSTRAINT pk_exercicios PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_treinos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aluno_id BIGINT NOT NULL,
+    instrutor_id BIGINT NOT NULL,
+    nome VARCHAR(100) NOT NULL,
+    descricao VARCHAR(500),
+    tipo ENUM ('CARDIO', 'CROSSFIT', 'FUNCIONAL', 'MISTO', 'MUSCULACAO', 'NATACAO', 'PILATES', 'YOGA') NOT NULL,
+    nivel ENUM ('AVANCADO', 'INICIANTE', 'INTERMEDIARIO') NOT NULL,
+    status ENUM ('ATIVO', 'CONCLUIDO', 'INATIVO') NOT NULL,
+    duracao_minutos INTEGER CHECK (duracao_minutos >= 1 AND duracao_minutos <= 300),
+    criado_em TIMESTAMP(6) NOT NULL,
+    atualizado_em TIMESTAMP(6),
+    CONSTRAINT pk_treinos PRIMARY KEY (id),
+    CONSTRAINT fk_treinos_aluno FOREIGN KEY (aluno_id) REFERENCES tb_alunos (id),
+    CONSTRAINT fk_treinos_instrutor FOREIGN KEY (instrutor_id) REFERENCES tb_instrutores (id)
+);
+
+CREATE TABLE tb_exercicio_treino (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    treino_id BIGINT NOT NULL,
+    exercicio_id BIGINT NOT NULL,
+    ordem INTEGER NOT NULL CHECK (ordem >= 1),
+    series INTEGER NOT NULL CHECK (series >= 1),
+    repeticoes INTEGER NOT NULL CHECK (repeticoes >= 1),
+    peso NUMERIC(6, 2),
+    descanso_segundos INTEGER CHECK (descanso_segundos >= 0),
+    observacoes VARCHAR(200),
+    CONSTRAINT pk_exercicio_treino PRIMARY KEY (id),
+    CONSTRAINT fk_exercicio_treino_treino FOREIGN KEY (treino_id) REFERENCES tb_treinos (id),
+    CONSTRAINT fk_exercicio_treino_exercicio FOREIGN KEY (exercicio_id) REFERENCES tb_exercicios (id)
+);
+
+CREATE TABLE tb_avaliacoes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aluno_id BIGINT NOT NULL,
+    personal_id BIGINT NOT NULL,
+    peso NUMERIC(5, 2),
+    altura NUMERIC(3, 2),
+    percentual_gordura NUMERIC(5, 2),
+    massa_muscular NUMERIC(5, 2),
+    objetivo ENUM ('DEFINICAO', 'FORCA', 'GANHO_MASSA', 'PERDA_PESO', 'REABILITACAO', 'RESISTENCIA'),
+    observacoes VARCHAR(1000),
+    criado_em TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_avaliacoes PRIMARY KEY (id),
+    CONSTRAINT fk_avaliacoes_aluno FOREIGN KEY (aluno_id) REFERENCES tb_alunos (id),
+    CONSTRAINT fk_avaliacoes_personal FOREIGN KEY (personal_id) REFERENCES tb_instrutores (id)
+);
+
+-- ========== ÍNDICES ==========
+
+-- tb_alunos: os mesmos declarados em Aluno (@Table(indexes)), verificados por
+-- AlunoRepositoryPlanoExecucaoTest.
+CREATE INDEX idx_alunos_nome_busca ON tb_alunos (nome_busca);
+CREATE INDEX idx_alunos_ativo_tipo ON tb_alunos (ativo, tipo);
+CREATE INDEX idx_alunos_ativo_data_cadastro ON tb_alunos (ativo, data_cadastro);
+CREATE INDEX idx_alunos_ativo_data_desativacao ON tb_alunos (ativo, data_desativacao);
+CREATE INDEX idx_alunos_data_cadastro ON tb_alunos (data_cadastro);
+
+-- Chaves estrangeiras: buscas dos relacionamentos a partir do lado "um".
+CREATE INDEX idx_matriculas_aluno ON tb_matriculas (aluno_id);
+CREATE INDEX idx_matriculas_plano ON tb_matriculas (plano_id);
+CREATE INDEX idx_treinos_aluno ON tb_treinos (aluno_id);
+CREATE INDEX idx_treinos_instrutor ON tb_treinos (instrutor_id);
+CREATE INDEX idx_exercicio_treino_treino ON tb_exercicio_treino (treino_id);
+CREATE INDEX idx_exercicio_treino_exercicio ON tb_exercicio_treino (exercicio_id);
+CREATE INDEX idx_avaliacoes_aluno ON tb_avaliacoes (aluno_id);
+CREATE INDEX idx_avaliacoes_personal ON tb_avaliacoes (personal_id);
@@ -0,0 +1,2 @@
+-- Reconciliação da popularidade dos planos: contagem por plano e dia nos últimos dias.
+CREATE INDEX idx_matriculas_data_plano ON tb_matriculas (data_matricula, plano_id);
@@ -0,0 +1,2 @@
+-- Expiração em lote: matrículas em um status com data de fim anterior a uma data.
+CREATE INDEX idx_matriculas_status_data_fim ON tb_matriculas (status, data_fim);
@@ -0,0 +1,11 @@
+-- Alinha a sequência de números de matrícula às matrículas AKD### já existentes (ex: criadas
+-- antes da adoção da sequência). Executada uma única vez; nunca recua a sequência, então
+-- blocos já reservados por instâncias em execução não são emitidos de novo.
+ALTER SEQUENCE seq_numero_matricula RESTART WITH (
+    SELECT GREATEST(
+               COALESCE(MAX(CAST(SUBSTRING(numero_matricula, 4) AS BIGINT)), 0) + 1,
+               (SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES
+                WHERE SEQUENCE_SCHEMA = CURRENT_SCHEMA AND SEQUENCE_NAME = 'SEQ_NUMERO_MATRICULA'))
+    FROM tb_alunos
+    WHERE REGEXP_LIKE(numero_matricula, '^AKD[0-9]+$')
+);
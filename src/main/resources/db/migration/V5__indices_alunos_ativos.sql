@@ -0,0 +1,5 @@
+-- Cargas e paginação por cursor dos alunos ativos: faixa de ID já na ordem da consulta.
+CREATE INDEX idx_alunos_ativo_id ON tb_alunos (ativo, id);
+
+-- Autocomplete por prefixo do nome dos alunos ativos, na ordem do nome.
+CREATE INDEX idx_alunos_ativo_nome_busca ON tb_alunos (ativo, nome_busca);
@@ -0,0 +1,45 @@
+package br.com.akdemia.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+@DisplayName("Métricas no formato Prometheus")
+class MetricasPrometheusTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Deve expor métricas de endpoints, repositórios, pool, Hibernate, JVM e erros")
+    void deveExporMetricasNoFormatoPrometheus() {
+        // Given
+        restTemplate.getForEntity("/alunos/1", String.class);
+        restTemplate.getForEntity("/api/usuarios", String.class);
+        restTemplate.getForEntity("/alunos/999999", String.class);
+
+        // When
+        ResponseEntity<String> resposta = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Then
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resposta.getBody())
+                .contains("http_server_requests_seconds_bucket{", "uri=\"/alunos/{id}\"", "uri=\"/api/usuarios\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{",
+                        "repository=\"AlunoRepository\"", "method=\"findDetalheById\"")
+                .contains("hikaricp_connections_active{")
+                .contains("hibernate_query_executions_total{", "hibernate_entities_loads_total{")
+                .contains("jvm_gc_memory_allocated_bytes_total{")
+                .contains("akdemia_erros_total{", "excecao=\"ResourceNotFoundException\"")
+                .contains("application=\"dio-akdemia-api\"");
+    }
+}
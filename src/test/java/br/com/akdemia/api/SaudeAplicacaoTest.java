@@ -0,0 +1,54 @@
+package br.com.akdemia.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Verificações de vivacidade e prontidão")
+class SaudeAplicacaoTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Deve expor a prontidão com a verificação do banco e do pool")
+    void deveExporProntidaoComBancoEPool() {
+        // When
+        ResponseEntity<String> resposta = restTemplate.getForEntity("/actuator/health/readiness", String.class);
+
+        // Then
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resposta.getBody())
+                .contains("\"status\":\"UP\"")
+                .contains("\"prontidao\"", "\"banco\"", "\"tempoRespostaMs\"", "\"pool\"");
+    }
+
+    @Test
+    @DisplayName("Deve expor a vivacidade sem depender do banco")
+    void deveExporVivacidade() {
+        // When
+        ResponseEntity<String> resposta = restTemplate.getForEntity("/actuator/health/liveness", String.class);
+
+        // Then
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resposta.getBody()).contains("\"status\":\"UP\"").doesNotContain("prontidao");
+    }
+
+    @Test
+    @DisplayName("Deve refletir a prontidão em /health")
+    void deveRefletirProntidaoEmHealth() {
+        // When
+        ResponseEntity<String> resposta = restTemplate.getForEntity("/health", String.class);
+
+        // Then
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resposta.getBody()).contains("\"status\":\"UP\"", "\"service\":\"api\"");
+    }
+}
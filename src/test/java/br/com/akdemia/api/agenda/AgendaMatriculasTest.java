@@ -0,0 +1,170 @@
+package br.com.akdemia.api.agenda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.event.LembreteRenovacaoEvent;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+import br.com.akdemia.api.repository.MatriculaRepository;
+
+@DisplayName("Testes da AgendaMatriculas")
+class AgendaMatriculasTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 3, 10);
+    private static final long AGORA = inicio(HOJE) + Duration.ofHours(10).toMillis();
+    private static final long UM_MINUTO = Duration.ofMinutes(1).toMillis();
+
+    private final MatriculaRepository matriculaRepository = mock(MatriculaRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final AgendaMatriculas agenda = new AgendaMatriculas(matriculaRepository, eventPublisher,
+            Duration.ofMinutes(1), 7, 5, 1000, ZoneOffset.UTC, AGORA);
+
+    @BeforeEach
+    void setUp() {
+        when(matriculaRepository.findAgendaPorStatusComDataFimAPartirDe(StatusMatricula.ATIVA, HOJE))
+                .thenReturn(List.<Object[]>of(
+                        new Object[] {1L, HOJE.plusDays(3), null},
+                        new Object[] {2L, HOJE.plusDays(30), HOJE.minusDays(6)},
+                        new Object[] {3L, HOJE.plusDays(30), HOJE.minusDays(7)}));
+        agenda.carregar(AGORA);
+    }
+
+    @Test
+    @DisplayName("Deve carregar apenas as tarefas ainda devidas")
+    void deveCarregarTarefasDevidas() {
+        // 1: vencimento (lembrete já passou); 2: lembrete, suspensão de hoje e vencimento; 3: lembrete e vencimento
+        assertThat(agenda.pendentes()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Deve executar suspensão, vencimento e lembretes nos seus dias, em lote")
+    void deveExecutarAcoesNosPrazos() {
+        // When - primeiro tick: suspensão cuja carência terminou ontem
+        agenda.disparar(AGORA + UM_MINUTO);
+
+        // Then
+        verify(matriculaRepository).atualizarStatusComVencimentoAntesDe(
+                List.of(2L), StatusMatricula.ATIVA, HOJE.minusDays(5), StatusMatricula.SUSPENSA);
+
+        // When - dia seguinte à data de fim da matrícula 1
+        agenda.disparar(inicio(HOJE.plusDays(4)));
+
+        // Then
+        verify(matriculaRepository).atualizarStatusComDataFimAntesDe(
+                List.of(1L), StatusMatricula.ATIVA, HOJE.plusDays(4), StatusMatricula.VENCIDA);
+
+        // When - 7 dias antes da data de fim das matrículas 2 e 3
+        agenda.disparar(inicio(HOJE.plusDays(23)));
+
+        // Then - um único evento para o lote
+        ArgumentCaptor<LembreteRenovacaoEvent> evento = ArgumentCaptor.forClass(LembreteRenovacaoEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertThat(evento.getValue().matriculaIds()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(agenda.pendentes()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar as tarefas de matrícula que deixou de estar ativa")
+    void deveCancelarAoAlterarStatus() {
+        // When
+        agenda.aoAlterarMatricula(evento(2L, HOJE.plusDays(30), HOJE.minusDays(6),
+                StatusMatricula.ATIVA, StatusMatricula.CANCELADA), AGORA);
+        agenda.disparar(inicio(HOJE.plusDays(40)));
+
+        // Then - um único lote com os vencimentos do intervalo, em ordem de prazo
+        verify(matriculaRepository, never()).atualizarStatusComVencimentoAntesDe(anyCollection(), any(), any(), any());
+        verify(matriculaRepository).atualizarStatusComDataFimAntesDe(
+                List.of(1L, 3L), StatusMatricula.ATIVA, HOJE.plusDays(40), StatusMatricula.VENCIDA);
+        assertThat(agenda.pendentes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve suspender de novo matrícula reativada com vencimento já passado")
+    void naoDeveSuspenderMatriculaReativada() {
+        // When - suspensa pela agenda e reativada manualmente
+        agenda.disparar(AGORA + UM_MINUTO);
+        agenda.aoAlterarMatricula(evento(2L, HOJE.plusDays(30), HOJE.minusDays(6),
+                StatusMatricula.SUSPENSA, StatusMatricula.ATIVA), AGORA + 2 * UM_MINUTO);
+        agenda.disparar(AGORA + 3 * UM_MINUTO);
+
+        // Then
+        verify(matriculaRepository, times(1)).atualizarStatusComVencimentoAntesDe(anyCollection(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve agendar a suspensão de nova matrícula e reagendar lote que falhou")
+    void deveAgendarNovaMatriculaEReagendarFalha() {
+        // Given
+        agenda.aoAlterarMatricula(MatriculaAlteradaEvent.criada(4L, 1L, 1L, HOJE, HOJE.plusDays(30),
+                HOJE.plusDays(1), StatusMatricula.ATIVA), AGORA);
+        when(matriculaRepository.atualizarStatusComVencimentoAntesDe(List.of(4L), StatusMatricula.ATIVA,
+                HOJE.plusDays(2), StatusMatricula.SUSPENSA))
+                .thenThrow(new IllegalStateException("banco indisponível"))
+                .thenReturn(1);
+        agenda.disparar(AGORA + UM_MINUTO);
+
+        // When - dia seguinte ao fim da carência; a primeira tentativa falha
+        long prazo = inicio(HOJE.plusDays(7));
+        agenda.disparar(prazo);
+        agenda.disparar(prazo + UM_MINUTO);
+
+        // Then
+        verify(matriculaRepository, times(2)).atualizarStatusComVencimentoAntesDe(
+                List.of(4L), StatusMatricula.ATIVA, HOJE.plusDays(2), StatusMatricula.SUSPENSA);
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever com a nova tentativa o prazo reagendado durante a execução")
+    void devePreservarPrazoReagendadoDuranteFalha() {
+        // Given - o vencimento do pagamento é prorrogado enquanto a suspensão falha
+        agenda.aoAlterarMatricula(MatriculaAlteradaEvent.criada(4L, 1L, 1L, HOJE, HOJE.plusDays(30),
+                HOJE.plusDays(1), StatusMatricula.ATIVA), AGORA);
+        agenda.disparar(AGORA + UM_MINUTO);
+        long prazo = inicio(HOJE.plusDays(7));
+        when(matriculaRepository.atualizarStatusComVencimentoAntesDe(List.of(4L), StatusMatricula.ATIVA,
+                HOJE.plusDays(2), StatusMatricula.SUSPENSA))
+                .thenAnswer(invocacao -> {
+                    agenda.aoAlterarMatricula(evento(4L, HOJE.plusDays(30), HOJE.plusDays(20),
+                            StatusMatricula.ATIVA, StatusMatricula.ATIVA), prazo);
+                    throw new IllegalStateException("banco indisponível");
+                });
+
+        // When
+        agenda.disparar(prazo);
+        agenda.disparar(prazo + UM_MINUTO);
+
+        // Then - nenhuma nova tentativa no tick seguinte; a suspensão fica no novo prazo
+        verify(matriculaRepository, times(1)).atualizarStatusComVencimentoAntesDe(
+                List.of(4L), StatusMatricula.ATIVA, HOJE.plusDays(2), StatusMatricula.SUSPENSA);
+        agenda.disparar(inicio(HOJE.plusDays(26)));
+        verify(matriculaRepository).atualizarStatusComVencimentoAntesDe(
+                List.of(4L), StatusMatricula.ATIVA, HOJE.plusDays(21), StatusMatricula.SUSPENSA);
+    }
+
+    private static MatriculaAlteradaEvent evento(Long id, LocalDate dataFim, LocalDate dataVencimento,
+                                                 StatusMatricula statusAnterior, StatusMatricula status) {
+        return new MatriculaAlteradaEvent(id, 1L, 1L, HOJE.minusDays(30), dataFim, dataVencimento, statusAnterior, status);
+    }
+
+    private static long inicio(LocalDate dia) {
+        return dia.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
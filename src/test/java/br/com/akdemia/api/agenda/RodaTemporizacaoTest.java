@@ -0,0 +1,125 @@
+package br.com.akdemia.api.agenda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes da RodaTemporizacao")
+class RodaTemporizacaoTest {
+
+    private static final long TICK = 1_000;
+
+    private final RodaTemporizacao<String> roda = new RodaTemporizacao<>(Duration.ofMillis(TICK), 0);
+
+    @Test
+    @DisplayName("Deve entregar cada tarefa no primeiro tick após o prazo")
+    void deveEntregarNoPrazo() {
+        // Given
+        roda.agendar("a", 2_500);
+        roda.agendar("b", 3_000);
+
+        // Then
+        assertThat(roda.avancar(2_999)).isEmpty();
+        assertThat(roda.avancar(3_000)).containsExactlyInAnyOrder("a", "b");
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descer pelos níveis e entregar prazos distantes no tick exato")
+    void deveCascatearEntreNiveis() {
+        // Given - um prazo por nível, e um além do horizonte da roda
+        long[] prazos = {63, 64, 4_095, 4_096, 300_000, 20_000_000};
+        for (long prazo : prazos) {
+            roda.agendar("t" + prazo, prazo * TICK);
+        }
+
+        // Then
+        for (long prazo : prazos) {
+            assertThat(roda.avancar((prazo - 1) * TICK)).doesNotContain("t" + prazo);
+            assertThat(roda.avancar(prazo * TICK)).containsExactly("t" + prazo);
+        }
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar cancelamentos e substituir o prazo ao reagendar")
+    void deveCancelarEReagendar() {
+        // Given
+        roda.agendar("cancelada", 5_000);
+        roda.agendar("adiada", 5_000);
+        roda.agendar("antecipada", 500_000);
+
+        // When
+        assertThat(roda.cancelar("cancelada")).isTrue();
+        assertThat(roda.cancelar("inexistente")).isFalse();
+        roda.agendar("adiada", 100_000);
+        roda.agendar("antecipada", 6_000);
+
+        // Then
+        assertThat(roda.tamanho()).isEqualTo(2);
+        assertThat(roda.avancar(10_000)).containsExactly("antecipada");
+        assertThat(roda.avancar(100_000)).containsExactly("adiada");
+    }
+
+    @Test
+    @DisplayName("Deve agendar apenas a chave sem tarefa pendente")
+    void deveAgendarSeAusente() {
+        // Given
+        roda.agendar("pendente", 50_000);
+
+        // When
+        assertThat(roda.agendarSeAusente("pendente", 2_000)).isFalse();
+        assertThat(roda.agendarSeAusente("nova", 2_000)).isTrue();
+
+        // Then - o prazo da tarefa pendente é preservado
+        assertThat(roda.avancar(10_000)).containsExactly("nova");
+        assertThat(roda.avancar(50_000)).containsExactly("pendente");
+    }
+
+    @Test
+    @DisplayName("Deve entregar no próximo avanço tarefas com prazo já passado")
+    void deveEntregarPrazoPassado() {
+        // Given
+        roda.avancar(50_000);
+
+        // When
+        roda.agendar("atrasada", 1_000);
+
+        // Then
+        assertThat(roda.avancar(50_000)).containsExactly("atrasada");
+    }
+
+    @Test
+    @DisplayName("Deve entregar prazos aleatórios em ordem, avançando em saltos")
+    void deveEntregarPrazosAleatoriosEmOrdem() {
+        // Given
+        Random random = new Random(42);
+        List<Long> prazos = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long prazo = 1 + random.nextInt(600_000);
+            prazos.add(prazo);
+            roda.agendar("t" + i, prazo * TICK);
+        }
+
+        // When - avança em saltos de tamanhos variados; cada tarefa sai no salto que cobre o seu prazo
+        List<Long> entregues = new ArrayList<>();
+        long anterior = 0;
+        for (long agora = 0; anterior < 600_000; agora = Math.min(agora + 1 + random.nextInt(5_000), 600_000)) {
+            for (String chave : roda.avancar(agora * TICK)) {
+                long prazo = prazos.get(Integer.parseInt(chave.substring(1)));
+                assertThat(prazo).isGreaterThan(anterior).isLessThanOrEqualTo(agora);
+                entregues.add(prazo);
+            }
+            anterior = agora;
+        }
+
+        // Then
+        assertThat(entregues).hasSize(prazos.size()).isSorted();
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.akdemia.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+
+@DisplayName("Testes do AlunoCache")
+class AlunoCacheTest {
+
+    // Manutenção no próprio thread: despejos determinísticos
+    private final AlunoCache alunoCache = new AlunoCache(2, Duration.ofMinutes(10), Runnable::run);
+
+    @Test
+    @DisplayName("Deve armazenar e buscar por ID e pelas chaves secundárias")
+    void deveBuscarPorTodasAsChaves() {
+        // Given
+        alunoCache.armazenar(aluno(1L, "ana@email.com", "111", "M1"), alunoCache.marcarLeitura());
+
+        // Then
+        assertThat(alunoCache.buscarPorId(1L)).isPresent();
+        assertThat(alunoCache.buscarPorEmail("ana@email.com")).isPresent();
+        assertThat(alunoCache.buscarPorCpf("111")).isPresent();
+        assertThat(alunoCache.buscarPorMatricula("M1")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar leitura iniciada antes de uma invalidação")
+    void naoDeveArmazenarLeituraInvalidada() {
+        // Given - leitura no banco iniciada antes da invalidação
+        long marca = alunoCache.marcarLeitura();
+        alunoCache.invalidar(1L);
+
+        // When - a leitura termina depois
+        alunoCache.armazenar(aluno(1L, "ana@email.com", "111", "M1"), marca);
+
+        // Then
+        assertThat(alunoCache.buscarPorId(1L)).isEmpty();
+        assertThat(alunoCache.buscarPorEmail("ana@email.com")).isEmpty();
+
+        // When - nova leitura, após a invalidação
+        alunoCache.armazenar(aluno(1L, "ana@email.com", "111", "M1"), alunoCache.marcarLeitura());
+
+        // Then
+        assertThat(alunoCache.buscarPorId(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve remover as chaves secundárias na invalidação, na substituição e no despejo")
+    void deveLimparChavesSecundarias() {
+        // Given
+        alunoCache.armazenar(aluno(1L, "ana@email.com", "111", "M1"), alunoCache.marcarLeitura());
+
+        // When - email alterado: a chave antiga sai do índice
+        alunoCache.armazenar(aluno(1L, "ana.nova@email.com", "111", "M1"), alunoCache.marcarLeitura());
+
+        // Then
+        assertThat(alunoCache.buscarPorEmail("ana@email.com")).isEmpty();
+        assertThat(alunoCache.buscarPorEmail("ana.nova@email.com")).isPresent();
+
+        // When - invalidação e nova leitura com as mesmas chaves
+        alunoCache.invalidar(1L);
+        assertThat(alunoCache.buscarPorCpf("111")).isEmpty();
+        alunoCache.armazenar(aluno(1L, "ana.nova@email.com", "111", "M1"), alunoCache.marcarLeitura());
+
+        // Then - a limpeza da invalidação não remove as chaves regravadas
+        assertThat(alunoCache.buscarPorCpf("111")).isPresent();
+        assertThat(alunoCache.buscarPorMatricula("M1")).isPresent();
+
+        // When - despejo por tamanho (máximo 2)
+        alunoCache.armazenar(aluno(2L, "bia@email.com", "222", "M2"), alunoCache.marcarLeitura());
+        alunoCache.armazenar(aluno(3L, "caio@email.com", "333", "M3"), alunoCache.marcarLeitura());
+        alunoCache.buscarPorId(2L);
+        alunoCache.buscarPorId(3L);
+
+        // Then - exatamente um foi despejado, junto com as suas chaves
+        long presentes = Stream.of("ana.nova@email.com", "bia@email.com", "caio@email.com")
+                .filter(email -> alunoCache.buscarPorEmail(email).isPresent())
+                .count();
+        assertThat(presentes).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve contar acertos e falhas das buscas por ID e por chave secundária")
+    void deveContarAcertosEFalhas() {
+        // Given
+        alunoCache.armazenar(aluno(1L, "ana@email.com", "111", "M1"), alunoCache.marcarLeitura());
+        CacheStats antes = alunoCache.estatisticas();
+
+        // When
+        alunoCache.buscarPorId(1L);
+        alunoCache.buscarPorEmail("ana@email.com");
+        alunoCache.buscarPorId(9L);
+        alunoCache.buscarPorEmail("x@email.com");
+        alunoCache.aoAlterarMatricula(MatriculaAlteradaEvent.criada(5L, 1L, 1L, null, null, null, StatusMatricula.ATIVA));
+        alunoCache.buscarPorCpf("111");
+
+        // Then - acertos: ID e email; falhas: ID desconhecido, email desconhecido e CPF do aluno invalidado
+        CacheStats depois = alunoCache.estatisticas().minus(antes);
+        assertThat(depois.hitCount()).isEqualTo(2);
+        assertThat(depois.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Não deve propagar ao cache alterações no DTO armazenado ou consultado")
+    void deveIsolarDtoArmazenado() {
+        // Given
+        AlunoDTO armazenado = aluno(1L, "ana@email.com", "111", "M1");
+        armazenado.setDataAtualizacao(LocalDateTime.of(2025, 1, 29, 8, 0));
+        armazenado.getMatriculasIds().add(10L);
+        alunoCache.armazenar(armazenado, alunoCache.marcarLeitura());
+
+        // When - quem armazenou e quem consultou alteram os próprios DTOs
+        armazenado.setNome("Alterado");
+        armazenado.getMatriculasIds().add(11L);
+        AlunoDTO consultado = alunoCache.buscarPorEmail("ana@email.com").orElseThrow();
+        consultado.setDataAtualizacao(LocalDateTime.of(2030, 1, 1, 0, 0));
+        consultado.getMatriculasIds().clear();
+
+        // Then
+        AlunoDTO atual = alunoCache.buscarPorId(1L).orElseThrow();
+        assertThat(atual).isNotSameAs(consultado);
+        assertThat(atual.getNome()).isNull();
+        assertThat(atual.getDataAtualizacao()).isEqualTo(LocalDateTime.of(2025, 1, 29, 8, 0));
+        assertThat(atual.getMatriculasIds()).isEqualTo(List.of(10L));
+    }
+
+    private static AlunoDTO aluno(Long id, String email, String cpf, String numeroMatricula) {
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setId(id);
+        aluno.setEmail(email);
+        aluno.setCpf(cpf);
+        aluno.setNumeroMatricula(numeroMatricula);
+        return aluno;
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.akdemia.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.akdemia.api.dto.PlanoDTO;
+import br.com.akdemia.api.entity.Plano;
+import br.com.akdemia.api.event.PlanoAlteradoEvent;
+import br.com.akdemia.api.mapper.PlanoMapper;
+import br.com.akdemia.api.repository.PlanoRepository;
+
+@DisplayName("Testes do CatalogoPlanos")
+class CatalogoPlanosTest {
+
+    private final PlanoRepository planoRepository = mock(PlanoRepository.class);
+    private final CatalogoPlanos catalogoPlanos = new CatalogoPlanos(planoRepository, new PlanoMapper());
+
+    @BeforeEach
+    void setUp() {
+        when(planoRepository.findByAtivoTrue()).thenReturn(List.of(
+                plano(1L, "Anual", "899.90", 365),
+                plano(2L, "Mensal", "99.90", 30),
+                plano(3L, "Trimestral", "269.90", 90),
+                plano(4L, "Mensal Plus", "129.90", 30)));
+    }
+
+    @Test
+    @DisplayName("Deve carregar o banco uma única vez e responder as consultas do snapshot")
+    void deveConsultarBancoUmaVez() {
+        // When
+        List<PlanoDTO> planos = catalogoPlanos.listar();
+        catalogoPlanos.buscarPorId(3L);
+        catalogoPlanos.buscarPorFaixaDeValor(null, null);
+        catalogoPlanos.buscarPorFaixaDeDuracao(30, 90);
+
+        // Then
+        assertThat(planos).extracting(PlanoDTO::getId).containsExactly(2L, 4L, 3L, 1L);
+        verify(planoRepository, times(1)).findByAtivoTrue();
+    }
+
+    @Test
+    @DisplayName("Deve retornar os planos na faixa de valor, com limites inclusivos")
+    void deveBuscarPorFaixaDeValor() {
+        assertThat(catalogoPlanos.buscarPorFaixaDeValor(new BigDecimal("99.90"), new BigDecimal("269.90")))
+                .extracting(PlanoDTO::getId).containsExactly(2L, 4L, 3L);
+        assertThat(catalogoPlanos.buscarPorFaixaDeValor(new BigDecimal("99.901"), new BigDecimal("269.899")))
+                .extracting(PlanoDTO::getId).containsExactly(4L);
+        assertThat(catalogoPlanos.buscarPorFaixaDeValor(new BigDecimal("270"), null))
+                .extracting(PlanoDTO::getId).containsExactly(1L);
+        assertThat(catalogoPlanos.buscarPorFaixaDeValor(new BigDecimal("1000"), new BigDecimal("1e30"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar os planos na faixa de duração, ordenados por duração e valor")
+    void deveBuscarPorFaixaDeDuracao() {
+        assertThat(catalogoPlanos.buscarPorFaixaDeDuracao(null, 90))
+                .extracting(PlanoDTO::getId).containsExactly(2L, 4L, 3L);
+        assertThat(catalogoPlanos.buscarPorFaixaDeDuracao(31, 89)).isEmpty();
+        assertThat(catalogoPlanos.buscarPorFaixaDeDuracao(365, Integer.MAX_VALUE))
+                .extracting(PlanoDTO::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve publicar um novo snapshot ao alterar um plano")
+    void deveRecarregarAoAlterarPlano() {
+        // Given
+        List<PlanoDTO> anterior = catalogoPlanos.listar();
+        when(planoRepository.findByAtivoTrue()).thenReturn(List.of(plano(2L, "Mensal", "109.90", 30)));
+
+        // When
+        catalogoPlanos.aoAlterarPlano(new PlanoAlteradoEvent(2L));
+
+        // Then
+        assertThat(anterior).hasSize(4);
+        assertThat(catalogoPlanos.listar()).extracting(PlanoDTO::getValor).containsExactly(new BigDecimal("109.90"));
+        assertThat(catalogoPlanos.buscarPorId(1L)).isEmpty();
+    }
+
+    private static Plano plano(Long id, String nome, String valor, int duracaoDias) {
+        Plano plano = new Plano();
+        plano.setId(id);
+        plano.setNome(nome);
+        plano.setValor(new BigDecimal(valor));
+        plano.setDuracaoDias(duracaoDias);
+        plano.setAtivo(true);
+        return plano;
+    }
+}
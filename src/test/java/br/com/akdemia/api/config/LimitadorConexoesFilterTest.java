@@ -0,0 +1,116 @@
+package br.com.akdemia.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+
+@DisplayName("Testes do LimitadorConexoesFilter")
+class LimitadorConexoesFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Pool de 2 conexões com 1 de reserva: uma requisição por vez
+    private final LimitadorConexoesFilter filtro = new LimitadorConexoesFilter(2, 1, Duration.ofMillis(20),
+            Jackson2ObjectMapperBuilder.json().build(),
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+                    .getBeanProvider(MeterRegistry.class));
+
+    private final FilterChain sincrona = (request, response) -> { };
+    private final FilterChain assincrona = (request, response) -> request.startAsync();
+
+    @Test
+    @DisplayName("Deve liberar a permissão ao fim de uma requisição síncrona")
+    void deveLiberarRequisicaoSincrona() throws Exception {
+        // When
+        MockHttpServletResponse primeira = filtrar(requisicao(), sincrona);
+        MockHttpServletResponse segunda = filtrar(requisicao(), sincrona);
+
+        // Then
+        assertThat(primeira.getStatus()).isEqualTo(200);
+        assertThat(segunda.getStatus()).isEqualTo(200);
+        assertThat(disponiveis()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando não há permissão após a espera máxima")
+    void deveRejeitarQuandoSaturado() throws Exception {
+        // Given - uma requisição assíncrona em andamento ocupa a única permissão
+        filtrar(requisicao(), assincrona);
+
+        // When
+        MockHttpServletResponse rejeitada = filtrar(requisicao(), sincrona);
+
+        // Then
+        assertThat(rejeitada.getStatus()).isEqualTo(503);
+        assertThat(rejeitada.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejeitada.getContentAsString()).contains("\"status\":503");
+        assertThat(meterRegistry.get("akdemia.web.limitador.rejeitadas").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter a permissão até a conclusão da requisição assíncrona")
+    void deveLiberarNaConclusaoAssincrona() throws Exception {
+        // Given
+        MockHttpServletRequest streaming = requisicao();
+        filtrar(streaming, assincrona);
+        assertThat(disponiveis()).isZero();
+
+        // When
+        streaming.getAsyncContext().complete();
+
+        // Then
+        assertThat(disponiveis()).isEqualTo(1);
+        assertThat(filtrar(requisicao(), sincrona).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a permissão uma única vez no timeout seguido de conclusão")
+    void deveLiberarUmaVezNoTimeout() throws Exception {
+        // Given
+        MockHttpServletRequest streaming = requisicao();
+        filtrar(streaming, assincrona);
+        MockAsyncContext contexto = (MockAsyncContext) streaming.getAsyncContext();
+
+        // When - o contêiner notifica o timeout e depois a conclusão
+        for (AsyncListener listener : contexto.getListeners()) {
+            listener.onTimeout(new AsyncEvent(contexto));
+        }
+        contexto.complete();
+
+        // Then
+        assertThat(disponiveis()).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse filtrar(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest requisicao() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/alunos/todos/stream");
+        request.setServletPath("/alunos/todos/stream");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private double disponiveis() {
+        return meterRegistry.get("akdemia.web.limitador.disponiveis").gauge().value();
+    }
+}
@@ -4,18 +4,29 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,13 +34,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.AlunoSugestaoDTO;
+import br.com.akdemia.api.dto.EstatisticasAlunosDTO;
+import br.com.akdemia.api.dto.ImportacaoAlunosDTO;
+import br.com.akdemia.api.dto.PaginaDTO;
 import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.service.AlunoImportacaoService;
 import br.com.akdemia.api.service.AlunoService;
 
 @WebMvcTest(AlunoController.class)
@@ -42,6 +62,9 @@ class AlunoControllerTest {
     @MockBean
     private AlunoService alunoService;
 
+    @MockBean
+    private AlunoImportacaoService alunoImportacaoService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -81,6 +104,26 @@ class AlunoControllerTest {
                 .andExpect(jsonPath("$.email").value("joao@email.com"));
     }
 
+    @Test
+    @DisplayName("Deve importar alunos em lote a partir de CSV")
+    void deveImportarAlunosEmLoteAPartirDeCsv() throws Exception {
+        // Given
+        ImportacaoAlunosDTO relatorio = new ImportacaoAlunosDTO();
+        relatorio.setTotalRegistros(2);
+        relatorio.setImportados(2);
+        when(alunoImportacaoService.importar(any(), any())).thenReturn(relatorio);
+
+        // When & Then
+        mockMvc.perform(post("/alunos/lote")
+                .contentType("text/csv")
+                .content("nome,email,cpf,telefone,tipo\n"
+                        + "João Silva,joao@email.com,11999999999,11999999999,ALUNO\n"
+                        + "Maria Santos,maria@email.com,11888888888,11888888888,ALUNO\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRegistros").value(2))
+                .andExpect(jsonPath("$.importados").value(2));
+    }
+
     @Test
     @DisplayName("Deve retornar erro 400 ao criar aluno com dados inválidos")
     void deveRetornarErro400AoCriarAlunoComDadosInvalidos() throws Exception {
@@ -110,6 +153,33 @@ class AlunoControllerTest {
                 .andExpect(jsonPath("$[1].nome").value("Maria Santos"));
     }
 
+    @Test
+    @DisplayName("Deve exportar alunos ativos em streaming NDJSON")
+    @SuppressWarnings("unchecked")
+    void deveExportarAlunosAtivosEmStreamingNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<List<AlunoDTO>> consumidor = invocation.getArgument(1);
+            consumidor.accept(List.of(listaAlunos.get(0)));
+            consumidor.accept(List.of(listaAlunos.get(1)));
+            return null;
+        }).when(alunoService).percorrerAtivos(eq(2), any(Consumer.class));
+
+        // When
+        MvcResult resultado = mockMvc.perform(get("/alunos/todos/stream")
+                .param("tamanhoLote", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String esperado = objectMapper.writeValueAsString(listaAlunos.get(0)) + "\n"
+                + objectMapper.writeValueAsString(listaAlunos.get(1)) + "\n";
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().bytes(esperado.getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     @DisplayName("Deve buscar aluno por ID com sucesso")
     void deveBuscarAlunoPorIdComSucesso() throws Exception {
@@ -124,6 +194,54 @@ class AlunoControllerTest {
                 .andExpect(jsonPath("$.email").value("joao@email.com"));
     }
 
+    @Test
+    @DisplayName("Deve responder ETag e Last-Modified ao buscar aluno por ID")
+    void deveResponderEtagAoBuscarAlunoPorId() throws Exception {
+        // Given
+        alunoDTO.setDataAtualizacao(LocalDateTime.of(2025, 1, 29, 10, 30, 15, 123456000));
+        when(alunoService.buscarPorId(1L)).thenReturn(alunoDTO);
+
+        // When & Then
+        mockMvc.perform(get("/alunos/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, VersaoRecurso.etag(1L, alunoDTO.getDataAtualizacao())))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem carregar o aluno quando o ETag do cliente está atual")
+    void deveResponder304QuandoEtagAtual() throws Exception {
+        // Given
+        LocalDateTime versao = LocalDateTime.of(2025, 1, 29, 10, 30, 15, 123456000);
+        when(alunoService.buscarVersao(1L)).thenReturn(versao);
+
+        // When & Then
+        mockMvc.perform(get("/alunos/{id}", 1L)
+                .header(HttpHeaders.IF_NONE_MATCH, VersaoRecurso.etag(1L, versao)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, VersaoRecurso.etag(1L, versao)))
+                .andExpect(content().string(""));
+        verify(alunoService, never()).buscarPorId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve responder 200 com o aluno quando o ETag do cliente está desatualizado")
+    void deveResponder200QuandoEtagDesatualizado() throws Exception {
+        // Given
+        LocalDateTime anterior = LocalDateTime.of(2025, 1, 29, 10, 30, 15);
+        alunoDTO.setDataAtualizacao(anterior.plusSeconds(5));
+        when(alunoService.buscarVersao(1L)).thenReturn(alunoDTO.getDataAtualizacao());
+        when(alunoService.buscarPorId(1L)).thenReturn(alunoDTO);
+
+        // When & Then
+        mockMvc.perform(get("/alunos/{id}", 1L)
+                .header(HttpHeaders.IF_NONE_MATCH, VersaoRecurso.etag(1L, anterior)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, VersaoRecurso.etag(1L, alunoDTO.getDataAtualizacao())))
+                .andExpect(jsonPath("$.nome").value("João Silva"));
+    }
+
     @Test
     @DisplayName("Deve listar alunos por tipo com sucesso")
     void deveListarAlunosPorTipoComSucesso() throws Exception {
@@ -201,6 +319,91 @@ class AlunoControllerTest {
                 .andExpect(jsonPath("$[0].nome").value("João Silva"));
     }
 
+    @Test
+    @DisplayName("Deve sugerir alunos limitando a quantidade máxima")
+    void deveSugerirAlunosLimitandoQuantidadeMaxima() throws Exception {
+        // Given
+        List<AlunoSugestaoDTO> sugestoes = List.of(new AlunoSugestaoDTO(1L, "João Silva", "AKD001"));
+        when(alunoService.sugerir("jo", 50)).thenReturn(sugestoes);
+
+        // When & Then
+        mockMvc.perform(get("/alunos/sugestoes")
+                .param("q", "jo")
+                .param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].nome").value("João Silva"))
+                .andExpect(jsonPath("$[0].numeroMatricula").value("AKD001"))
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve retornar estatísticas de alunos por tipo")
+    void deveRetornarEstatisticasDeAlunosPorTipo() throws Exception {
+        // Given
+        Map<TipoUsuario, Long> ativosPorTipo = new EnumMap<>(TipoUsuario.class);
+        ativosPorTipo.put(TipoUsuario.ALUNO, 8L);
+        Map<TipoUsuario, Long> inativosPorTipo = new EnumMap<>(TipoUsuario.class);
+        inativosPorTipo.put(TipoUsuario.ALUNO, 2L);
+        when(alunoService.obterEstatisticas())
+                .thenReturn(new EstatisticasAlunosDTO(10L, 8L, 2L, ativosPorTipo, inativosPorTipo, null));
+
+        // When & Then
+        mockMvc.perform(get("/alunos/estatisticas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(10))
+                .andExpect(jsonPath("$.ativos").value(8))
+                .andExpect(jsonPath("$.inativos").value(2))
+                .andExpect(jsonPath("$.ativosPorTipo.ALUNO").value(8))
+                .andExpect(jsonPath("$.inativosPorTipo.ALUNO").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve listar alunos paginados limitando o tamanho da página")
+    void deveListarAlunosPaginadosLimitandoTamanhoDaPagina() throws Exception {
+        // Given
+        PaginaDTO<AlunoDTO> pagina = new PaginaDTO<>(listaAlunos, 0, 100, true, 2L, null, null);
+        when(alunoService.listarPaginado(null, TipoUsuario.ALUNO, PageRequest.of(0, 100, Sort.by("id")), false))
+                .thenReturn(pagina);
+
+        // When & Then
+        mockMvc.perform(get("/alunos")
+                .param("tipo", "ALUNO")
+                .param("size", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo.length()").value(2))
+                .andExpect(jsonPath("$.tamanho").value(100))
+                .andExpect(jsonPath("$.temProxima").value(true))
+                .andExpect(jsonPath("$.proximoCursor").value(2))
+                .andExpect(jsonPath("$.totalElementos").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve listar alunos por cursor")
+    void deveListarAlunosPorCursor() throws Exception {
+        // Given
+        PaginaDTO<AlunoDTO> pagina = new PaginaDTO<>(listaAlunos, null, 20, false, null, null, null);
+        when(alunoService.listarAposId("jo", null, 51L, 20)).thenReturn(pagina);
+
+        // When & Then
+        mockMvc.perform(get("/alunos")
+                .param("nome", "jo")
+                .param("apos", "51"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo.length()").value(2))
+                .andExpect(jsonPath("$.temProxima").value(false));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 para ordenação não permitida")
+    void deveRetornarErro400ParaOrdenacaoNaoPermitida() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/alunos")
+                .param("sort", "cpf,desc"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Deve retornar lista vazia ao buscar por nome inexistente")
     void deveRetornarListaVaziaAoBuscarPorNomeInexistente() throws Exception {
@@ -223,4 +426,36 @@ class AlunoControllerTest {
         mockMvc.perform(get("/alunos/buscar"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve retornar erro 404 com o corpo padrão para caminho inexistente")
+    void deveRetornarErro404ParaCaminhoInexistente() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/alunos/1/inexistente"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.timestamp").isNotEmpty())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Recurso não encontrado"))
+                .andExpect(jsonPath("$.message").value("Caminho não encontrado"))
+                .andExpect(jsonPath("$.validationErrors").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 405 para método não suportado")
+    void deveRetornarErro405ParaMetodoNaoSuportado() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/alunos/estatisticas"))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(jsonPath("$.status").value(405));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 para ID em formato inválido")
+    void deveRetornarErro400ParaIdInvalido() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/alunos/abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Valor inválido para o parâmetro: id"));
+    }
+}
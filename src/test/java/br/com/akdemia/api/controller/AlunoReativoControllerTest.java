@@ -0,0 +1,105 @@
+package br.com.akdemia.api.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.service.AlunoLeituraReativaService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(AlunoReativoController.class)
+@DisplayName("Testes do AlunoReativoController")
+class AlunoReativoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AlunoLeituraReativaService alunoLeituraReativaService;
+
+    private AlunoDTO alunoDTO;
+
+    @BeforeEach
+    void setUp() {
+        alunoDTO = new AlunoDTO();
+        alunoDTO.setId(1L);
+        alunoDTO.setNome("João Silva");
+        alunoDTO.setEmail("joao@email.com");
+        alunoDTO.setTipo(TipoUsuario.ALUNO);
+    }
+
+    @Test
+    @DisplayName("Deve buscar aluno por ID de forma reativa")
+    void deveBuscarAlunoPorIdDeFormaReativa() throws Exception {
+        // Given
+        when(alunoLeituraReativaService.buscarPorId(1L)).thenReturn(Mono.just(alunoDTO));
+
+        // When
+        MvcResult resultado = mockMvc.perform(get("/reativo/alunos/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.nome").value("João Silva"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 ao buscar aluno inexistente de forma reativa")
+    void deveRetornar404AoBuscarAlunoInexistenteDeFormaReativa() throws Exception {
+        // Given
+        when(alunoLeituraReativaService.buscarPorId(99L))
+                .thenReturn(Mono.error(new ResourceNotFoundException("Aluno não encontrado com ID: 99")));
+
+        // When
+        MvcResult resultado = mockMvc.perform(get("/reativo/alunos/99"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página na busca reativa")
+    void deveLimitarTamanhoDaPaginaNaBuscaReativa() throws Exception {
+        // Given
+        when(alunoLeituraReativaService.buscarComFiltros("jo", TipoUsuario.ALUNO, 0, 100))
+                .thenReturn(Flux.just(alunoDTO));
+
+        // When
+        MvcResult resultado = mockMvc.perform(get("/reativo/alunos/buscar")
+                .param("nome", "jo")
+                .param("tipo", "ALUNO")
+                .param("size", "500")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.akdemia.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.akdemia.api.dto.MatriculaDTO;
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.service.ExpiracaoMatriculas;
+import br.com.akdemia.api.service.MatriculaService;
+
+@WebMvcTest(MatriculaController.class)
+@DisplayName("Testes do MatriculaController")
+class MatriculaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MatriculaService matriculaService;
+
+    @MockBean
+    private ExpiracaoMatriculas expiracaoMatriculas;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MatriculaDTO matriculaDTO;
+
+    @BeforeEach
+    void setUp() {
+        matriculaDTO = new MatriculaDTO();
+        matriculaDTO.setAlunoId(1L);
+        matriculaDTO.setPlanoId(2L);
+        matriculaDTO.setDataInicio(LocalDate.of(2025, 2, 1));
+        matriculaDTO.setDataFim(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    @DisplayName("Deve criar matrícula válida com status 201")
+    void deveCriarMatricula() throws Exception {
+        // Given
+        MatriculaDTO criada = new MatriculaDTO();
+        criada.setId(30L);
+        criada.setAlunoId(1L);
+        criada.setPlanoId(2L);
+        criada.setStatus(StatusMatricula.ATIVA);
+        when(matriculaService.criar(any(MatriculaDTO.class))).thenReturn(criada);
+
+        // When & Then
+        mockMvc.perform(post("/matriculas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(matriculaDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(30))
+                .andExpect(jsonPath("$.status").value("ATIVA"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para matrícula sem aluno, sem chamar o service")
+    void deveRetornar400ParaMatriculaInvalida() throws Exception {
+        // Given
+        matriculaDTO.setAlunoId(null);
+
+        // When & Then
+        mockMvc.perform(post("/matriculas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(matriculaDTO)))
+                .andExpect(status().isBadRequest());
+        verify(matriculaService, never()).criar(any(MatriculaDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para aluno com matrícula em vigor e 404 para plano inativo")
+    void deveMapearRecusasDaCriacao() throws Exception {
+        // Given
+        when(matriculaService.criar(any(MatriculaDTO.class)))
+                .thenThrow(new BusinessException("Aluno já possui matrícula ativa ou suspensa"))
+                .thenThrow(new ResourceNotFoundException("Plano ativo não encontrado com ID: 2"));
+        String corpo = objectMapper.writeValueAsString(matriculaDTO);
+
+        // When & Then
+        mockMvc.perform(post("/matriculas").contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Aluno já possui matrícula ativa ou suspensa"));
+        mockMvc.perform(post("/matriculas").contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para transição de status não permitida")
+    void deveRetornar400ParaTransicaoNaoPermitida() throws Exception {
+        // Given
+        when(matriculaService.reativar(30L))
+                .thenThrow(new BusinessException("Matrícula cancelada não pode passar para ativa"));
+
+        // When & Then
+        mockMvc.perform(post("/matriculas/30/reativar"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para matrícula inexistente")
+    void deveRetornar404ParaMatriculaInexistente() throws Exception {
+        // Given
+        when(matriculaService.buscarPorId(99L)).thenThrow(new ResourceNotFoundException("Matrícula não encontrada com ID: 99"));
+        when(matriculaService.cancelar(99L)).thenThrow(new ResourceNotFoundException("Matrícula não encontrada com ID: 99"));
+
+        // When & Then
+        mockMvc.perform(get("/matriculas/99"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/matriculas/99/cancelar"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 405 com os métodos suportados no cabeçalho Allow")
+    void deveRetornar405ComAllow() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/matriculas/30/cancelar"))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(header().string(HttpHeaders.ALLOW, "POST"))
+                .andExpect(jsonPath("$.status").value(405));
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.akdemia.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.akdemia.api.dto.PlanoDTO;
+import br.com.akdemia.api.dto.PlanoPopularidadeDTO;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.service.PlanoService;
+
+@WebMvcTest(PlanoController.class)
+@DisplayName("Testes do PlanoController")
+class PlanoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PlanoService planoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private PlanoDTO planoDTO;
+
+    @BeforeEach
+    void setUp() {
+        planoDTO = new PlanoDTO();
+        planoDTO.setId(1L);
+        planoDTO.setNome("Mensal");
+        planoDTO.setValor(new BigDecimal("99.90"));
+        planoDTO.setDuracaoDias(30);
+        planoDTO.setAtivo(true);
+    }
+
+    @Test
+    @DisplayName("Deve listar os planos por faixa de valor")
+    void deveBuscarPorFaixaDeValor() throws Exception {
+        // Given
+        when(planoService.buscarPorFaixaDeValor(new BigDecimal("50"), new BigDecimal("100")))
+                .thenReturn(List.of(planoDTO));
+
+        // When & Then
+        mockMvc.perform(get("/planos/valor").param("min", "50").param("max", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].valor").value(99.90));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para faixa de duração com mínimo maior que o máximo")
+    void deveRetornar400ParaFaixaInvalida() throws Exception {
+        // Given
+        when(planoService.buscarPorFaixaDeDuracao(90, 30))
+                .thenThrow(new BusinessException("Duração mínima não pode ser maior que a duração máxima"));
+
+        // When & Then
+        mockMvc.perform(get("/planos/duracao").param("min", "90").param("max", "30"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve listar o ranking de popularidade na janela informada")
+    void deveListarPopulares() throws Exception {
+        // Given
+        when(planoService.listarPopulares(30)).thenReturn(List.of(new PlanoPopularidadeDTO(planoDTO, 12)));
+
+        // When & Then
+        mockMvc.perform(get("/planos/populares").param("dias", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].plano.id").value(1))
+                .andExpect(jsonPath("$[0].matriculas").value(12));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para plano inexistente ou inativo")
+    void deveRetornar404ParaPlanoInexistente() throws Exception {
+        // Given
+        when(planoService.buscarPorId(99L)).thenThrow(new ResourceNotFoundException("Plano ativo não encontrado com ID: 99"));
+
+        // When & Then
+        mockMvc.perform(get("/planos/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve criar plano válido e rejeitar plano sem valor")
+    void deveCriarPlano() throws Exception {
+        // Given
+        when(planoService.criar(any(PlanoDTO.class))).thenReturn(planoDTO);
+        PlanoDTO semValor = new PlanoDTO();
+        semValor.setNome("Sem valor");
+        semValor.setDuracaoDias(30);
+
+        // When & Then
+        mockMvc.perform(post("/planos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(planoDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1));
+        mockMvc.perform(post("/planos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(semValor)))
+                .andExpect(status().isBadRequest());
+        verify(planoService, never()).criar(semValor);
+    }
+}
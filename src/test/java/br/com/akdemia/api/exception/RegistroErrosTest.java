@@ -0,0 +1,59 @@
+package br.com.akdemia.api.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Testes do RegistroErros")
+class RegistroErrosTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve limitar o log por tipo de exceção e contar todas as ocorrências")
+    void deveLimitarLogPorTipoEContarTodas() {
+        // Given
+        RegistroErros registroErros = new RegistroErros(meterRegistry, 2, Duration.ofHours(1));
+        ResourceNotFoundException naoEncontrado = new ResourceNotFoundException("Aluno não encontrado");
+
+        // When
+        long primeira = registroErros.registrar(naoEncontrado, HttpStatus.NOT_FOUND);
+        long segunda = registroErros.registrar(naoEncontrado, HttpStatus.NOT_FOUND);
+        long terceira = registroErros.registrar(naoEncontrado, HttpStatus.NOT_FOUND);
+        long outroTipo = registroErros.registrar(new BusinessException("Email já cadastrado"), HttpStatus.BAD_REQUEST);
+
+        // Then
+        assertThat(primeira).isZero();
+        assertThat(segunda).isZero();
+        assertThat(terceira).isEqualTo(RegistroErros.OMITIR);
+        assertThat(outroTipo).isZero();
+        assertThat(meterRegistry.get("akdemia.erros")
+                .tag("excecao", "ResourceNotFoundException")
+                .tag("status", "404")
+                .counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve informar as ocorrências omitidas no primeiro log do intervalo seguinte")
+    void deveInformarOcorrenciasOmitidasNoIntervaloSeguinte() throws Exception {
+        // Given
+        RegistroErros registroErros = new RegistroErros(meterRegistry, 1, Duration.ofMillis(50));
+        ResourceNotFoundException naoEncontrado = new ResourceNotFoundException("Aluno não encontrado");
+        registroErros.registrar(naoEncontrado, HttpStatus.NOT_FOUND);
+        registroErros.registrar(naoEncontrado, HttpStatus.NOT_FOUND);
+        registroErros.registrar(naoEncontrado, HttpStatus.NOT_FOUND);
+
+        // When
+        Thread.sleep(60);
+        long aposIntervalo = registroErros.registrar(naoEncontrado, HttpStatus.NOT_FOUND);
+
+        // Then
+        assertThat(aposIntervalo).isEqualTo(2);
+    }
+}
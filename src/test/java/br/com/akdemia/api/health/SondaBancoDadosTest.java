@@ -0,0 +1,94 @@
+package br.com.akdemia.api.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+@DisplayName("Testes da SondaBancoDados")
+class SondaBancoDadosTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final CountDownLatch liberarBanco = new CountDownLatch(1);
+    private SondaBancoDados sonda;
+
+    @AfterEach
+    void tearDown() {
+        liberarBanco.countDown();
+        sonda.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o resultado em cache dentro da validade")
+    void deveReutilizarResultadoEmCache() throws Exception {
+        // Given
+        Connection conexao = mock(Connection.class);
+        when(conexao.isValid(anyInt())).thenReturn(true);
+        when(dataSource.getConnection()).thenReturn(conexao);
+        sonda = new SondaBancoDados(dataSource, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        // When
+        Health primeira = sonda.verificar();
+        Health segunda = sonda.verificar();
+
+        // Then
+        assertThat(primeira.getStatus()).isEqualTo(Status.UP);
+        assertThat(segunda).isSameAs(primeira);
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve reportar DOWN no tempo limite, sem iniciar outra verificação enquanto a anterior aguarda")
+    void deveReportarDownNoTempoLimite() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenAnswer(invocacao -> {
+            liberarBanco.await();
+            throw new SQLException("Pool esgotado");
+        });
+        sonda = new SondaBancoDados(dataSource, Duration.ofMillis(100), Duration.ZERO);
+
+        // When
+        long inicio = System.nanoTime();
+        Health primeira = sonda.verificar();
+        Health segunda = sonda.verificar();
+        long decorridoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        // Then
+        assertThat(primeira.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(primeira.getDetails()).containsEntry("erro", "Sem resposta em 100 ms");
+        assertThat(segunda.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(segunda.getDetails()).containsEntry("erro", "Verificação anterior ainda aguarda o banco");
+        assertThat(decorridoMs).isLessThan(1000);
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve reportar DOWN quando a conexão falha")
+    void deveReportarDownQuandoConexaoFalha() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("Conexão recusada"));
+        sonda = new SondaBancoDados(dataSource, Duration.ofSeconds(1), Duration.ZERO);
+
+        // When
+        Health health = sonda.verificar();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails().get("error").toString()).contains("Conexão recusada");
+    }
+}
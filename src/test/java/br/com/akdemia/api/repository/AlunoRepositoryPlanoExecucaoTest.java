@@ -0,0 +1,292 @@
+package br.com.akdemia.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import br.com.akdemia.api.enums.TipoUsuario;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.akdemia.api.repository.AlunoRepositoryPlanoExecucaoTest$ColetorSql")
+@DisplayName("Planos de execução do AlunoRepository")
+class AlunoRepositoryPlanoExecucaoTest {
+
+    /**
+     * Métodos que leem todos os alunos por definição, com a justificativa.
+     */
+    private static final Map<String, String> VARREDURAS_PERMITIDAS = Map.of(
+            "countAlunosPorTipoEStatus", "agrega todos os alunos; usado só na carga e reconciliação dos contadores");
+
+    /**
+     * Acesso a tb_alunos sem condição de índice: `tableScan` ou índice percorrido por inteiro.
+     */
+    private static final Pattern ACESSO_SEM_CONDICAO = Pattern.compile(
+            "\"PUBLIC\"\\.\"TB_ALUNOS\"(?: \"\\w+\")?\\s*/\\* PUBLIC\\.[\\w.]+ \\*/(?!\\s*/\\* direct lookup \\*/)");
+
+    private static final String LEITURA_POR_STATUS =
+            "lê todos os alunos ativos (ou inativos) por definição; o índice só separa os dois grupos";
+    private static final String BUSCA_POR_SUBSTRING =
+            "LIKE '%termo%' não usa índice B-tree; alternativa ao índice de trigramas em memória, "
+            + "usada quando ele não está pronto ou excede o máximo de resultados";
+
+    /**
+     * Métodos servidos apenas pela condição em uma coluna de baixa cardinalidade, com a justificativa.
+     */
+    private static final Map<String, String> INDICE_POUCO_SELETIVO_PERMITIDO = Map.ofEntries(
+            Map.entry("findByAtivoTrue", LEITURA_POR_STATUS),
+            Map.entry("findByAtivoFalse", LEITURA_POR_STATUS),
+            Map.entry("countByAtivoTrue", LEITURA_POR_STATUS),
+            Map.entry("countAlunosInativos", LEITURA_POR_STATUS),
+            Map.entry("countAlunosAtivosPorTipo", LEITURA_POR_STATUS),
+            Map.entry("findAlunosSemMatricula", LEITURA_POR_STATUS + "; a condição está nas matrículas"),
+            Map.entry("findByFiltros", "sem termo pagina todos os ativos; com termo, " + BUSCA_POR_SUBSTRING),
+            Map.entry("findSliceByFiltros", "sem termo pagina todos os ativos; com termo, " + BUSCA_POR_SUBSTRING),
+            Map.entry("findByNomeBuscaContainingAndAtivoTrueOrderByIdAsc", BUSCA_POR_SUBSTRING),
+            Map.entry("findByNomeContainingIgnoreCaseAndAtivoTrue",
+                    "LIKE '%termo%' sem índice B-tree aplicável; sem uso na aplicação, que busca pelo índice de trigramas"));
+
+    /**
+     * Colunas com poucos valores distintos: uma condição só nelas percorre boa parte do índice.
+     */
+    private static final Set<String> COLUNAS_BAIXA_CARDINALIDADE = Set.of("ATIVO");
+
+    /**
+     * Acesso a tb_alunos por índice com condição; o grupo 1 é a condição.
+     */
+    private static final Pattern ACESSO_COM_CONDICAO = Pattern.compile(
+            "\"PUBLIC\"\\.\"TB_ALUNOS\"(?: \"\\w+\")?\\s*/\\* PUBLIC\\.[\\w.]+: (.+?)\\s*\\*/", Pattern.DOTALL);
+
+    private static final Pattern COLUNA_DO_TERMO = Pattern.compile("^\"?(\\w+)\"?");
+
+    /**
+     * Amostra carregada antes do EXPLAIN: com poucas linhas o H2 estima o mesmo custo para
+     * qualquer índice, e o plano escolhido não seria o de produção.
+     */
+    private static final int ALUNOS_AMOSTRA = 5_000;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Nenhuma consulta do AlunoRepository deve varrer a tabela de alunos")
+    void nenhumaConsultaDeveVarrerATabela() throws Exception {
+        carregarAmostra();
+        List<String> varreduras = new ArrayList<>();
+        List<String> poucoSeletivas = new ArrayList<>();
+
+        for (Method metodo : metodosDeConsulta()) {
+            ColetorSql.SQLS.clear();
+            metodo.invoke(alunoRepository, argumentos(metodo));
+            entityManager.flush();
+            entityManager.clear();
+
+            assertThat(ColetorSql.SQLS).as("SQL gerado por %s", metodo.getName()).isNotEmpty();
+            if (VARREDURAS_PERMITIDAS.containsKey(metodo.getName())) {
+                continue;
+            }
+            for (String sql : ColetorSql.SQLS) {
+                String plano = explicar(sql);
+                if (varreTabelaDeAlunos(plano)) {
+                    varreduras.add(metodo.getName() + ":\n" + plano);
+                } else if (usaIndicePoucoSeletivo(plano)
+                        && !INDICE_POUCO_SELETIVO_PERMITIDO.containsKey(metodo.getName())) {
+                    poucoSeletivas.add(metodo.getName() + ":\n" + plano);
+                }
+            }
+        }
+
+        assertThat(varreduras)
+                .as("Consultas sem índice em tb_alunos (crie um índice ou justifique em VARREDURAS_PERMITIDAS)")
+                .isEmpty();
+        assertThat(poucoSeletivas)
+                .as("Consultas com condição de índice apenas em colunas de baixa cardinalidade "
+                        + "(crie um índice ou justifique em INDICE_POUCO_SELETIVO_PERMITIDO)")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve detectar varredura de tabela e de índice sem condição")
+    void deveDetectarVarreduras() throws SQLException {
+        assertThat(varreTabelaDeAlunos(explicar("SELECT * FROM tb_alunos WHERE telefone = ?"))).isTrue();
+        assertThat(varreTabelaDeAlunos(explicar("SELECT * FROM tb_alunos ORDER BY nome_busca"))).isTrue();
+        assertThat(varreTabelaDeAlunos(explicar("SELECT * FROM tb_alunos WHERE email = ?"))).isFalse();
+        assertThat(varreTabelaDeAlunos(explicar("SELECT COUNT(*) FROM tb_alunos"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve detectar condição de índice apenas em coluna de baixa cardinalidade")
+    void deveDetectarIndicePoucoSeletivo() throws SQLException {
+        carregarAmostra();
+
+        assertThat(usaIndicePoucoSeletivo(explicar("SELECT * FROM tb_alunos WHERE ativo = TRUE"))).isTrue();
+        assertThat(usaIndicePoucoSeletivo(explicar(
+                "SELECT * FROM tb_alunos WHERE ativo = TRUE AND telefone = ?"))).isTrue();
+        assertThat(usaIndicePoucoSeletivo(explicar(
+                "SELECT * FROM tb_alunos WHERE ativo = TRUE AND id > ? ORDER BY id"))).isFalse();
+        assertThat(usaIndicePoucoSeletivo(explicar("SELECT * FROM tb_alunos WHERE email = ?"))).isFalse();
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Métodos declarados em AlunoRepository (consultas derivadas e @Query), em ordem estável.
+     */
+    private static List<Method> metodosDeConsulta() {
+        return Arrays.stream(AlunoRepository.class.getDeclaredMethods())
+                .filter(metodo -> !metodo.isDefault() && !Modifier.isStatic(metodo.getModifiers()))
+                .sorted(Comparator.comparing(Method::toGenericString))
+                .toList();
+    }
+
+    /**
+     * Valores de exemplo para cada parâmetro; o plano do H2 não depende dos valores.
+     */
+    private static Object[] argumentos(Method metodo) {
+        Type[] tipos = metodo.getGenericParameterTypes();
+        Object[] argumentos = new Object[tipos.length];
+        for (int i = 0; i < tipos.length; i++) {
+            argumentos[i] = argumento(tipos[i]);
+        }
+        return argumentos;
+    }
+
+    private static Object argumento(Type tipo) {
+        if (tipo instanceof ParameterizedType parametrizado
+                && Collection.class.isAssignableFrom((Class<?>) parametrizado.getRawType())) {
+            return List.of(argumento(parametrizado.getActualTypeArguments()[0]));
+        }
+
+        Class<?> classe = (Class<?>) tipo;
+        if (classe == Long.class || classe == long.class) {
+            return 1L;
+        }
+        if (classe == String.class) {
+            return "joao";
+        }
+        if (classe == Boolean.class || classe == boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (classe == TipoUsuario.class) {
+            return TipoUsuario.ALUNO;
+        }
+        if (classe == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (classe == Pageable.class) {
+            return PageRequest.of(1, 10);
+        }
+        if (classe == Limit.class) {
+            return Limit.of(10);
+        }
+        throw new IllegalArgumentException("Tipo de parâmetro sem valor de exemplo: " + tipo);
+    }
+
+    private static boolean varreTabelaDeAlunos(String plano) {
+        return ACESSO_SEM_CONDICAO.matcher(plano).find();
+    }
+
+    /**
+     * @return true se algum acesso a tb_alunos tem condição de índice apenas em colunas de baixa cardinalidade
+     */
+    private static boolean usaIndicePoucoSeletivo(String plano) {
+        Matcher acesso = ACESSO_COM_CONDICAO.matcher(plano);
+        while (acesso.find()) {
+            boolean poucoSeletivo = Arrays.stream(acesso.group(1).split("\\s+AND\\s+"))
+                    .map(termo -> COLUNA_DO_TERMO.matcher(termo.strip()))
+                    .allMatch(coluna -> coluna.find() && COLUNAS_BAIXA_CARDINALIDADE.contains(coluna.group(1)));
+            if (poucoSeletivo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Insere {@value #ALUNOS_AMOSTRA} alunos (10% inativos, tipos alternados) e atualiza as estatísticas
+     * usadas pelo otimizador. O ANALYZE confirma a transação: a amostra fica no banco deste contexto.
+     */
+    private void carregarAmostra() throws SQLException {
+        Connection conexao = DataSourceUtils.getConnection(dataSource);
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("""
+                    INSERT INTO tb_alunos (id, nome, nome_busca, email, cpf, telefone, tipo, numero_matricula,
+                                           ativo, data_cadastro)
+                    SELECT 100000 + X, 'Aluno ' || X, 'aluno ' || X, 'amostra' || X || '@email.com',
+                           CAST(20000000000 + X AS VARCHAR), '11999990000',
+                           CASE MOD(X, 3) WHEN 0 THEN 'ALUNO' WHEN 1 THEN 'INSTRUTOR' ELSE 'ADMINISTRADOR' END,
+                           'AMO' || X, MOD(X, 10) <> 0, DATEADD(MINUTE, -X, CURRENT_TIMESTAMP)
+                    FROM SYSTEM_RANGE(1, %d)
+                    WHERE NOT EXISTS (SELECT 1 FROM tb_alunos WHERE email = 'amostra1@email.com')
+                    """.formatted(ALUNOS_AMOSTRA));
+            comando.execute("ANALYZE TABLE tb_alunos");
+        } finally {
+            DataSourceUtils.releaseConnection(conexao, dataSource);
+        }
+    }
+
+    /**
+     * Executa EXPLAIN sobre o SQL gerado (parâmetros não são necessários para o plano).
+     */
+    private String explicar(String sql) throws SQLException {
+        Connection conexao = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement comando = conexao.prepareStatement("EXPLAIN " + sql);
+             ResultSet resultado = comando.executeQuery()) {
+            resultado.next();
+            return resultado.getString(1);
+        } finally {
+            DataSourceUtils.releaseConnection(conexao, dataSource);
+        }
+    }
+
+    /**
+     * Registra os comandos SQL preparados pelo Hibernate.
+     */
+    public static class ColetorSql implements StatementInspector {
+
+        static final List<String> SQLS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQLS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.akdemia.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.mapper.AlunoMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(AlunoMapper.class)
+@DisplayName("Testes do AlunoRepository")
+class AlunoRepositoryTest {
+
+    private static final String EMAIL_COM_MATRICULA = "joao.silva@email.com";
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private AlunoMapper alunoMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void setUp() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        estatisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Deve montar o detalhe do aluno com um único comando SQL")
+    void deveMontarDetalheDoAlunoComUmUnicoComandoSql() {
+        List<Object[]> linhas = alunoRepository.findDetalheByEmail(EMAIL_COM_MATRICULA);
+        AlunoDTO aluno = alunoMapper.toDTODetalhe(linhas.get(0));
+
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(aluno.getEmail()).isEqualTo(EMAIL_COM_MATRICULA);
+        assertThat(aluno.getMatriculasIds()).hasSize(1);
+        assertThat(aluno.getTreinosIds()).isEmpty();
+        assertThat(aluno.getAvaliacoesIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve consultar apenas a versão do aluno, atualizada ao desativar")
+    void deveConsultarVersaoAtualizadaAoDesativar() {
+        Aluno aluno = alunoRepository.findByEmail(EMAIL_COM_MATRICULA).orElseThrow();
+        LocalDateTime desativacao = LocalDateTime.of(2030, 1, 29, 10, 30, 15, 123456000);
+        entityManager.clear();
+
+        alunoRepository.desativarAluno(aluno.getId(), desativacao);
+
+        assertThat(alunoRepository.findVersaoById(aluno.getId())).contains(desativacao);
+        assertThat(alunoRepository.findVersaoById(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar os mesmos IDs de relacionamentos que o carregamento LAZY")
+    void deveRetornarMesmosIdsQueCarregamentoLazy() {
+        Aluno aluno = alunoRepository.findByEmail(EMAIL_COM_MATRICULA).orElseThrow();
+        AlunoDTO esperado = alunoMapper.toDTO(aluno);
+        entityManager.clear();
+
+        AlunoDTO detalhe = alunoMapper.toDTODetalhe(alunoRepository.findDetalheById(aluno.getId()).get(0));
+
+        assertThat(detalhe).isEqualTo(esperado);
+    }
+
+    @Test
+    @DisplayName("Deve paginar por fatia sem consulta de contagem")
+    void devePaginarPorFatiaSemConsultaDeContagem() {
+        Slice<Aluno> fatia = alunoRepository.findSliceByFiltros(null, null, PageRequest.of(0, 2, Sort.by("id")));
+
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(fatia.getContent()).hasSize(2);
+        assertThat(fatia.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor a partir do último ID")
+    void devePaginarPorCursorAPartirDoUltimoId() {
+        List<Aluno> primeira = alunoRepository.findAposIdByFiltros(null, null, 0L, Limit.of(2));
+        List<Aluno> segunda = alunoRepository.findAposIdByFiltros(null, null, primeira.get(1).getId(), Limit.of(2));
+
+        assertThat(primeira).hasSize(2);
+        assertThat(segunda).isNotEmpty();
+        assertThat(segunda.get(0).getId()).isGreaterThan(primeira.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia quando o aluno não existir")
+    void deveRetornarListaVaziaQuandoAlunoNaoExistir() {
+        assertThat(alunoRepository.findDetalheByCpf("00000000000")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar uma linha por aluno ativo em conflito de email, CPF ou matrícula")
+    void deveEncontrarConflitosDeUnicidade() {
+        // Given - dados de exemplo: João (email, CPF 11999999999, matrícula 1) e Maria (CPF 11888888888, matrícula 2)
+        Aluno joao = alunoRepository.findByEmail(EMAIL_COM_MATRICULA).orElseThrow();
+
+        // When
+        List<Object[]> conflitos = alunoRepository.findConflitosUnicidade(EMAIL_COM_MATRICULA, "11888888888", "2", null);
+
+        // Then
+        assertThat(conflitos).extracting(linha -> linha[0])
+                .containsExactlyInAnyOrder(EMAIL_COM_MATRICULA, "maria.santos@email.com");
+        assertThat(alunoRepository.findConflitosUnicidade(EMAIL_COM_MATRICULA, "11999999999", null, joao.getId()))
+                .isEmpty();
+        assertThat(alunoRepository.findConflitosUnicidade(null, null, "1", null))
+                .singleElement().satisfies(linha -> assertThat(linha).containsExactly(EMAIL_COM_MATRICULA, "11999999999", "1"));
+        assertThat(alunoRepository.findConflitosUnicidade(null, null, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve considerar alunos inativos como conflito")
+    void naoDeveConsiderarInativosComoConflito() {
+        // Given
+        Aluno joao = alunoRepository.findByEmail(EMAIL_COM_MATRICULA).orElseThrow();
+        alunoRepository.desativarAluno(joao.getId(), LocalDateTime.now());
+
+        // Then
+        assertThat(alunoRepository.findConflitosUnicidade(EMAIL_COM_MATRICULA, "11999999999", "1", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve buscar o aluno com lock pessimista de escrita")
+    void deveBuscarAlunoComLockPessimista() {
+        // Given
+        Long id = alunoRepository.findByEmail(EMAIL_COM_MATRICULA).orElseThrow().getId();
+        entityManager.clear();
+
+        // When
+        Aluno aluno = alunoRepository.findParaAtualizacaoById(id).orElseThrow();
+
+        // Then
+        assertThat(entityManager.getEntityManager().getLockMode(aluno)).isEqualTo(LockModeType.PESSIMISTIC_WRITE);
+        assertThat(alunoRepository.findParaAtualizacaoById(-1L)).isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.akdemia.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.akdemia.api.dto.MatriculaResumoDTO;
+import br.com.akdemia.api.dto.ResultadoExpiracaoDTO;
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.entity.Matricula;
+import br.com.akdemia.api.entity.Plano;
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.service.ExpiracaoMatriculas;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Testes do MatriculaRepository")
+class MatriculaRepositoryTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Aluno aluno;
+    private Plano plano;
+
+    @BeforeEach
+    void setUp() {
+        aluno = alunoRepository.findByEmail("maria.santos@email.com").orElseThrow();
+        plano = planoRepository.findAll().get(0);
+    }
+
+    @Test
+    @DisplayName("Deve expirar em lotes, com um UPDATE por lote, apenas matrículas ativas com data de fim passada")
+    void deveExpirarEmLotes() {
+        // Given - além da matrícula vencida dos dados de exemplo
+        for (int i = 0; i < 4; i++) {
+            persistir(StatusMatricula.ATIVA, HOJE.minusDays(i + 1));
+        }
+        Long vigente = persistir(StatusMatricula.ATIVA, HOJE);
+        Long suspensa = persistir(StatusMatricula.SUSPENSA, HOJE.minusDays(10));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+        @SuppressWarnings("unchecked")
+        ExpiracaoMatriculas expiracao = new ExpiracaoMatriculas(matriculaRepository,
+                new TransactionTemplate(transactionManager), 2, mock(ObjectProvider.class));
+
+        // When
+        ResultadoExpiracaoDTO resultado = expiracao.processar(HOJE);
+
+        // Then - lotes de 2, 2 e 1; sem carregar entidades
+        assertThat(resultado.processadas()).isEqualTo(5);
+        assertThat(resultado.lotes()).isEqualTo(3);
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(6);
+        entityManager.clear();
+        assertThat(matriculaRepository.findById(vigente).orElseThrow().getStatus()).isEqualTo(StatusMatricula.ATIVA);
+        assertThat(matriculaRepository.findById(suspensa).orElseThrow().getStatus()).isEqualTo(StatusMatricula.SUSPENSA);
+        assertThat(matriculaRepository.findIdsPorStatusComDataFimAntesDe(StatusMatricula.VENCIDA, HOJE,
+                PageRequest.ofSize(10))).hasSize(5);
+        assertThat(expiracao.processar(HOJE).processadas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve buscar a matrícula ativa mais recente de cada aluno em uma consulta, sem carregar entidades")
+    void deveBuscarUltimasAtivasPorAlunos() {
+        // Given - além da matrícula ativa de João dos dados de exemplo
+        Long joao = alunoRepository.findByEmail("joao.silva@email.com").orElseThrow().getId();
+        Long jose = alunoRepository.findByEmail("jose.moreira@email.com").orElseThrow().getId();
+        Long maisAntiga = persistir(StatusMatricula.ATIVA, HOJE.minusDays(60), HOJE);
+        Long empateAnterior = persistir(StatusMatricula.ATIVA, HOJE.minusDays(30), HOJE.plusDays(10));
+        Long maisRecente = persistir(StatusMatricula.ATIVA, HOJE.minusDays(30), HOJE.plusDays(30));
+        Long cancelada = persistir(StatusMatricula.CANCELADA, HOJE.minusDays(5), HOJE.plusDays(60));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        // When
+        List<MatriculaResumoDTO> ultimas = matriculaRepository.findUltimasPorAlunosEStatus(
+                List.of(joao, aluno.getId(), jose), StatusMatricula.ATIVA);
+
+        // Then - uma por aluno com matrícula ativa; no empate da data de início, o maior ID
+        assertThat(ultimas).extracting(MatriculaResumoDTO::alunoId).containsExactly(joao, aluno.getId());
+        assertThat(ultimas).extracting(MatriculaResumoDTO::id).doesNotContain(maisAntiga, empateAnterior, cancelada);
+        MatriculaResumoDTO maria = ultimas.get(1);
+        assertThat(maria.id()).isEqualTo(maisRecente);
+        assertThat(maria.planoId()).isEqualTo(plano.getId());
+        assertThat(maria.dataFim()).isEqualTo(HOJE.plusDays(30));
+        assertThat(maria.vigenteEm(HOJE)).isTrue();
+        assertThat(maria.vigenteEm(HOJE.plusDays(31))).isFalse();
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+    }
+
+    private Long persistir(StatusMatricula status, LocalDate dataFim) {
+        return persistir(status, dataFim.minusDays(30), dataFim);
+    }
+
+    private Long persistir(StatusMatricula status, LocalDate dataInicio, LocalDate dataFim) {
+        Matricula matricula = new Matricula();
+        matricula.setAluno(aluno);
+        matricula.setPlano(plano);
+        matricula.setDataInicio(dataInicio);
+        matricula.setDataFim(dataFim);
+        matricula.setStatus(status);
+        return entityManager.persist(matricula).getId();
+    }
+}
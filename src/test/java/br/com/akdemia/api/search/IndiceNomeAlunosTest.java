@@ -0,0 +1,191 @@
+package br.com.akdemia.api.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.enums.OperacaoAluno;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.repository.AlunoRepository;
+
+@DisplayName("Testes do IndiceNomeAlunos")
+class IndiceNomeAlunosTest {
+
+    private final AlunoRepository alunoRepository = mock(AlunoRepository.class);
+
+    @Test
+    @DisplayName("Deve retornar vazio enquanto o índice não foi carregado")
+    void deveRetornarVazioAntesDaCarga() {
+        // Given
+        IndiceNomeAlunos indice = new IndiceNomeAlunos(alunoRepository, 10);
+
+        // Then
+        assertThat(indice.isPronto()).isFalse();
+        assertThat(indice.buscar("silva")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve intersectar os trigramas do termo e retornar os IDs em ordem")
+    void deveBuscarPorTrigramas() {
+        // Given
+        IndiceNomeAlunos indice = carregado(10,
+                linha(3L, "ana silva"), linha(1L, "joao silva"), linha(2L, "silvana costa"), linha(4L, "maria souza"));
+
+        // Then
+        assertThat(indice.buscar("silva")).contains(List.of(1L, 2L, 3L));
+        assertThat(indice.buscar("ana")).contains(List.of(2L, 3L));
+        assertThat(indice.buscar("souza")).contains(List.of(4L));
+        assertThat(indice.buscar("xyz")).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve descartar candidatos com todos os trigramas fora da sequência do termo")
+    void deveConfirmarCandidatoNoNome() {
+        // Given - "nana" contém "nan" e "ana", mas não "anan"
+        IndiceNomeAlunos indice = carregado(10, linha(1L, "nana"), linha(2L, "anand"));
+
+        // Then
+        assertThat(indice.buscar("anan")).contains(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Deve resolver termos menores que um trigrama por varredura")
+    void deveBuscarTermosCurtos() {
+        // Given
+        IndiceNomeAlunos indice = carregado(10, linha(1L, "li wei"), linha(2L, "ana lima"), linha(3L, "bo"));
+
+        // Then
+        assertThat(indice.buscar("li")).contains(List.of(1L, 2L));
+        assertThat(indice.buscar("o")).contains(List.of(3L));
+        assertThat(indice.buscar("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o termo excede o máximo de resultados")
+    void deveRetornarVazioAcimaDoMaximo() {
+        // Given
+        IndiceNomeAlunos indice = carregado(2, linha(1L, "ana silva"), linha(2L, "bia silva"), linha(3L, "caio silva"));
+
+        // Then - o chamador deve consultar o banco
+        assertThat(indice.buscar("silva")).isEmpty();
+        assertThat(indice.buscar("si")).isEmpty();
+        assertThat(indice.buscar("caio")).contains(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Deve indexar, reindexar e remover alunos")
+    void deveIndexarERemover() {
+        // Given
+        IndiceNomeAlunos indice = carregado(10, linha(1L, "ana silva"));
+
+        // When
+        indice.indexar(2L, "bruno silva");
+        indice.indexar(1L, "ana souza");
+
+        // Then
+        assertThat(indice.buscar("silva")).contains(List.of(2L));
+        assertThat(indice.buscar("souza")).contains(List.of(1L));
+
+        // When
+        indice.remover(2L);
+
+        // Then
+        assertThat(indice.buscar("silva")).contains(List.of());
+        assertThat(indice.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve remover o aluno desativado e reindexar o nome atualizado")
+    void deveAplicarEventos() {
+        // Given
+        IndiceNomeAlunos indice = carregado(10, linha(1L, "ana silva"), linha(2L, "bia silva"));
+
+        // When
+        indice.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.DESATIVADO, aluno(1L, "Ana Silva", false),
+                TipoUsuario.ALUNO, true));
+        indice.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.ATUALIZADO, aluno(2L, "Bia Sílva Souza", true),
+                TipoUsuario.ALUNO, true));
+
+        // Then
+        assertThat(indice.buscar("silva")).contains(List.of(2L));
+        assertThat(indice.buscar("souza")).contains(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Deve preservar alterações recebidas durante a carga")
+    void devePreservarAlteracoesDuranteCarga() {
+        // Given - a carga lê o estado anterior de 1 e 2, alterados por eventos durante a leitura
+        IndiceNomeAlunos indice = new IndiceNomeAlunos(alunoRepository, 10);
+        when(alunoRepository.findNomesBuscaAtivos(eq(0L), any(Limit.class))).thenAnswer(invocacao -> {
+            indice.indexar(1L, "ana souza");
+            indice.remover(2L);
+            return List.of(linha(1L, "ana silva"), linha(2L, "bia silva"), linha(3L, "caio silva"));
+        });
+
+        // When
+        indice.carregar();
+
+        // Then
+        assertThat(indice.isPronto()).isTrue();
+        assertThat(indice.buscar("silva")).contains(List.of(3L));
+        assertThat(indice.buscar("souza")).contains(List.of(1L));
+        assertThat(indice.tamanho()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice indisponível quando a leitura falha no meio da carga")
+    void deveManterIndisponivelAposFalhaNaCarga() {
+        // Given - o primeiro lote vem completo e a leitura do segundo falha uma vez
+        IndiceNomeAlunos indice = new IndiceNomeAlunos(alunoRepository, 10);
+        List<Object[]> primeiroLote = LongStream.rangeClosed(1, 5_000).mapToObj(id -> linha(id, "aluno " + id)).toList();
+        when(alunoRepository.findNomesBuscaAtivos(eq(0L), any(Limit.class))).thenReturn(primeiroLote);
+        when(alunoRepository.findNomesBuscaAtivos(eq(5_000L), any(Limit.class)))
+                .thenThrow(new QueryTimeoutException("Tempo de consulta esgotado"))
+                .thenReturn(List.of());
+
+        // When
+        indice.carregar();
+
+        // Then - o índice parcial não responde; a busca segue pelo banco
+        assertThat(indice.isPronto()).isFalse();
+        assertThat(indice.buscar("aluno 4999")).isEmpty();
+
+        // When - a próxima carga completa
+        indice.carregar();
+
+        // Then
+        assertThat(indice.isPronto()).isTrue();
+        assertThat(indice.buscar("aluno 4999")).contains(List.of(4999L));
+    }
+
+    private IndiceNomeAlunos carregado(int maximoResultados, Object[]... linhas) {
+        IndiceNomeAlunos indice = new IndiceNomeAlunos(alunoRepository, maximoResultados);
+        when(alunoRepository.findNomesBuscaAtivos(eq(0L), any(Limit.class))).thenReturn(List.of(linhas));
+        indice.carregar();
+        return indice;
+    }
+
+    private static Object[] linha(Long id, String nomeBusca) {
+        return new Object[] {id, nomeBusca};
+    }
+
+    private static AlunoDTO aluno(Long id, String nome, boolean ativo) {
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setId(id);
+        aluno.setNome(nome);
+        aluno.setAtivo(ativo);
+        return aluno;
+    }
+}
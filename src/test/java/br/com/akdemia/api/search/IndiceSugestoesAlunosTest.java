@@ -0,0 +1,151 @@
+package br.com.akdemia.api.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.AlunoSugestaoDTO;
+import br.com.akdemia.api.enums.OperacaoAluno;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.repository.AlunoRepository;
+
+@DisplayName("Testes do IndiceSugestoesAlunos")
+class IndiceSugestoesAlunosTest {
+
+    private final AlunoRepository alunoRepository = mock(AlunoRepository.class);
+    private final IndiceSugestoesAlunos indice = new IndiceSugestoesAlunos(alunoRepository);
+
+    @Test
+    @DisplayName("Deve retornar vazio enquanto o índice não foi carregado")
+    void deveRetornarVazioAntesDaCarga() {
+        assertThat(indice.isPronto()).isFalse();
+        assertThat(indice.sugerir("ana", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por nome, depois matrícula, depois demais palavras do nome")
+    void deveOrdenarPeloRanking() {
+        // Given
+        carregar(linha(1L, "Carlos Silva", "AKD001"),
+                linha(2L, "Silvia Souza", "AKD002"),
+                linha(3L, "Ana Silva", "SIL003"),
+                linha(4L, "Silva Neto", "AKD004"));
+
+        // When
+        List<Long> ids = ids(indice.sugerir("sil", 10).orElseThrow());
+
+        // Then - nomes ("silva neto" < "silvia souza"), matrícula, palavras ("silva" de Ana e de Carlos)
+        assertThat(ids).containsExactly(4L, 2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer apenas a faixa do prefixo, sem acentos e sem diferenciar maiúsculas")
+    void deveBuscarPelaFaixaDoPrefixo() {
+        // Given
+        carregar(linha(1L, "José Lima", "AKD001"),
+                linha(2L, "Josefa Reis", "AKD002"),
+                linha(3L, "Joana Dias", "AKD003"),
+                linha(4L, "Jorge", "AKD004"));
+
+        // Then
+        assertThat(ids(indice.sugerir("jose", 10).orElseThrow())).containsExactly(1L, 2L);
+        assertThat(ids(indice.sugerir("jose ", 10).orElseThrow())).containsExactly(1L);
+        assertThat(ids(indice.sugerir("akd00", 10).orElseThrow())).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(ids(indice.sugerir("jo", 2).orElseThrow())).containsExactly(3L, 4L);
+        assertThat(indice.sugerir("x", 10)).contains(List.of());
+        assertThat(indice.sugerir("", 10)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar as chaves do aluno alterado e remover o desativado")
+    void deveAtualizarIncrementalmente() {
+        // Given
+        carregar(linha(1L, "Ana Silva", "AKD001"), linha(2L, "Bia Costa", "AKD002"));
+
+        // When
+        indice.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.ATUALIZADO, aluno(1L, "Ana Souza", "AKD101", true),
+                TipoUsuario.ALUNO, true));
+        indice.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.DESATIVADO, aluno(2L, "Bia Costa", "AKD002", false),
+                TipoUsuario.ALUNO, true));
+        indice.aoAlterarAluno(AlunoAlteradoEvent.criado(aluno(3L, "Caio Silva", "AKD003", true)));
+
+        // Then - as chaves antigas do aluno 1 não são mais encontradas
+        assertThat(ids(indice.sugerir("silva", 10).orElseThrow())).containsExactly(3L);
+        assertThat(ids(indice.sugerir("souza", 10).orElseThrow())).containsExactly(1L);
+        assertThat(ids(indice.sugerir("akd00", 10).orElseThrow())).containsExactly(3L);
+        assertThat(ids(indice.sugerir("bia", 10).orElseThrow())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve preservar alterações recebidas durante a carga")
+    void devePreservarAlteracoesDuranteCarga() {
+        // Given - a carga lê o estado anterior de 1 e 2, alterados por eventos durante a leitura
+        when(alunoRepository.findSugestoesAtivas(eq(0L), any(Limit.class))).thenAnswer(invocacao -> {
+            indice.indexar(new AlunoSugestaoDTO(1L, "Ana Souza", "AKD001"));
+            indice.remover(2L);
+            return List.of(linha(1L, "Ana Silva", "AKD001"), linha(2L, "Bia Silva", "AKD002"),
+                    linha(3L, "Caio Silva", "AKD003"));
+        });
+
+        // When
+        indice.carregar();
+
+        // Then
+        assertThat(indice.isPronto()).isTrue();
+        assertThat(ids(indice.sugerir("silva", 10).orElseThrow())).containsExactly(3L);
+        assertThat(ids(indice.sugerir("souza", 10).orElseThrow())).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice indisponível quando a leitura falha no meio da carga")
+    void deveManterIndisponivelAposFalhaNaCarga() {
+        // Given - o primeiro lote vem completo e a leitura do segundo falha
+        List<Object[]> primeiroLote = LongStream.rangeClosed(1, 5_000)
+                .mapToObj(id -> linha(id, "Aluno " + id, "AKD" + id))
+                .toList();
+        when(alunoRepository.findSugestoesAtivas(eq(0L), any(Limit.class))).thenReturn(primeiroLote);
+        when(alunoRepository.findSugestoesAtivas(eq(5_000L), any(Limit.class)))
+                .thenThrow(new QueryTimeoutException("Tempo de consulta esgotado"));
+
+        // When
+        indice.carregar();
+
+        // Then - o índice parcial não responde; as sugestões seguem pelo banco
+        assertThat(indice.isPronto()).isFalse();
+        assertThat(indice.sugerir("aluno", 10)).isEmpty();
+    }
+
+    private void carregar(Object[]... linhas) {
+        when(alunoRepository.findSugestoesAtivas(eq(0L), any(Limit.class))).thenReturn(List.of(linhas));
+        indice.carregar();
+    }
+
+    private static List<Long> ids(List<AlunoSugestaoDTO> sugestoes) {
+        return sugestoes.stream().map(AlunoSugestaoDTO::getId).toList();
+    }
+
+    private static Object[] linha(Long id, String nome, String numeroMatricula) {
+        return new Object[] {id, nome, numeroMatricula};
+    }
+
+    private static AlunoDTO aluno(Long id, String nome, String numeroMatricula, boolean ativo) {
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setId(id);
+        aluno.setNome(nome);
+        aluno.setNumeroMatricula(numeroMatricula);
+        aluno.setAtivo(ativo);
+        return aluno;
+    }
+}
@@ -0,0 +1,252 @@
+package br.com.akdemia.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.ImportacaoAlunosDTO;
+import br.com.akdemia.api.dto.ResultadoImportacaoAlunoDTO;
+import br.com.akdemia.api.enums.StatusImportacao;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.mapper.AlunoMapper;
+import br.com.akdemia.api.repository.AlunoRepository;
+
+// Banco próprio: as importações são confirmadas e não devem alterar os dados dos demais testes
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:importacao",
+        "akdemia.alunos.importacao.tamanho-lote=4"
+})
+@DisplayName("Testes do AlunoImportacaoService")
+class AlunoImportacaoServiceTest {
+
+    private static final String INSERT_ALUNOS = "insert into tb_alunos";
+
+    @TestConfiguration
+    static class ContagemInsercoes {
+
+        /**
+         * Conta os comandos de inserção preparados: com JDBC batch, um por lote, e não um por aluno.
+         */
+        @Bean
+        HibernatePropertiesCustomizer inspetorInsercoes() {
+            return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                if (sql.toLowerCase(Locale.ROOT).startsWith(INSERT_ALUNOS)) {
+                    INSERCOES.incrementAndGet();
+                }
+                return sql;
+            });
+        }
+    }
+
+    private static final AtomicInteger INSERCOES = new AtomicInteger();
+    private static final AtomicInteger MATRICULAS = new AtomicInteger();
+
+    @Autowired
+    private AlunoImportacaoService alunoImportacaoService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private AlunoMapper alunoMapper;
+
+    @MockitoBean
+    private GeradorNumeroMatricula geradorNumeroMatricula;
+
+    @BeforeEach
+    void setUp() {
+        when(geradorNumeroMatricula.reservar(anyInt())).thenAnswer(invocacao -> numeros(invocacao.getArgument(0)));
+        INSERCOES.set(0);
+    }
+
+    @Test
+    @DisplayName("Deve importar um array JSON")
+    void deveImportarArrayJson() {
+        // Given
+        String conteudo = "[" + json("json1", "10000000001") + "," + json("json2", "10000000002") + "]";
+
+        // When
+        ImportacaoAlunosDTO relatorio = importar(conteudo, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(relatorio.getTotalRegistros()).isEqualTo(2);
+        assertThat(relatorio.getImportados()).isEqualTo(2);
+        assertThat(relatorio.getResultados()).allSatisfy(resultado -> {
+            assertThat(resultado.getId()).isNotNull();
+            assertThat(resultado.getNumeroMatricula()).startsWith("TST");
+        });
+        assertThat(alunoRepository.findByEmail("json1@importacao.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON e rejeitar apenas o registro com tipo inválido")
+    void deveImportarNdjson() {
+        // Given
+        String conteudo = json("nd1", "10000000011") + "\n"
+                + json("nd2", "10000000012").replace("\"ALUNO\"", "\"INEXISTENTE\"") + "\n"
+                + json("nd3", "10000000013") + "\n";
+
+        // When
+        ImportacaoAlunosDTO relatorio = importar(conteudo, MediaType.APPLICATION_NDJSON);
+
+        // Then
+        assertThat(relatorio.getImportados()).isEqualTo(2);
+        assertThat(status(relatorio)).containsExactly(StatusImportacao.IMPORTADO, StatusImportacao.REJEITADO,
+                StatusImportacao.IMPORTADO);
+        assertThat(relatorio.getResultados().get(1).getMensagem()).startsWith("Registro inválido");
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV com separador ponto e vírgula e validar cada linha")
+    void deveImportarCsv() {
+        // Given
+        String conteudo = "\uFEFFnome;email;cpf;telefone;tipo\n"
+                + "Aluno Csv Um;csv1@importacao.com;10000000021;11999990000;aluno\n"
+                + "\n"
+                + "Aluno Csv Dois;csv2@importacao.com;123;11999990000;instrutor\n"
+                + "Aluno Csv Tres;csv3@importacao.com;10000000023;11999990000;diretor\n"
+                + "Aluno Csv Quatro;csv4@importacao.com;10000000024\n";
+
+        // When
+        ImportacaoAlunosDTO relatorio = importar(conteudo, MediaType.parseMediaType(AlunoImportacaoService.TEXT_CSV_VALUE));
+
+        // Then
+        assertThat(status(relatorio)).containsExactly(StatusImportacao.IMPORTADO, StatusImportacao.REJEITADO,
+                StatusImportacao.REJEITADO, StatusImportacao.REJEITADO);
+        assertThat(relatorio.getResultados()).extracting(ResultadoImportacaoAlunoDTO::getMensagem)
+                .containsExactly(null, "CPF deve conter 11 dígitos", "Tipo de usuário inválido: diretor",
+                        "Quantidade de colunas inválida: esperado 5, encontrado 3");
+        assertThat(alunoRepository.findByEmail("csv1@importacao.com").orElseThrow().getTipo())
+                .isEqualTo(TipoUsuario.ALUNO);
+    }
+
+    @Test
+    @DisplayName("Deve recusar CSV sem as colunas obrigatórias e JSON malformado")
+    void deveRecusarConteudoMalformado() {
+        assertThatThrownBy(() -> importar("nome,email\nA,b@c.com\n",
+                MediaType.parseMediaType(AlunoImportacaoService.TEXT_CSV_VALUE)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("Cabeçalho CSV deve conter as colunas");
+        assertThatThrownBy(() -> importar("[" + json("mal1", "10000000031") + ",{\"nome\":", MediaType.APPLICATION_JSON))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Conteúdo JSON inválido");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar email e CPF repetidos no conteúdo e já cadastrados")
+    void deveRejeitarDuplicados() {
+        // Given - maria.santos@email.com e o CPF 11888888888 estão nos dados de exemplo
+        String conteudo = "[" + String.join(",",
+                json("dup1", "10000000041"),
+                json("dup1", "10000000042"),
+                json("dup3", "10000000041"),
+                json("maria.santos", "10000000044").replace("maria.santos@importacao.com", "maria.santos@email.com"),
+                json("dup5", "11888888888")) + "]";
+
+        // When
+        ImportacaoAlunosDTO relatorio = importar(conteudo, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(relatorio.getImportados()).isEqualTo(1);
+        assertThat(relatorio.getResultados()).extracting(ResultadoImportacaoAlunoDTO::getMensagem).containsExactly(
+                null,
+                "Email repetido no conteúdo enviado: dup1@importacao.com",
+                "CPF repetido no conteúdo enviado: 10000000041",
+                "Já existe um aluno com este email: maria.santos@email.com",
+                "Já existe um aluno com este CPF: 11888888888");
+    }
+
+    @Test
+    @DisplayName("Deve gravar individualmente o lote que viola a unicidade ao ser gravado")
+    void deveGravarIndividualmenteAposConflito() {
+        // Given - cadastro concorrente do mesmo email entre a verificação e a gravação do lote
+        when(geradorNumeroMatricula.reservar(anyInt())).thenAnswer(invocacao -> {
+            AlunoDTO concorrente = aluno("conc2", "10000000059");
+            concorrente.setNumeroMatricula("TSTC" + MATRICULAS.incrementAndGet());
+            alunoRepository.saveAndFlush(alunoMapper.toEntityForCreation(concorrente));
+            return numeros(invocacao.getArgument(0));
+        });
+        String conteudo = "[" + json("conc1", "10000000051") + "," + json("conc2", "10000000052") + ","
+                + json("conc3", "10000000053") + "]";
+
+        // When
+        ImportacaoAlunosDTO relatorio = importar(conteudo, MediaType.APPLICATION_JSON);
+
+        // Then - o lote é desfeito e apenas o registro em conflito é rejeitado
+        assertThat(status(relatorio)).containsExactly(StatusImportacao.IMPORTADO, StatusImportacao.REJEITADO,
+                StatusImportacao.IMPORTADO);
+        assertThat(relatorio.getResultados().get(1).getMensagem())
+                .isEqualTo("Já existe um aluno com este email: conc2@importacao.com");
+        assertThat(alunoRepository.findByEmail("conc1@importacao.com")).isPresent();
+        assertThat(alunoRepository.findByEmail("conc2@importacao.com").orElseThrow().getCpf()).isEqualTo("10000000059");
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada lote com inserções em JDBC batch")
+    void deveGravarEmBatch() {
+        // Given - 10 registros em lotes de 4
+        String conteudo = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> json("batch" + i, String.valueOf(10000000100L + i)))
+                .reduce((a, b) -> a + "\n" + b)
+                .orElseThrow();
+
+        // When
+        ImportacaoAlunosDTO relatorio = importar(conteudo, MediaType.APPLICATION_NDJSON);
+
+        // Then - um comando de inserção por lote (4 + 4 + 2), não por aluno
+        assertThat(relatorio.getImportados()).isEqualTo(10);
+        assertThat(INSERCOES).hasValue(3);
+    }
+
+    private ImportacaoAlunosDTO importar(String conteudo, MediaType tipoConteudo) {
+        return alunoImportacaoService.importar(new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)),
+                tipoConteudo);
+    }
+
+    private static List<StatusImportacao> status(ImportacaoAlunosDTO relatorio) {
+        return relatorio.getResultados().stream().map(ResultadoImportacaoAlunoDTO::getStatus).toList();
+    }
+
+    private static List<String> numeros(int quantidade) {
+        return IntStream.range(0, quantidade).mapToObj(i -> "TST" + MATRICULAS.incrementAndGet()).toList();
+    }
+
+    private static String json(String usuario, String cpf) {
+        return """
+                {"nome":"Aluno %s","email":"%s@importacao.com","cpf":"%s","telefone":"11999990000","tipo":"ALUNO"}"""
+                .formatted(usuario, usuario, cpf);
+    }
+
+    private static AlunoDTO aluno(String usuario, String cpf) {
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setNome("Aluno " + usuario);
+        aluno.setEmail(usuario + "@importacao.com");
+        aluno.setCpf(cpf);
+        aluno.setTelefone("11999990000");
+        aluno.setTipo(TipoUsuario.ALUNO);
+        return aluno;
+    }
+}
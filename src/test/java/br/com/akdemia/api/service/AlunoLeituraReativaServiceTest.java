@@ -0,0 +1,157 @@
+package br.com.akdemia.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.akdemia.api.cache.AlunoCache;
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.MatriculaDTO;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.search.IndiceNomeAlunos;
+import reactor.core.publisher.Flux;
+
+// Mesmas URLs da configuração padrão: os dados gravados por JPA em jdbc:h2:mem:testdb são lidos
+// por R2DBC em r2dbc:h2:mem:///testdb. Os nomes criados aqui são exclusivos desta classe.
+@SpringBootTest(properties = "akdemia.busca.nome.maximo-resultados=2")
+@DisplayName("Testes do AlunoLeituraReativaService")
+class AlunoLeituraReativaServiceTest {
+
+    private static final Long PLANO_MENSAL = 1L;
+
+    @Autowired
+    private AlunoLeituraReativaService alunoLeituraReativaService;
+
+    @Autowired
+    private AlunoService alunoService;
+
+    @Autowired
+    private MatriculaService matriculaService;
+
+    @Autowired
+    private AlunoCache alunoCache;
+
+    @Autowired
+    private IndiceNomeAlunos indiceNomeAlunos;
+
+    // ========== BUSCA POR ID ==========
+
+    @Test
+    @DisplayName("Deve ler por R2DBC o aluno gravado por JPA com os IDs agregados das matrículas")
+    void deveBuscarDetalheComIdsDasMatriculas() {
+        // Given - uma matrícula cancelada e outra ativa
+        AlunoDTO aluno = alunoService.criar(aluno("Reativo Detalhe", "reativo.detalhe", "30000000001", TipoUsuario.ALUNO));
+        MatriculaDTO cancelada = matriculaService.criar(matricula(aluno.getId()));
+        matriculaService.cancelar(cancelada.getId());
+        MatriculaDTO ativa = matriculaService.criar(matricula(aluno.getId()));
+        alunoCache.invalidar(aluno.getId());
+
+        // When
+        AlunoDTO lido = alunoLeituraReativaService.buscarPorId(aluno.getId()).block();
+
+        // Then
+        assertThat(lido.getNome()).isEqualTo("Reativo Detalhe");
+        assertThat(lido.getEmail()).isEqualTo("reativo.detalhe@email.com");
+        assertThat(lido.getTipo()).isEqualTo(TipoUsuario.ALUNO);
+        assertThat(lido.getNumeroMatricula()).isEqualTo(aluno.getNumeroMatricula());
+        assertThat(lido.getAtivo()).isTrue();
+        assertThat(lido.getDataCadastro()).isNotNull();
+        assertThat(lido.getMatriculasIds()).containsExactly(cancelada.getId(), ativa.getId());
+        assertThat(lido.getTreinosIds()).isEmpty();
+        assertThat(lido.getAvaliacoesIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve lançar ResourceNotFoundException para aluno inexistente")
+    void deveRecusarAlunoInexistente() {
+        assertThatThrownBy(() -> alunoLeituraReativaService.buscarPorId(999999L).block())
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Aluno não encontrado com ID: 999999");
+    }
+
+    // ========== LISTAGEM ==========
+
+    @Test
+    @DisplayName("Deve listar apenas os alunos ativos em ordem de ID")
+    void deveListarAtivosEmOrdemDeId() {
+        // Given
+        AlunoDTO ativo = alunoService.criar(aluno("Reativo Lista Ativo", "reativo.lista1", "30000000011", TipoUsuario.ALUNO));
+        AlunoDTO inativo = alunoService.criar(aluno("Reativo Lista Inativo", "reativo.lista2", "30000000012", TipoUsuario.ALUNO));
+        alunoService.desativar(inativo.getId());
+
+        // When
+        List<Long> ids = alunoLeituraReativaService.listarTodos().map(AlunoDTO::getId).collectList().block();
+
+        // Then
+        assertThat(ids).contains(ativo.getId()).doesNotContain(inativo.getId()).isSorted();
+    }
+
+    // ========== BUSCA COM FILTROS ==========
+
+    @Test
+    @DisplayName("Deve filtrar pelos IDs do índice de nomes, por tipo e por página")
+    void deveBuscarPelosIdsDoIndice() {
+        // Given - dois alunos: dentro do máximo de resultados do índice
+        AlunoDTO aluno = alunoService.criar(aluno("Reativo Índice Um", "reativo.indice1", "30000000021", TipoUsuario.ALUNO));
+        AlunoDTO instrutor = alunoService.criar(aluno("Reativo Indice Dois", "reativo.indice2", "30000000022", TipoUsuario.INSTRUTOR));
+        assertThat(indiceNomeAlunos.buscar("reativo indice")).contains(List.of(aluno.getId(), instrutor.getId()));
+
+        // Then
+        assertThat(ids(alunoLeituraReativaService.buscarComFiltros("Reativo Indice", null, 0, 10)))
+                .containsExactly(aluno.getId(), instrutor.getId());
+        assertThat(ids(alunoLeituraReativaService.buscarComFiltros("Reativo Indice", TipoUsuario.INSTRUTOR, 0, 10)))
+                .containsExactly(instrutor.getId());
+        assertThat(ids(alunoLeituraReativaService.buscarComFiltros("Reativo Indice", null, 1, 1)))
+                .containsExactly(instrutor.getId());
+        assertThat(ids(alunoLeituraReativaService.buscarComFiltros("Reativo Indice Tres", null, 0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por LIKE no banco quando o índice excede o máximo de resultados")
+    void deveBuscarPorLikeAcimaDoMaximoDoIndice() {
+        // Given - três alunos: acima do máximo de resultados do índice
+        AlunoDTO primeiro = alunoService.criar(aluno("Reativo Varredura Um", "reativo.varredura1", "30000000031", TipoUsuario.ALUNO));
+        AlunoDTO segundo = alunoService.criar(aluno("Reativo Varredura Dois", "reativo.varredura2", "30000000032", TipoUsuario.ALUNO));
+        AlunoDTO terceiro = alunoService.criar(aluno("Reativo Varredura Três", "reativo.varredura3", "30000000033", TipoUsuario.INSTRUTOR));
+        assertThat(indiceNomeAlunos.buscar("reativo varredura")).isEmpty();
+
+        // Then
+        assertThat(ids(alunoLeituraReativaService.buscarComFiltros("Reativo Varredura", null, 0, 2)))
+                .containsExactly(primeiro.getId(), segundo.getId());
+        assertThat(ids(alunoLeituraReativaService.buscarComFiltros("Reativo Varredura", null, 1, 2)))
+                .containsExactly(terceiro.getId());
+        assertThat(ids(alunoLeituraReativaService.buscarComFiltros("Reativo Varredura", TipoUsuario.ALUNO, 0, 10)))
+                .containsExactly(primeiro.getId(), segundo.getId());
+    }
+
+    private static List<Long> ids(Flux<AlunoDTO> alunos) {
+        return alunos.map(AlunoDTO::getId).collectList().block();
+    }
+
+    private static AlunoDTO aluno(String nome, String usuario, String cpf, TipoUsuario tipo) {
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setNome(nome);
+        aluno.setEmail(usuario + "@email.com");
+        aluno.setCpf(cpf);
+        aluno.setTelefone("11999990000");
+        aluno.setTipo(tipo);
+        return aluno;
+    }
+
+    private static MatriculaDTO matricula(Long alunoId) {
+        MatriculaDTO matricula = new MatriculaDTO();
+        matricula.setAlunoId(alunoId);
+        matricula.setPlanoId(PLANO_MENSAL);
+        matricula.setDataInicio(LocalDate.now());
+        matricula.setDataFim(LocalDate.now().plusDays(30));
+        return matricula;
+    }
+}
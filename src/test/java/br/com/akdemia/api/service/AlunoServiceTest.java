@@ -0,0 +1,159 @@
+package br.com.akdemia.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import br.com.akdemia.api.cache.AlunoCache;
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.mapper.AlunoMapper;
+import br.com.akdemia.api.repository.AlunoRepository;
+import br.com.akdemia.api.search.IndiceNomeAlunos;
+import br.com.akdemia.api.search.IndiceSugestoesAlunos;
+import br.com.akdemia.api.stats.EstatisticasAlunos;
+import jakarta.persistence.EntityManager;
+
+@DisplayName("Testes do AlunoService")
+class AlunoServiceTest {
+
+    private static final Long ID = 10L;
+
+    private final AlunoRepository alunoRepository = mock(AlunoRepository.class);
+    private final AlunoMapper alunoMapper = mock(AlunoMapper.class);
+    private final GeradorNumeroMatricula geradorNumeroMatricula = mock(GeradorNumeroMatricula.class);
+
+    private final AlunoService alunoService = new AlunoService(alunoRepository, alunoMapper, geradorNumeroMatricula,
+            mock(EntityManager.class), mock(AlunoCache.class), mock(IndiceNomeAlunos.class),
+            mock(IndiceSugestoesAlunos.class), mock(EstatisticasAlunos.class), mock(ApplicationEventPublisher.class));
+
+    private Aluno aluno;
+
+    @BeforeEach
+    void setUp() {
+        aluno = new Aluno();
+        aluno.setId(ID);
+        aluno.setEmail("ana@email.com");
+        aluno.setCpf("10000000001");
+        aluno.setNumeroMatricula("AKD10");
+        aluno.setAtivo(true);
+        when(alunoRepository.findDetalheById(ID)).thenReturn(List.<Object[]>of(new Object[] {aluno, null, null, null}));
+    }
+
+    // ========== CONSULTA DE CONFLITOS ==========
+
+    @Test
+    @DisplayName("Deve recusar a criação com o email do aluno em conflito")
+    void deveRecusarCriacaoComEmailEmConflito() {
+        // Given
+        AlunoDTO novo = novo("bia@email.com", "10000000002");
+        when(geradorNumeroMatricula.proximo()).thenReturn("AKD11");
+        when(alunoRepository.findConflitosUnicidade("bia@email.com", "10000000002", "AKD11", null))
+                .thenReturn(List.<Object[]>of(new Object[] {"bia@email.com", "10000000099", "AKD5"}));
+
+        // Then
+        assertThatThrownBy(() -> alunoService.criar(novo))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Já existe um aluno ativo com este email: bia@email.com");
+    }
+
+    @Test
+    @DisplayName("Deve montar a mensagem de CPF pelo aluno em conflito na atualização parcial")
+    void deveRecusarAtualizacaoParcialComCpfEmConflito() {
+        // Given - apenas o CPF é informado
+        AlunoDTO alteracao = new AlunoDTO();
+        alteracao.setCpf("10000000002");
+        when(alunoRepository.findConflitosUnicidade(null, "10000000002", null, ID))
+                .thenReturn(List.<Object[]>of(new Object[] {"bia@email.com", "10000000002", "AKD5"}));
+
+        // Then
+        assertThatThrownBy(() -> alunoService.atualizar(ID, alteracao))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Já existe outro aluno ativo com este CPF: 10000000002");
+    }
+
+    @Test
+    @DisplayName("Deve montar a mensagem de matrícula pelo aluno em conflito")
+    void deveRecusarAtualizacaoComMatriculaEmConflito() {
+        // Given - email e CPF informados sem conflito; a linha veio da consulta por matrícula
+        AlunoDTO alteracao = novo("ana.nova@email.com", "10000000003");
+        alteracao.setNumeroMatricula("AKD5");
+        when(alunoRepository.findConflitosUnicidade("ana.nova@email.com", "10000000003", "AKD5", ID))
+                .thenReturn(List.<Object[]>of(new Object[] {"bia@email.com", "10000000002", "AKD5"}));
+
+        // Then
+        assertThatThrownBy(() -> alunoService.atualizar(ID, alteracao))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Já existe outro aluno ativo com este número de matrícula: AKD5");
+    }
+
+    // ========== VIOLAÇÃO DOS ÍNDICES ÚNICOS ==========
+
+    @Test
+    @DisplayName("Deve converter a violação de unicidade em BusinessException com os dados da entidade")
+    void deveConverterViolacaoNaAtualizacaoParcial() {
+        // Given - atualização apenas do telefone; o email conflita com um cadastro concorrente (ou inativo)
+        AlunoDTO alteracao = new AlunoDTO();
+        alteracao.setTelefone("11999990000");
+        when(alunoRepository.saveAndFlush(aluno)).thenThrow(violacao(
+                "Unique index or primary key violation: \"PUBLIC.UK_ALUNOS_EMAIL_INDEX_8 ON PUBLIC.TB_ALUNOS(EMAIL)\""));
+
+        // Then
+        assertThatThrownBy(() -> alunoService.atualizar(ID, alteracao))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Já existe um aluno com este email: ana@email.com");
+    }
+
+    @Test
+    @DisplayName("Deve devolver sem alteração a violação de integridade que não é de unicidade")
+    void deveManterViolacaoQueNaoEDeUnicidade() {
+        // Given
+        AlunoDTO alteracao = new AlunoDTO();
+        alteracao.setTelefone("11999990000");
+        DataIntegrityViolationException violacao = violacao("NULL not allowed for column \"NOME\"");
+        when(alunoRepository.saveAndFlush(any(Aluno.class))).thenThrow(violacao);
+
+        // Then
+        assertThatThrownBy(() -> alunoService.atualizar(ID, alteracao)).isSameAs(violacao);
+    }
+
+    @Test
+    @DisplayName("Deve identificar o campo pelo nome de cada índice único")
+    void deveIdentificarCampoPeloIndiceUnico() {
+        assertThat(AlunoService.mensagemViolacaoUnicidade(
+                violacao("Unique index or primary key violation: \"PUBLIC.UK_ALUNOS_CPF_INDEX_8 ON PUBLIC.TB_ALUNOS(CPF)\""),
+                aluno)).isEqualTo("Já existe um aluno com este CPF: 10000000001");
+        assertThat(AlunoService.mensagemViolacaoUnicidade(
+                violacao("Unique index or primary key violation: \"PUBLIC.UK_ALUNOS_NUMERO_MATRICULA_INDEX_8 ON PUBLIC.TB_ALUNOS(NUMERO_MATRICULA)\""),
+                aluno)).isEqualTo("Já existe um aluno com este número de matrícula: AKD10");
+        assertThat(AlunoService.mensagemViolacaoUnicidade(violacao("Referential integrity constraint violation"), aluno))
+                .isNull();
+    }
+
+    private static DataIntegrityViolationException violacao(String mensagemBanco) {
+        return new DataIntegrityViolationException("could not execute statement", new SQLException(mensagemBanco));
+    }
+
+    private static AlunoDTO novo(String email, String cpf) {
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setNome("Bia Souza");
+        aluno.setEmail(email);
+        aluno.setCpf(cpf);
+        aluno.setTelefone("11999990000");
+        aluno.setTipo(TipoUsuario.ALUNO);
+        return aluno;
+    }
+}
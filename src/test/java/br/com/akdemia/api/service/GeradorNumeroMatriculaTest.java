@@ -0,0 +1,90 @@
+package br.com.akdemia.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("Testes do GeradorNumeroMatricula")
+class GeradorNumeroMatriculaTest {
+
+    private static final String SQL = "SELECT NEXT VALUE FOR seq_numero_matricula";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final GeradorNumeroMatricula gerador = new GeradorNumeroMatricula(jdbcTemplate,
+            mock(PlatformTransactionManager.class), SQL, 3);
+
+    @Test
+    @DisplayName("Deve consultar a sequência apenas quando o bloco se esgota")
+    void deveReservarNovoBlocoAoEsgotar() {
+        // Given - sequência com INCREMENT BY 3
+        when(jdbcTemplate.queryForObject(SQL, Long.class)).thenReturn(1L, 4L, 7L);
+
+        // When
+        List<String> numeros = List.of(gerador.proximo(), gerador.proximo(), gerador.proximo(),
+                gerador.proximo(), gerador.proximo(), gerador.proximo(), gerador.proximo());
+
+        // Then
+        assertThat(numeros).containsExactly("AKD001", "AKD002", "AKD003", "AKD004", "AKD005", "AKD006", "AKD007");
+        verify(jdbcTemplate, times(3)).queryForObject(SQL, Long.class);
+    }
+
+    @Test
+    @DisplayName("Deve reservar vários números atravessando blocos, inclusive não contíguos")
+    void deveReservarAtravessandoBlocos() {
+        // Given - o bloco 4..6 foi reservado por outra instância
+        when(jdbcTemplate.queryForObject(SQL, Long.class)).thenReturn(1L, 7L, 10L);
+
+        // When
+        List<String> primeiros = gerador.reservar(5);
+        List<String> seguintes = gerador.reservar(2);
+
+        // Then
+        assertThat(primeiros).containsExactly("AKD001", "AKD002", "AKD003", "AKD007", "AKD008");
+        assertThat(seguintes).containsExactly("AKD009", "AKD010");
+        verify(jdbcTemplate, times(3)).queryForObject(SQL, Long.class);
+    }
+
+    @Test
+    @DisplayName("Deve gerar números únicos com acesso concorrente")
+    void deveGerarNumerosUnicosConcorrentes() throws Exception {
+        // Given - sequência simulada
+        AtomicLong sequencia = new AtomicLong(1);
+        when(jdbcTemplate.queryForObject(SQL, Long.class)).thenAnswer(invocacao -> sequencia.getAndAdd(3));
+        Set<Long> numeros = ConcurrentHashMap.newKeySet();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        numeros.add(gerador.proximoNumero());
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        }
+
+        // Then - sem repetições nem lacunas (os blocos são consumidos por inteiro)
+        assertThat(numeros).hasSize(4_000);
+        assertThat(numeros.stream().mapToLong(Long::longValue).max().orElseThrow()).isLessThanOrEqualTo(4_002);
+    }
+}
@@ -0,0 +1,233 @@
+package br.com.akdemia.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import br.com.akdemia.api.dto.MatriculaDTO;
+import br.com.akdemia.api.entity.Aluno;
+import br.com.akdemia.api.entity.Matricula;
+import br.com.akdemia.api.entity.Plano;
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+import br.com.akdemia.api.exception.BusinessException;
+import br.com.akdemia.api.exception.ResourceNotFoundException;
+import br.com.akdemia.api.mapper.MatriculaMapper;
+import br.com.akdemia.api.repository.AlunoRepository;
+import br.com.akdemia.api.repository.MatriculaRepository;
+import br.com.akdemia.api.repository.PlanoRepository;
+
+@DisplayName("Testes do MatriculaService")
+class MatriculaServiceTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+
+    private final MatriculaRepository matriculaRepository = mock(MatriculaRepository.class);
+    private final AlunoRepository alunoRepository = mock(AlunoRepository.class);
+    private final PlanoRepository planoRepository = mock(PlanoRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final MatriculaService matriculaService = new MatriculaService(matriculaRepository, alunoRepository,
+            planoRepository, new MatriculaMapper(), eventPublisher);
+
+    private Aluno aluno;
+    private Plano plano;
+
+    @BeforeEach
+    void setUp() {
+        aluno = new Aluno();
+        aluno.setId(1L);
+        aluno.setNome("Ana Silva");
+        aluno.setAtivo(true);
+        plano = new Plano();
+        plano.setId(2L);
+        plano.setNome("Mensal");
+        plano.setAtivo(true);
+        when(alunoRepository.findParaAtualizacaoById(1L)).thenReturn(Optional.of(aluno));
+        when(planoRepository.findById(2L)).thenReturn(Optional.of(plano));
+        when(matriculaRepository.saveAndFlush(any(Matricula.class))).thenAnswer(invocacao -> {
+            Matricula matricula = invocacao.getArgument(0);
+            if (matricula.getId() == null) {
+                matricula.setId(30L);
+            }
+            return matricula;
+        });
+    }
+
+    // ========== CRIAÇÃO ==========
+
+    @Test
+    @DisplayName("Deve criar a matrícula ativa com o aluno bloqueado antes da verificação de matrícula em vigor")
+    void deveCriarMatricula() {
+        // When
+        MatriculaDTO criada = matriculaService.criar(novaMatricula(HOJE, HOJE.plusDays(30)));
+
+        // Then
+        assertThat(criada.getId()).isEqualTo(30L);
+        assertThat(criada.getStatus()).isEqualTo(StatusMatricula.ATIVA);
+        assertThat(criada.getNomeAluno()).isEqualTo("Ana Silva");
+        assertThat(criada.getNomePlano()).isEqualTo("Mensal");
+
+        InOrder ordem = inOrder(alunoRepository, matriculaRepository);
+        ordem.verify(alunoRepository).findParaAtualizacaoById(1L);
+        ordem.verify(matriculaRepository).existsByAlunoIdAndStatusIn(eq(1L), anyCollection());
+        ordem.verify(matriculaRepository).saveAndFlush(any(Matricula.class));
+        verify(alunoRepository).updateDataAtualizacao(eq(1L), any(LocalDateTime.class));
+
+        ArgumentCaptor<MatriculaAlteradaEvent> evento = ArgumentCaptor.forClass(MatriculaAlteradaEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertThat(evento.getValue().statusAnterior()).isNull();
+        assertThat(evento.getValue().status()).isEqualTo(StatusMatricula.ATIVA);
+        assertThat(evento.getValue().dataFim()).isEqualTo(HOJE.plusDays(30));
+    }
+
+    @Test
+    @DisplayName("Deve recusar período com data de fim ou vencimento anterior à data de início")
+    void deveRecusarPeriodoInvalido() {
+        // Given
+        MatriculaDTO vencimentoInvalido = novaMatricula(HOJE, HOJE.plusDays(30));
+        vencimentoInvalido.setDataVencimento(HOJE.minusDays(1));
+
+        // Then
+        assertThatThrownBy(() -> matriculaService.criar(novaMatricula(HOJE, HOJE.minusDays(1))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Data de fim não pode ser anterior à data de início");
+        assertThatThrownBy(() -> matriculaService.criar(vencimentoInvalido))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Data de vencimento não pode ser anterior à data de início");
+        verifyNoInteractions(alunoRepository, matriculaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar aluno inativo e plano inexistente")
+    void deveRecusarAlunoOuPlanoIndisponivel() {
+        // Given
+        aluno.setAtivo(false);
+        MatriculaDTO semPlano = novaMatricula(HOJE, HOJE.plusDays(30));
+        semPlano.setPlanoId(99L);
+
+        // Then
+        assertThatThrownBy(() -> matriculaService.criar(novaMatricula(HOJE, HOJE.plusDays(30))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Aluno ativo não encontrado com ID: 1");
+
+        aluno.setAtivo(true);
+        assertThatThrownBy(() -> matriculaService.criar(semPlano))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Plano ativo não encontrado com ID: 99");
+        verify(matriculaRepository, never()).saveAndFlush(any(Matricula.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar aluno que já possui matrícula em vigor")
+    void deveRecusarMatriculaEmVigor() {
+        // Given
+        when(matriculaRepository.existsByAlunoIdAndStatusIn(eq(1L), anyCollection())).thenReturn(true);
+
+        // Then
+        assertThatThrownBy(() -> matriculaService.criar(novaMatricula(HOJE, HOJE.plusDays(30))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Aluno já possui matrícula ativa ou suspensa");
+        verify(matriculaRepository, never()).saveAndFlush(any(Matricula.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    // ========== ALTERAÇÕES DE STATUS ==========
+
+    @Test
+    @DisplayName("Deve suspender, reativar e cancelar publicando a situação anterior")
+    void deveAlterarStatus() {
+        // Given
+        Matricula matricula = matricula(StatusMatricula.ATIVA, HOJE.plusDays(10));
+
+        // Then
+        assertThat(matriculaService.suspender(30L).getStatus()).isEqualTo(StatusMatricula.SUSPENSA);
+        assertThat(matriculaService.reativar(30L).getStatus()).isEqualTo(StatusMatricula.ATIVA);
+        assertThat(matriculaService.cancelar(30L).getStatus()).isEqualTo(StatusMatricula.CANCELADA);
+        assertThat(matricula.getStatus()).isEqualTo(StatusMatricula.CANCELADA);
+
+        ArgumentCaptor<MatriculaAlteradaEvent> eventos = ArgumentCaptor.forClass(MatriculaAlteradaEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(eventos.capture());
+        assertThat(eventos.getAllValues()).extracting(MatriculaAlteradaEvent::statusAnterior)
+                .containsExactly(StatusMatricula.ATIVA, StatusMatricula.SUSPENSA, StatusMatricula.ATIVA);
+    }
+
+    @Test
+    @DisplayName("Deve recusar transições não permitidas")
+    void deveRecusarTransicaoNaoPermitida() {
+        // Given
+        matricula(StatusMatricula.CANCELADA, HOJE.plusDays(10));
+
+        // Then
+        assertThatThrownBy(() -> matriculaService.suspender(30L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Matrícula cancelada não pode passar para suspensa");
+        assertThatThrownBy(() -> matriculaService.cancelar(30L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Matrícula cancelada não pode passar para cancelada");
+        verify(matriculaRepository, never()).saveAndFlush(any(Matricula.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a reativação de matrícula com data de fim já passada")
+    void deveRecusarReativacaoAposDataFim() {
+        // Given
+        matricula(StatusMatricula.SUSPENSA, HOJE.minusDays(1));
+
+        // Then
+        assertThatThrownBy(() -> matriculaService.reativar(30L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Matrícula com data de fim já passada não pode ser reativada");
+    }
+
+    @Test
+    @DisplayName("Deve lançar ResourceNotFoundException para matrícula inexistente")
+    void deveRecusarMatriculaInexistente() {
+        assertThatThrownBy(() -> matriculaService.suspender(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Matrícula não encontrada com ID: 99");
+        assertThatThrownBy(() -> matriculaService.buscarPorId(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Matricula matricula(StatusMatricula status, LocalDate dataFim) {
+        Matricula matricula = new Matricula();
+        matricula.setId(30L);
+        matricula.setAluno(aluno);
+        matricula.setPlano(plano);
+        matricula.setDataInicio(HOJE.minusDays(20));
+        matricula.setDataFim(dataFim);
+        matricula.setStatus(status);
+        when(matriculaRepository.findById(30L)).thenReturn(Optional.of(matricula));
+        return matricula;
+    }
+
+    private static MatriculaDTO novaMatricula(LocalDate dataInicio, LocalDate dataFim) {
+        MatriculaDTO matricula = new MatriculaDTO();
+        matricula.setAlunoId(1L);
+        matricula.setPlanoId(2L);
+        matricula.setDataInicio(dataInicio);
+        matricula.setDataFim(dataFim);
+        return matricula;
+    }
+}
@@ -0,0 +1,210 @@
+package br.com.akdemia.api.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import br.com.akdemia.api.dto.AlunoDTO;
+import br.com.akdemia.api.dto.EstatisticasAlunosDTO;
+import br.com.akdemia.api.enums.OperacaoAluno;
+import br.com.akdemia.api.enums.TipoUsuario;
+import br.com.akdemia.api.event.AlunoAlteradoEvent;
+import br.com.akdemia.api.repository.AlunoRepository;
+
+@DisplayName("Testes do EstatisticasAlunos")
+class EstatisticasAlunosTest {
+
+    private final AlunoRepository alunoRepository = mock(AlunoRepository.class);
+    private final EstatisticasAlunos estatisticasAlunos = new EstatisticasAlunos(alunoRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(alunoRepository.countAlunosPorTipoEStatus()).thenReturn(List.<Object[]>of(
+                new Object[] {TipoUsuario.ALUNO, true, 10L},
+                new Object[] {TipoUsuario.ALUNO, false, 3L},
+                new Object[] {TipoUsuario.INSTRUTOR, true, 2L}));
+        estatisticasAlunos.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve carregar os contadores do banco")
+    void deveCarregarContadores() {
+        // Then
+        EstatisticasAlunosDTO estatisticas = estatisticasAlunos.consolidar();
+        assertThat(estatisticasAlunos.isPronto()).isTrue();
+        assertThat(estatisticas.getTotal()).isEqualTo(15);
+        assertThat(estatisticas.getAtivos()).isEqualTo(12);
+        assertThat(estatisticas.getInativos()).isEqualTo(3);
+        assertThat(estatisticas.getAtivosPorTipo()).containsEntry(TipoUsuario.ALUNO, 10L)
+                .containsEntry(TipoUsuario.INSTRUTOR, 2L)
+                .containsEntry(TipoUsuario.ADMINISTRADOR, 0L);
+        assertThat(estatisticas.getUltimaReconciliacao()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve somar a criação na situação nova")
+    void deveAplicarCriacao() {
+        // When
+        estatisticasAlunos.aoAlterarAluno(AlunoAlteradoEvent.criado(aluno(TipoUsuario.ADMINISTRADOR, true)));
+
+        // Then
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ADMINISTRADOR)).isEqualTo(1);
+        assertThat(estatisticasAlunos.contarTodos()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Deve mover o aluno desativado de ativo para inativo")
+    void deveAplicarDesativacao() {
+        // When
+        estatisticasAlunos.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.DESATIVADO,
+                aluno(TipoUsuario.ALUNO, false), TipoUsuario.ALUNO, true));
+
+        // Then
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ALUNO)).isEqualTo(9);
+        assertThat(estatisticasAlunos.contarInativos()).isEqualTo(4);
+        assertThat(estatisticasAlunos.contarTodos()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Deve mover o aluno reativado de inativo para ativo")
+    void deveAplicarReativacao() {
+        // When
+        estatisticasAlunos.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.REATIVADO,
+                aluno(TipoUsuario.ALUNO, true), TipoUsuario.ALUNO, false));
+
+        // Then
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ALUNO)).isEqualTo(11);
+        assertThat(estatisticasAlunos.contarInativos()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve mover o aluno entre tipos na atualização")
+    void deveAplicarMudancaDeTipo() {
+        // When
+        estatisticasAlunos.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.ATUALIZADO,
+                aluno(TipoUsuario.INSTRUTOR, true), TipoUsuario.ALUNO, true));
+
+        // Then
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ALUNO)).isEqualTo(9);
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.INSTRUTOR)).isEqualTo(3);
+        assertThat(estatisticasAlunos.contarAtivos()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Deve mover o aluno de tipo e de status na mesma atualização")
+    void deveAplicarMudancaDeTipoEStatus() {
+        // When
+        estatisticasAlunos.aoAlterarAluno(new AlunoAlteradoEvent(OperacaoAluno.ATUALIZADO,
+                aluno(TipoUsuario.INSTRUTOR, false), TipoUsuario.ALUNO, true));
+
+        // Then
+        EstatisticasAlunosDTO estatisticas = estatisticasAlunos.consolidar();
+        assertThat(estatisticas.getAtivosPorTipo()).containsEntry(TipoUsuario.ALUNO, 9L);
+        assertThat(estatisticas.getInativosPorTipo()).containsEntry(TipoUsuario.INSTRUTOR, 1L);
+        assertThat(estatisticas.getTotal()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Deve corrigir desvios na reconciliação")
+    void deveCorrigirDesviosNaReconciliacao() {
+        // Given - alterações feitas fora da aplicação
+        when(alunoRepository.countAlunosPorTipoEStatus()).thenReturn(List.<Object[]>of(
+                new Object[] {TipoUsuario.ALUNO, true, 8L},
+                new Object[] {TipoUsuario.ADMINISTRADOR, true, 1L}));
+
+        // When
+        estatisticasAlunos.reconciliar();
+
+        // Then - contagens ausentes do resultado são zeradas
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ALUNO)).isEqualTo(8);
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.INSTRUTOR)).isZero();
+        assertThat(estatisticasAlunos.contarInativos()).isZero();
+        assertThat(estatisticasAlunos.contarTodos()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Deve refazer a reconciliação quando um evento é aplicado durante a consulta")
+    void deveRefazerReconciliacaoComEventoDuranteConsulta() {
+        // Given - o aluno é confirmado e o seu evento aplicado durante a primeira consulta
+        AtomicBoolean confirmado = new AtomicBoolean();
+        when(alunoRepository.countAlunosPorTipoEStatus()).thenAnswer(invocacao -> {
+            if (confirmado.compareAndSet(false, true)) {
+                estatisticasAlunos.aoAlterarAluno(AlunoAlteradoEvent.criado(aluno(TipoUsuario.ALUNO, true)));
+                return List.<Object[]>of(new Object[] {TipoUsuario.ALUNO, true, 10L});
+            }
+            return List.<Object[]>of(new Object[] {TipoUsuario.ALUNO, true, 11L});
+        });
+
+        // When
+        estatisticasAlunos.reconciliar();
+
+        // Then - a primeira consulta é descartada e a segunda já contém o aluno
+        verify(alunoRepository, times(3)).countAlunosPorTipoEStatus();
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ALUNO)).isEqualTo(11);
+    }
+
+    @RepeatedTest(50)
+    @DisplayName("Não deve perder um evento que concorre com a aplicação da reconciliação")
+    void naoDevePerderEventoConcorrenteComAplicacao() throws InterruptedException {
+        // Given - o aluno é confirmado logo após a consulta; o evento concorre com a aplicação do resultado
+        AtomicBoolean confirmado = new AtomicBoolean();
+        Thread evento = Thread.ofPlatform().unstarted(() -> estatisticasAlunos.aoAlterarAluno(
+                AlunoAlteradoEvent.criado(aluno(TipoUsuario.ALUNO, true))));
+        when(alunoRepository.countAlunosPorTipoEStatus()).thenAnswer(invocacao -> {
+            List<Object[]> linhas = List.<Object[]>of(new Object[] {TipoUsuario.ALUNO, true, confirmado.get() ? 11L : 10L});
+            if (confirmado.compareAndSet(false, true)) {
+                evento.start();
+            }
+            return linhas;
+        });
+
+        // When
+        estatisticasAlunos.reconciliar();
+        evento.join();
+
+        // Then - aplicado antes da verificação, refaz a consulta; depois, soma ao resultado
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ALUNO)).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Deve concluir a reconciliação mesmo com eventos durante todas as tentativas")
+    void deveConcluirReconciliacaoSobEscritaContinua() {
+        // Given - cada consulta concorre com um novo aluno, até a tentativa que bloqueia os eventos
+        AtomicInteger consultas = new AtomicInteger();
+        when(alunoRepository.countAlunosPorTipoEStatus()).thenAnswer(invocacao -> {
+            int consulta = consultas.incrementAndGet();
+            if (consulta <= ControleReconciliacao.TENTATIVAS) {
+                estatisticasAlunos.aoAlterarAluno(AlunoAlteradoEvent.criado(aluno(TipoUsuario.ALUNO, true)));
+            }
+            long ativos = 10L + Math.min(consulta, ControleReconciliacao.TENTATIVAS);
+            return List.<Object[]>of(new Object[] {TipoUsuario.ALUNO, true, ativos});
+        });
+
+        // When
+        estatisticasAlunos.reconciliar();
+
+        // Then
+        assertThat(consultas).hasValue(ControleReconciliacao.TENTATIVAS + 1);
+        assertThat(estatisticasAlunos.contarAtivosPorTipo(TipoUsuario.ALUNO))
+                .isEqualTo(10 + ControleReconciliacao.TENTATIVAS);
+        assertThat(estatisticasAlunos.contarInativos()).isZero();
+    }
+
+    private static AlunoDTO aluno(TipoUsuario tipo, boolean ativo) {
+        AlunoDTO aluno = new AlunoDTO();
+        aluno.setTipo(tipo);
+        aluno.setAtivo(ativo);
+        return aluno;
+    }
+}
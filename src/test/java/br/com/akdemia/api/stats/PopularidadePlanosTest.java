@@ -0,0 +1,165 @@
+package br.com.akdemia.api.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import br.com.akdemia.api.enums.StatusMatricula;
+import br.com.akdemia.api.event.MatriculaAlteradaEvent;
+import br.com.akdemia.api.repository.MatriculaRepository;
+
+@DisplayName("Testes do PopularidadePlanos")
+class PopularidadePlanosTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 3, 10);
+
+    private final MatriculaRepository matriculaRepository = mock(MatriculaRepository.class);
+    private final PopularidadePlanos popularidadePlanos = new PopularidadePlanos(matriculaRepository, 30);
+
+    @BeforeEach
+    void setUp() {
+        when(matriculaRepository.countMatriculasPorPlano(StatusMatricula.CANCELADA))
+                .thenReturn(List.<Object[]>of(new Object[] {1L, 100L}, new Object[] {2L, 7L}));
+        when(matriculaRepository.countMatriculasPorPlanoEDia(eq(HOJE.minusDays(29)), any()))
+                .thenReturn(List.<Object[]>of(
+                        new Object[] {1L, HOJE, 2L},
+                        new Object[] {1L, HOJE.minusDays(6), 3L},
+                        new Object[] {2L, HOJE.minusDays(20), 4L}));
+        popularidadePlanos.reconciliar(HOJE);
+    }
+
+    @Test
+    @DisplayName("Deve contar o total e as janelas a partir da reconciliação")
+    void deveContarTotalEJanelas() {
+        assertThat(popularidadePlanos.contar(1L, null, HOJE)).isEqualTo(100);
+        assertThat(popularidadePlanos.contar(1L, 1, HOJE)).isEqualTo(2);
+        assertThat(popularidadePlanos.contar(1L, 7, HOJE)).isEqualTo(5);
+        assertThat(popularidadePlanos.contar(2L, 7, HOJE)).isZero();
+        assertThat(popularidadePlanos.contar(2L, 30, HOJE)).isEqualTo(4);
+        assertThat(popularidadePlanos.contar(3L, null, HOJE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve somar criações e descontar cancelamentos no dia da matrícula")
+    void deveAplicarTransicoes() {
+        // When
+        popularidadePlanos.aoAlterarMatricula(MatriculaAlteradaEvent.criada(10L, 1L, 2L, HOJE, HOJE.plusDays(30), null,
+                StatusMatricula.ATIVA));
+        popularidadePlanos.aoAlterarMatricula(new MatriculaAlteradaEvent(11L, 1L, 2L, HOJE.minusDays(20), HOJE.plusDays(30), null,
+                StatusMatricula.ATIVA, StatusMatricula.CANCELADA));
+        popularidadePlanos.aoAlterarMatricula(new MatriculaAlteradaEvent(12L, 1L, 2L, HOJE.minusDays(20), HOJE.plusDays(30), null,
+                StatusMatricula.ATIVA, StatusMatricula.VENCIDA));
+
+        // Then
+        assertThat(popularidadePlanos.contar(2L, null, HOJE)).isEqualTo(7);
+        assertThat(popularidadePlanos.contar(2L, 1, HOJE)).isEqualTo(1);
+        assertThat(popularidadePlanos.contar(2L, 30, HOJE)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o balde do dia mais antigo quando a janela avança")
+    void deveAvancarJanela() {
+        // Given - 30 dias depois, o balde de HOJE é reaproveitado
+        LocalDate depois = HOJE.plusDays(30);
+
+        // When
+        popularidadePlanos.aoAlterarMatricula(MatriculaAlteradaEvent.criada(10L, 1L, 1L, depois, depois.plusDays(30), null,
+                StatusMatricula.ATIVA));
+        popularidadePlanos.aoAlterarMatricula(new MatriculaAlteradaEvent(11L, 1L, 1L, HOJE, HOJE.plusDays(30), null,
+                StatusMatricula.ATIVA, StatusMatricula.CANCELADA));
+
+        // Then - o cancelamento de um dia fora da janela altera apenas o total
+        assertThat(popularidadePlanos.contar(1L, 30, depois)).isEqualTo(1);
+        assertThat(popularidadePlanos.contar(1L, null, depois)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Deve refazer a reconciliação quando um evento é aplicado durante as consultas")
+    void deveRefazerReconciliacaoComEventoDuranteConsultas() {
+        // Given - a matrícula é confirmada e o seu evento aplicado entre as duas consultas
+        AtomicBoolean confirmada = new AtomicBoolean();
+        when(matriculaRepository.countMatriculasPorPlano(StatusMatricula.CANCELADA))
+                .thenAnswer(invocacao -> List.<Object[]>of(new Object[] {1L, confirmada.get() ? 101L : 100L}));
+        when(matriculaRepository.countMatriculasPorPlanoEDia(eq(HOJE.minusDays(29)), any())).thenAnswer(invocacao -> {
+            if (confirmada.compareAndSet(false, true)) {
+                popularidadePlanos.aoAlterarMatricula(criada(20L));
+            }
+            return List.<Object[]>of(new Object[] {1L, HOJE, confirmada.get() ? 3L : 2L});
+        });
+
+        // When
+        popularidadePlanos.reconciliar(HOJE);
+
+        // Then - a primeira consulta é descartada e a segunda já contém a matrícula
+        verify(matriculaRepository, times(3)).countMatriculasPorPlano(StatusMatricula.CANCELADA);
+        assertThat(popularidadePlanos.contar(1L, null, HOJE)).isEqualTo(101);
+        assertThat(popularidadePlanos.contar(1L, 1, HOJE)).isEqualTo(3);
+    }
+
+    @RepeatedTest(50)
+    @DisplayName("Não deve perder um evento que concorre com a aplicação da reconciliação")
+    void naoDevePerderEventoConcorrenteComAplicacao() throws InterruptedException {
+        // Given - a matrícula é confirmada logo após as consultas; o evento concorre com a aplicação do resultado
+        AtomicBoolean confirmada = new AtomicBoolean();
+        Thread evento = Thread.ofPlatform().unstarted(() -> popularidadePlanos.aoAlterarMatricula(criada(20L)));
+        when(matriculaRepository.countMatriculasPorPlano(StatusMatricula.CANCELADA))
+                .thenAnswer(invocacao -> List.<Object[]>of(new Object[] {1L, confirmada.get() ? 101L : 100L}));
+        when(matriculaRepository.countMatriculasPorPlanoEDia(eq(HOJE.minusDays(29)), any())).thenAnswer(invocacao -> {
+            List<Object[]> linhas = List.<Object[]>of(new Object[] {1L, HOJE, confirmada.get() ? 3L : 2L});
+            if (confirmada.compareAndSet(false, true)) {
+                evento.start();
+            }
+            return linhas;
+        });
+
+        // When
+        popularidadePlanos.reconciliar(HOJE);
+        evento.join();
+
+        // Then - aplicado antes da verificação, refaz a consulta; depois, soma ao resultado
+        assertThat(popularidadePlanos.contar(1L, null, HOJE)).isEqualTo(101);
+        assertThat(popularidadePlanos.contar(1L, 1, HOJE)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve concluir a reconciliação mesmo com eventos durante todas as tentativas")
+    void deveConcluirReconciliacaoSobEscritaContinua() {
+        // Given - cada consulta concorre com uma nova matrícula, até a tentativa que bloqueia os eventos
+        AtomicInteger consultas = new AtomicInteger();
+        when(matriculaRepository.countMatriculasPorPlano(StatusMatricula.CANCELADA)).thenAnswer(invocacao -> {
+            int consulta = consultas.incrementAndGet();
+            if (consulta <= ControleReconciliacao.TENTATIVAS) {
+                popularidadePlanos.aoAlterarMatricula(criada(20L + consulta));
+            }
+            return List.<Object[]>of(new Object[] {1L, 100L + Math.min(consulta, ControleReconciliacao.TENTATIVAS)});
+        });
+        when(matriculaRepository.countMatriculasPorPlanoEDia(eq(HOJE.minusDays(29)), any()))
+                .thenReturn(List.<Object[]>of());
+
+        // When
+        popularidadePlanos.reconciliar(HOJE);
+
+        // Then
+        assertThat(consultas).hasValue(ControleReconciliacao.TENTATIVAS + 1);
+        assertThat(popularidadePlanos.contar(1L, null, HOJE)).isEqualTo(100 + ControleReconciliacao.TENTATIVAS);
+        assertThat(popularidadePlanos.getUltimaReconciliacao()).isNotNull();
+    }
+
+    private static MatriculaAlteradaEvent criada(Long matriculaId) {
+        return MatriculaAlteradaEvent.criada(matriculaId, 1L, 1L, HOJE, HOJE.plusDays(30), null, StatusMatricula.ATIVA);
+    }
+}